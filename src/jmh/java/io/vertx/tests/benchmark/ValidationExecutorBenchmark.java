@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+
+package io.vertx.tests.benchmark;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.openapi.contract.OpenAPIContract;
+import io.vertx.openapi.validation.ResponseValidator;
+import io.vertx.openapi.validation.ValidatableResponse;
+import io.vertx.openapi.validation.ValidatedResponse;
+import io.vertx.openapi.validation.ValidatorOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the throughput and the latency percentiles of validations on the default worker pool with validations on
+ * virtual threads. Each of the 512 benchmark threads starts a validation of a response body with 100 pets and waits
+ * for its result, so that 512 validations are in flight at any time.
+ * <p>
+ * Run it with the <i>benchmarks</i> profile, see the README. Virtual threads require Java 21 or later, on older
+ * versions pass <i>-p virtualThreads=false</i>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(512)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+public class ValidationExecutorBenchmark {
+
+  // the maximum number of pets allowed by the contract
+  private static final int PETS_PER_BODY = 100;
+
+  @Param({"false", "true"})
+  public boolean virtualThreads;
+
+  private Vertx vertx;
+  private ResponseValidator validator;
+  private ValidatableResponse response;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    vertx = Vertx.vertx();
+    // the contract is resolved from the test resources on the classpath
+    JsonObject contractJson = vertx.fileSystem().readFileBlocking("v3.1/petstore.json").toJsonObject();
+    OpenAPIContract contract =
+      OpenAPIContract.from(vertx, contractJson).toCompletionStage().toCompletableFuture().get();
+    validator = ResponseValidator.create(vertx, contract, new ValidatorOptions().setVirtualThreads(virtualThreads));
+
+    JsonArray pets = new JsonArray();
+    for (int i = 0; i < PETS_PER_BODY; i++) {
+      pets.add(new JsonObject().put("id", i).put("name", "pet-" + i).put("tag", "benchmark"));
+    }
+    response = ValidatableResponse.create(200, Map.of("x-next", "next"), pets.toBuffer(), "application/json");
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    validator.close().toCompletionStage().toCompletableFuture().get();
+    vertx.close().toCompletionStage().toCompletableFuture().get();
+  }
+
+  @Benchmark
+  public ValidatedResponse validate() throws Exception {
+    return validator.validate(response, "listPets").toCompletionStage().toCompletableFuture().get();
+  }
+}
@@ -14,10 +14,15 @@ package examples;
 
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.openapi.contract.ContractRegistry;
+import io.vertx.openapi.contract.ContractRouteMatch;
 import io.vertx.openapi.contract.OpenAPIContract;
 import io.vertx.openapi.contract.Operation;
 import io.vertx.openapi.contract.Parameter;
 import io.vertx.openapi.contract.Path;
+import io.vertx.openapi.contract.RouteCacheOptions;
+import io.vertx.openapi.contract.RouteMatch;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -58,6 +63,43 @@ public class ContractExamples {
     }
   }
 
+  public void findRouteExample(HttpServerRequest request) {
+    OpenAPIContract contract = getContract();
+
+    RouteMatch route = contract.findRoute(request.path(), request.method());
+    if (route == null) {
+      request.response().setStatusCode(404).end();
+    } else if (!route.isMethodAllowed()) {
+      request.response().setStatusCode(405).putHeader("Allow", route.getAllowedMethods()).end();
+    } else {
+      String operationId = route.getOperation().getOperationId();
+      String petId = route.getPathParameter("petId");
+    }
+  }
+
+  public void routeCacheExample(Vertx vertx) {
+    String pathToContract = ".../.../myContract.json"; // json or yaml
+    Future<OpenAPIContract> contract = OpenAPIContract.builder(vertx)
+      .contract(pathToContract)
+      .routeCache(new RouteCacheOptions().setMaxSize(500))
+      .build();
+  }
+
+  public void contractRegistryExample(HttpServerRequest request, OpenAPIContract pets, OpenAPIContract users) {
+    ContractRegistry registry = ContractRegistry.create()
+      .add("pets", pets)
+      .add("users", users);
+
+    ContractRouteMatch route = registry.findRoute(request.path(), request.method());
+    if (route != null && route.isMethodAllowed()) {
+      OpenAPIContract contract = route.getContract();
+      String operationId = route.getOperation().getOperationId();
+    }
+
+    // contracts can be removed at runtime
+    registry.remove("users");
+  }
+
   private OpenAPIContract getContract() {
     return null;
   }
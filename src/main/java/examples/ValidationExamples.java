@@ -13,12 +13,25 @@
 package examples;
 
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.AsyncFile;
+import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.ReadStream;
 import io.vertx.openapi.contract.OpenAPIContract;
+import io.vertx.openapi.validation.RequestDispatcher;
 import io.vertx.openapi.validation.RequestValidator;
+import io.vertx.openapi.validation.ResponseSampler;
+import io.vertx.openapi.validation.ResponseSamplingOptions;
 import io.vertx.openapi.validation.ResponseValidator;
+import io.vertx.openapi.validation.UploadedFile;
 import io.vertx.openapi.validation.ValidatableRequest;
 import io.vertx.openapi.validation.ValidatableResponse;
+import io.vertx.openapi.validation.ValidatedRequest;
+import io.vertx.openapi.validation.ValidationCheck;
+import io.vertx.openapi.validation.ValidationPlan;
+import io.vertx.openapi.validation.ValidatorOptions;
+import io.vertx.openapi.validation.ValidatorStats;
 
 import static io.netty.handler.codec.http.HttpHeaderValues.APPLICATION_JSON;
 
@@ -49,6 +62,95 @@ public class ValidationExamples {
     }).listen(0);
   }
 
+  private void requestDispatcher(Vertx vertx) {
+    OpenAPIContract contract = getContract();
+    RequestDispatcher dispatcher = RequestDispatcher.create(vertx, contract)
+      .operation("showPetById", dispatchedRequest -> {
+        ValidatedRequest validatedRequest = dispatchedRequest.getValidatedRequest();
+        int petId = validatedRequest.getPathParameters().get("petId").getInteger();
+        dispatchedRequest.getRequest().response().end("Pet " + petId);
+      })
+      .operation("listPets", dispatchedRequest -> {
+        // do something
+      });
+
+    vertx.createHttpServer().requestHandler(dispatcher).listen(0);
+  }
+
+  private void inlineValidation(Vertx vertx) {
+    OpenAPIContract contract = getContract();
+    ValidatorOptions options = new ValidatorOptions()
+      .setInlineValidation(true)
+      .setInlineMaxBodySize(512)
+      .setInlineMaxSchemaCost(32);
+    RequestValidator validator = RequestValidator.create(vertx, contract, options);
+
+    // ..
+    ValidatorStats stats = validator.getStats();
+    System.out.println(stats.getInlineValidations() + " inline, " + stats.getWorkerValidations() + " on workers");
+  }
+
+  private void batchValidation(Vertx vertx) {
+    OpenAPIContract contract = getContract();
+    ValidatorOptions options = new ValidatorOptions()
+      .setBatchMaxSize(32)
+      .setBatchMaxDelay(1);
+    RequestValidator validator = RequestValidator.create(vertx, contract, options);
+
+    // ..
+    ValidatorStats stats = validator.getStats();
+    double averageBatchSize = (double) stats.getBatchedValidations() / stats.getBatches();
+    long averageAddedLatency = stats.getTotalBatchDelay() / stats.getBatchedValidations();
+    System.out.println("average batch size " + averageBatchSize + ", added latency " + averageAddedLatency + "ns");
+  }
+
+  private void bodyLimits(Vertx vertx) {
+    OpenAPIContract contract = getContract();
+    ValidatorOptions options = new ValidatorOptions()
+      .setMaxBodySize(1024 * 1024)
+      .setMaxBodyDepth(16)
+      .setMaxArrayLength(1000)
+      .setMaxStringLength(4096);
+    RequestValidator validator = RequestValidator.create(vertx, contract, options);
+  }
+
+  private void multipartSpill(Vertx vertx, HttpServerRequest request) {
+    OpenAPIContract contract = getContract();
+    ValidatorOptions options = new ValidatorOptions()
+      .setMultipartSpillThreshold(64 * 1024)
+      .setUploadsDirectory("/tmp/uploads");
+    RequestValidator validator = RequestValidator.create(vertx, contract, options);
+
+    validator.validate(request, "uploadFile").onSuccess(validatedRequest -> {
+      JsonObject form = validatedRequest.getBody().getJsonObject();
+      UploadedFile file = (UploadedFile) form.getValue("file");
+      System.out.println(file.getSize() + " bytes were written to " + file.getPath());
+    });
+  }
+
+  private void binaryBodyStream(Vertx vertx, HttpServerRequest request, AsyncFile file) {
+    OpenAPIContract contract = getContract();
+    RequestValidator validator = RequestValidator.create(vertx, contract);
+
+    validator.validateWithBodyStream(request, "uploadFile")
+      .compose(validatedRequest -> validatedRequest.getBodyStream().pipeTo(file))
+      .onSuccess(v -> request.response().setStatusCode(201).end())
+      .onFailure(t -> request.response().setStatusCode(400).end());
+  }
+
+  private void validationPlan(Vertx vertx) {
+    OpenAPIContract contract = getContract();
+    RequestValidator validator = RequestValidator.create(vertx, contract);
+
+    ValidationPlan plan = validator.getValidationPlan("yourOperationId");
+    for (ValidationCheck check : plan.getParameterChecks()) {
+      System.out.println(check.getLocation() + " parameter " + check.getName() + ", required: " + check.isRequired());
+    }
+    for (ValidationCheck check : plan.getBodyChecks()) {
+      System.out.println("body " + check.getName() + ", schema validation: " + check.isSchemaValidated());
+    }
+  }
+
   private ValidatableRequest getValidatableRequest() {
     return null;
   }
@@ -86,4 +188,40 @@ public class ValidationExamples {
         });
     });
   }
+
+  private void responseWriteStream(Vertx vertx, ReadStream<Buffer> pets) {
+    OpenAPIContract contract = getContract();
+    ResponseValidator validator = ResponseValidator.create(vertx, contract);
+
+    ValidatableResponse response = ValidatableResponse.create(200, null, null, APPLICATION_JSON.toString());
+
+    vertx.createHttpServer().requestHandler(httpServerRequest -> {
+      validator.validateWithWriteStream(response, httpServerRequest.response(), "listPets")
+        .compose(bodyStream -> pets.pipeTo(bodyStream))
+        .onFailure(t -> System.out.println("The response is invalid: " + t.getMessage()));
+    });
+  }
+
+  private void responseSampler(Vertx vertx) {
+    OpenAPIContract contract = getContract();
+    ResponseSamplingOptions options = new ResponseSamplingOptions()
+      // validate 1% of all responses, but 10% of the responses of listPets
+      .setSampleRate(0.01)
+      .addOperationSampleRate("listPets", 0.1)
+      // the validations may use 20 milliseconds of CPU time per second
+      .setValidationBudget(20);
+    ResponseSampler sampler = ResponseSampler.create(vertx, contract, options)
+      .violationHandler(violation -> System.out.println("Response of " + violation.getOperationId() + " with status "
+        + violation.getStatusCode() + " is invalid: " + violation.getFailure().getMessage()));
+
+    JsonObject cat = new JsonObject().put("name", "foo");
+    ValidatableResponse response = ValidatableResponse.create(200, cat.toBuffer(), APPLICATION_JSON.toString());
+
+    vertx.createHttpServer().requestHandler(httpServerRequest -> {
+      // the response is sent right away, and validated afterward if it is sampled
+      sampler.send(response, httpServerRequest.response(), "showPetById");
+    });
+
+    sampler.getViolations("showPetById", 200); // returns the number of invalid responses
+  }
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.contract;
+
+import io.vertx.codegen.annotations.Fluent;
+import io.vertx.codegen.annotations.Nullable;
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.openapi.contract.impl.ContractRegistryImpl;
+
+import java.util.Set;
+
+/**
+ * A registry of multiple {@link OpenAPIContract OpenAPIContracts}, which allows to find the owning contract and the
+ * {@link Operation} of a request with a single lookup.
+ * <p>
+ * The routes of all registered contracts are merged into one dispatch index, a trie of the literal prefixes of their
+ * absolute paths, i.e. the segments before the first templated segment. A lookup walks down the trie along the
+ * segments of the url path and only asks the contracts of the nodes it passed, those of the deepest node first, so
+ * that contracts sharing a prefix like "/api" are told apart by the following segments. Contracts whose paths have the
+ * same literal prefix, e.g. "/api/{tenant}/pets" and "/api/{tenant}/orders", are asked one after the other. Contracts
+ * can be added and removed at runtime, without rebuilding the route tables of the other contracts.
+ * <p>
+ * In case that multiple contracts match a request, contracts which define an operation for the method of the request
+ * win over contracts that only match the path. Otherwise, the contract with the longest matching literal prefix wins,
+ * and in doubt the contract that was added first wins.
+ */
+@VertxGen
+public interface ContractRegistry {
+
+  /**
+   * @return a new, empty {@link ContractRegistry}.
+   */
+  static ContractRegistry create() {
+    return new ContractRegistryImpl();
+  }
+
+  /**
+   * Adds the passed contract to the registry.
+   *
+   * @param name     The unique name of the contract.
+   * @param contract The contract to add.
+   * @return this registry.
+   * @throws IllegalArgumentException if a contract with the passed name is already registered.
+   */
+  @Fluent
+  ContractRegistry add(String name, OpenAPIContract contract);
+
+  /**
+   * Removes the contract with the passed name from the registry.
+   *
+   * @param name The name of the contract.
+   * @return the removed contract, or null if no contract with the passed name is registered.
+   */
+  @Nullable
+  OpenAPIContract remove(String name);
+
+  /**
+   * @param name The name of the contract.
+   * @return the contract with the passed name, or null if no contract with the passed name is registered.
+   */
+  @Nullable
+  OpenAPIContract getContract(String name);
+
+  /**
+   * @return the names of all registered contracts.
+   */
+  Set<String> getContractNames();
+
+  /**
+   * Finds the owning contract and the related {@link Operation} of the passed url path and method.
+   *
+   * @param urlPath The path of the request.
+   * @param method  The method of the request.
+   * @return the related {@link ContractRouteMatch}, or null if no contract matches the passed path. In case that a
+   * contract matches the path, but doesn't define an operation for the passed method, the operation of the returned
+   * {@link ContractRouteMatch} is null.
+   */
+  @Nullable
+  ContractRouteMatch findRoute(String urlPath, HttpMethod method);
+}
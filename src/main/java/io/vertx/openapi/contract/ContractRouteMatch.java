@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.contract;
+
+import io.vertx.codegen.annotations.VertxGen;
+
+/**
+ * A {@link RouteMatch} found by a {@link ContractRegistry}, which additionally holds the owning contract.
+ */
+@VertxGen
+public interface ContractRouteMatch extends RouteMatch {
+
+  /**
+   * @return the name of the owning contract.
+   */
+  String getContractName();
+
+  /**
+   * @return the owning contract.
+   */
+  OpenAPIContract getContract();
+}
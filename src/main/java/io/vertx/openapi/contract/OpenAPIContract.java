@@ -20,6 +20,8 @@ import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.json.JsonObject;
 import io.vertx.json.schema.SchemaRepository;
+import io.vertx.json.schema.Validator;
+import io.vertx.openapi.contract.impl.RouteMatchImpl;
 import io.vertx.openapi.mediatype.MediaTypeRegistry;
 
 import java.util.List;
@@ -135,13 +137,48 @@ public interface OpenAPIContract {
    */
   SchemaRepository getSchemaRepository();
 
+  /**
+   * Returns the validator for the schema of the passed parameter. The validator is created on first use and then
+   * reused, it is safe to use it from multiple threads.
+   * <p>
+   * The default implementation creates a new validator on every call.
+   *
+   * @param parameter The related parameter.
+   * @return the validator for the schema of the passed parameter.
+   */
+  default Validator getParameterValidator(Parameter parameter) {
+    return getSchemaRepository().validator(parameter.getSchema());
+  }
+
+  /**
+   * Returns the validator for the schema of the passed media type. The validator is created on first use and then
+   * reused, it is safe to use it from multiple threads.
+   * <p>
+   * The default implementation creates a new validator on every call.
+   *
+   * @param mediaType The related media type.
+   * @return the validator for the schema of the passed media type.
+   */
+  default Validator getMediaTypeValidator(MediaType mediaType) {
+    return getSchemaRepository().validator(mediaType.getSchema());
+  }
+
+  /**
+   * @return the statistics of the schema validators of this contract, or null if the validators are not reused.
+   */
+  @Nullable
+  default ValidatorCacheStats getValidatorCacheStats() {
+    return null;
+  }
+
   /**
    * @return the servers of the contract.
    */
   List<Server> getServers();
 
   /**
-   * Finds the related {@link Path} object based on the passed url path.
+   * Finds the related {@link Path} object based on the passed url path. Trailing slashes of the url path are ignored,
+   * so that e.g. <i>/pets/</i> matches the path <i>/pets</i>.
    *
    * @param urlPath The path of the request.
    * @return the found {@link Path} object, or null if the passed path doesn't match any {@link Path} object.
@@ -160,6 +197,36 @@ public interface OpenAPIContract {
   @Nullable
   Operation findOperation(String urlPath, HttpMethod method);
 
+  /**
+   * Like {@link #findOperation(String, HttpMethod)}, but the returned {@link RouteMatch} also provides the values of
+   * the path parameters, which were captured while matching the url path.
+   * <p>
+   * In case that the passed path matches a {@link Path} object, which doesn't define an {@link Operation} for the
+   * passed method, a {@link RouteMatch} without operation is returned. It provides the allowed methods of the path.
+   * <p>
+   * The default implementation is based on {@link #findOperation(String, HttpMethod)} and captures the path parameters
+   * afterwards. It returns null instead of a {@link RouteMatch} without operation.
+   *
+   * @param urlPath The path of the request.
+   * @param method  The method of the request.
+   * @return the found {@link RouteMatch}, or null if the passed path doesn't match any {@link Path} object.
+   */
+  @Nullable
+  default RouteMatch findRoute(String urlPath, HttpMethod method) {
+    Operation operation = findOperation(urlPath, method);
+    return operation == null ? null : RouteMatchImpl.of(operation, urlPath);
+  }
+
+  /**
+   * Returns the statistics of the route cache, see {@link OpenAPIContractBuilder#routeCache(RouteCacheOptions)}.
+   *
+   * @return the statistics of the route cache, or null if the route cache is disabled.
+   */
+  @Nullable
+  default RouteCacheStats getRouteCacheStats() {
+    return null;
+  }
+
   /**
    * Returns the applicable list of global security requirements (scopes) or empty list.
    *
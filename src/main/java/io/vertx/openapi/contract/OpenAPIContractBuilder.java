@@ -36,6 +36,7 @@ public class OpenAPIContractBuilder {
   private final Map<String, String> additionalContentFiles = new HashMap<>();
   private final Map<String, JsonObject> additionalContent = new HashMap<>();
   private MediaTypeRegistry registry;
+  private RouteCacheOptions routeCacheOptions;
 
   public OpenAPIContractBuilder(Vertx vertx) {
     this.vertx = vertx;
@@ -117,6 +118,17 @@ public class OpenAPIContractBuilder {
     return this;
   }
 
+  /**
+   * Enables a cache in front of the lookup of operations and paths by url path. By default, no cache is used.
+   *
+   * @param options The options of the cache, or null to disable the cache.
+   * @return The builder, for a fluent interface
+   */
+  public OpenAPIContractBuilder routeCache(RouteCacheOptions options) {
+    this.routeCacheOptions = options;
+    return this;
+  }
+
   private void checkDuplicateKeys(String key) {
     if (additionalContentFiles.containsKey(key) || additionalContent.containsKey(key)) {
       throw new OpenAPIContractBuilderException(String.format("The key '%s' has been added twice.", key));
@@ -189,7 +201,8 @@ public class OpenAPIContractBuilder {
               return failedFuture(createInvalidContract(null, e));
             }
           })
-          .map(resolvedSpec -> new OpenAPIContractImpl(resolvedSpec, version, repository, registry))
+          .map(resolvedSpec -> new OpenAPIContractImpl(resolvedSpec, version, repository, registry,
+            routeCacheOptions))
       ).recover(e -> {
         //Convert any non-openapi exceptions into an OpenAPIContractException
         if (e instanceof OpenAPIContractException) {
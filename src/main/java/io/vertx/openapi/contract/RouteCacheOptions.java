@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.contract;
+
+import io.vertx.codegen.annotations.GenIgnore;
+
+/**
+ * Options for the cache in front of {@link OpenAPIContract#findRoute(String, io.vertx.core.http.HttpMethod)},
+ * {@link OpenAPIContract#findOperation(String, io.vertx.core.http.HttpMethod)} and
+ * {@link OpenAPIContract#findPath(String)}. The cache maps the method and the raw url path of a request to the related
+ * {@link RouteMatch}, so that frequently requested urls don't need to be matched again.
+ * <p>
+ * The cache never holds more than {@link #getMaxSize()} entries, even if the url paths contain ids with a high
+ * cardinality. Url paths that don't match any {@link Path} are not cached.
+ */
+@GenIgnore
+public class RouteCacheOptions {
+
+  public static final int DEFAULT_MAX_SIZE = 1000;
+  public static final EvictionPolicy DEFAULT_EVICTION_POLICY = EvictionPolicy.LRU;
+
+  /**
+   * Defines which entry is removed from the cache when it is full.
+   */
+  public enum EvictionPolicy {
+    /**
+     * The least recently used entry is removed.
+     */
+    LRU,
+    /**
+     * The oldest entry is removed, regardless of how often it was used.
+     */
+    FIFO
+  }
+
+  private int maxSize = DEFAULT_MAX_SIZE;
+  private EvictionPolicy evictionPolicy = DEFAULT_EVICTION_POLICY;
+
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * Sets the maximum amount of entries in the cache.
+   *
+   * @param maxSize The maximum amount of entries, must be greater than 0.
+   * @return the options, for a fluent interface.
+   */
+  public RouteCacheOptions setMaxSize(int maxSize) {
+    if (maxSize < 1) {
+      throw new IllegalArgumentException("The maximum size of the route cache must be greater than 0");
+    }
+    this.maxSize = maxSize;
+    return this;
+  }
+
+  public EvictionPolicy getEvictionPolicy() {
+    return evictionPolicy;
+  }
+
+  /**
+   * Sets the policy that decides which entry is removed from the cache when it is full.
+   *
+   * @param evictionPolicy The eviction policy.
+   * @return the options, for a fluent interface.
+   */
+  public RouteCacheOptions setEvictionPolicy(EvictionPolicy evictionPolicy) {
+    this.evictionPolicy = evictionPolicy == null ? DEFAULT_EVICTION_POLICY : evictionPolicy;
+    return this;
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.contract;
+
+import io.vertx.codegen.annotations.VertxGen;
+
+/**
+ * Statistics of the route cache of an {@link OpenAPIContract}, see {@link RouteCacheOptions}.
+ */
+@VertxGen
+public interface RouteCacheStats {
+
+  /**
+   * @return the amount of lookups that were answered from the cache.
+   */
+  long getHits();
+
+  /**
+   * @return the amount of lookups that required to match the url path.
+   */
+  long getMisses();
+
+  /**
+   * @return the amount of entries that were removed, because the cache was full.
+   */
+  long getEvictions();
+
+  /**
+   * @return the current amount of entries in the cache.
+   */
+  int getSize();
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.contract;
+
+import io.vertx.codegen.annotations.Nullable;
+import io.vertx.codegen.annotations.VertxGen;
+
+import java.util.Map;
+
+/**
+ * The result of matching a request against the {@link Path Paths} of an {@link OpenAPIContract}. Beside the matched
+ * {@link Operation} it holds the position of each path parameter in the url path, so that the values of the path
+ * parameters can be accessed without parsing the url path again.
+ * <p>
+ * In case that the url path matches a {@link Path}, which doesn't define an {@link Operation} for the method of the
+ * request, {@link #getOperation()} returns null. This allows to distinguish between <i>404 Not Found</i> (no
+ * {@link RouteMatch} at all) and <i>405 Method Not Allowed</i> with a single lookup.
+ */
+@VertxGen
+public interface RouteMatch {
+
+  /**
+   * @return the matched {@link Path}.
+   */
+  Path getPath();
+
+  /**
+   * @return the matched {@link Operation}, or null if the matched {@link Path} doesn't define an operation for the
+   * method of the request.
+   */
+  @Nullable
+  Operation getOperation();
+
+  /**
+   * @return true if the matched {@link Path} defines an {@link Operation} for the method of the request.
+   */
+  boolean isMethodAllowed();
+
+  /**
+   * @return the methods which are defined for the matched {@link Path}, formatted as value for the <i>Allow</i>
+   * header, e.g. "GET, POST".
+   */
+  String getAllowedMethods();
+
+  /**
+   * @return the url path that was matched.
+   */
+  String getUrlPath();
+
+  /**
+   * Returns the raw (not decoded) value of the passed path parameter.
+   *
+   * @param name The name of the path parameter.
+   * @return the raw value of the path parameter, or null if the url path doesn't contain a value for it.
+   */
+  @Nullable
+  String getPathParameter(String name);
+
+  /**
+   * @return the raw (not decoded) values of all path parameters, keyed by their names.
+   */
+  Map<String, String> getPathParameters();
+
+  /**
+   * Returns the values of the server variables, which are part of the base path of the matched server. Values of
+   * server variables with an enum, or which span a whole path segment, are taken from the url path. All other server
+   * variables of the base path have their default value.
+   *
+   * @return the raw (not decoded) values of the server variables, keyed by their names.
+   */
+  Map<String, String> getServerVariables();
+}
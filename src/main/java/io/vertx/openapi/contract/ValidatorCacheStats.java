@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.contract;
+
+import io.vertx.codegen.annotations.VertxGen;
+
+/**
+ * Statistics of the schema validators of an {@link OpenAPIContract}, see
+ * {@link OpenAPIContract#getParameterValidator(Parameter)} and {@link OpenAPIContract#getMediaTypeValidator(MediaType)}.
+ */
+@VertxGen
+public interface ValidatorCacheStats {
+
+  /**
+   * @return the amount of schema validators that were created.
+   */
+  long getCreated();
+
+  /**
+   * @return the amount of requests for a schema validator that were answered with an already created validator.
+   */
+  long getReused();
+
+  /**
+   * @return the current amount of schema validators.
+   */
+  int getSize();
+}
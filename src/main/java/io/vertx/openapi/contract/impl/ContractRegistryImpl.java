@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.contract.impl;
+
+import io.vertx.core.http.HttpMethod;
+import io.vertx.openapi.contract.ContractRegistry;
+import io.vertx.openapi.contract.ContractRouteMatch;
+import io.vertx.openapi.contract.OpenAPIContract;
+import io.vertx.openapi.contract.Path;
+import io.vertx.openapi.contract.RouteMatch;
+import io.vertx.openapi.contract.Server;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Collections.unmodifiableSet;
+
+/**
+ * The dispatch index of the registry is an immutable snapshot of a trie, which is merged from the literal prefixes of
+ * the absolute paths of all contracts. An absolute path is a base path of a server followed by a path of the contract,
+ * and its literal prefix ends before its first templated segment. Each node of the trie holds the contracts whose
+ * literal prefixes end at this node. A lookup walks down the trie along the segments of the url path and only asks the
+ * contracts of the nodes it passed, those of the deepest node first. Therefore, contracts that share a prefix like
+ * "/api" are told apart by the following segments.
+ * <p>
+ * Contracts whose paths have the same literal prefix, e.g. "/api/{tenant}/pets" and "/api/{tenant}/orders", are still
+ * asked one after the other. In the worst case, if all contracts only define such paths, a lookup asks all of them.
+ * Adding or removing a contract only creates a new snapshot of the index, the {@link PathFinder} of each contract is
+ * reused.
+ */
+public class ContractRegistryImpl implements ContractRegistry {
+
+  private static final Entry[] NO_ENTRIES = new Entry[0];
+
+  private volatile Snapshot snapshot = new Snapshot(new LinkedHashMap<>());
+
+  @Override
+  public synchronized ContractRegistry add(String name, OpenAPIContract contract) {
+    if (snapshot.contracts.containsKey(name)) {
+      throw new IllegalArgumentException("A contract with name " + name + " is already registered");
+    }
+    Map<String, Entry> contracts = new LinkedHashMap<>(snapshot.contracts);
+    contracts.put(name, new Entry(name, contract, literalPrefixes(contract)));
+    snapshot = new Snapshot(contracts);
+    return this;
+  }
+
+  @Override
+  public synchronized OpenAPIContract remove(String name) {
+    if (!snapshot.contracts.containsKey(name)) {
+      return null;
+    }
+    Map<String, Entry> contracts = new LinkedHashMap<>(snapshot.contracts);
+    Entry removed = contracts.remove(name);
+    snapshot = new Snapshot(contracts);
+    return removed.contract;
+  }
+
+  @Override
+  public OpenAPIContract getContract(String name) {
+    Entry entry = snapshot.contracts.get(name);
+    return entry == null ? null : entry.contract;
+  }
+
+  @Override
+  public Set<String> getContractNames() {
+    return unmodifiableSet(new LinkedHashSet<>(snapshot.contracts.keySet()));
+  }
+
+  @Override
+  public ContractRouteMatch findRoute(String urlPath, HttpMethod method) {
+    int end = PathFinder.pathEnd(urlPath);
+    if (end == 0) {
+      return null;
+    }
+
+    // The nodes that hold contracts, from the root to the deepest node that matches the url path
+    List<Node> passed = new ArrayList<>();
+    Node node = snapshot.root;
+    int start = 1;
+    while (node != null) {
+      if (node.entries.length > 0) {
+        passed.add(node);
+      }
+      if (start >= end) {
+        break;
+      }
+      int segmentEnd = PathFinder.segmentEnd(urlPath, start, end);
+      node = node.children.get(urlPath.substring(start, segmentEnd));
+      start = segmentEnd + 1;
+    }
+
+    List<Entry> asked = new ArrayList<>();
+    ContractRouteMatch pathMatch = null;
+    for (int i = passed.size() - 1; i >= 0; i--) {
+      for (Entry entry : passed.get(i).entries) {
+        if (asked.contains(entry)) {
+          continue;
+        }
+        asked.add(entry);
+        RouteMatch route = entry.contract.findRoute(urlPath, method);
+        if (route != null) {
+          if (route.isMethodAllowed()) {
+            return new ContractRouteMatchImpl(entry.name, entry.contract, route);
+          } else if (pathMatch == null) {
+            pathMatch = new ContractRouteMatchImpl(entry.name, entry.contract, route);
+          }
+        }
+      }
+    }
+    return pathMatch;
+  }
+
+  /**
+   * @return the literal prefixes of all absolute paths of the passed contract, as lists of segments.
+   */
+  private static Set<List<String>> literalPrefixes(OpenAPIContract contract) {
+    List<String> basePaths = new ArrayList<>();
+    for (Server server : contract.getServers()) {
+      if (server instanceof ServerImpl) {
+        ((ServerImpl) server).getBasePaths().forEach(basePath -> basePaths.add(basePath.getPath()));
+      } else {
+        basePaths.add(server.getBasePath());
+      }
+    }
+    if (basePaths.isEmpty()) {
+      basePaths.add("");
+    }
+
+    Set<List<String>> prefixes = new LinkedHashSet<>();
+    for (String basePath : basePaths) {
+      List<String> basePrefix = new ArrayList<>();
+      if (!addLiteralSegments(basePath, basePrefix)) {
+        // The paths of the contract don't matter, because the base path is already templated
+        prefixes.add(basePrefix);
+        continue;
+      }
+      for (Path path : contract.getPaths()) {
+        List<String> prefix = new ArrayList<>(basePrefix);
+        addLiteralSegments(path.getName(), prefix);
+        prefixes.add(prefix);
+      }
+    }
+    return prefixes;
+  }
+
+  /**
+   * Adds the segments of the passed path to the prefix, until a templated segment is reached.
+   *
+   * @return true if the path doesn't contain a templated segment, otherwise false.
+   */
+  private static boolean addLiteralSegments(String path, List<String> prefix) {
+    int end = PathFinder.pathEnd(path);
+    int start = 1;
+    while (start < end) {
+      int segmentEnd = PathFinder.segmentEnd(path, start, end);
+      String segment = path.substring(start, segmentEnd);
+      if (segment.contains("{")) {
+        return false;
+      }
+      prefix.add(segment);
+      start = segmentEnd + 1;
+    }
+    return true;
+  }
+
+  private static final class Entry {
+    private final String name;
+    private final OpenAPIContract contract;
+    private final Set<List<String>> literalPrefixes;
+
+    private Entry(String name, OpenAPIContract contract, Set<List<String>> literalPrefixes) {
+      this.name = name;
+      this.contract = contract;
+      this.literalPrefixes = literalPrefixes;
+    }
+  }
+
+  private static final class Node {
+    private final Map<String, Node> children = new HashMap<>();
+    // the contracts whose literal prefixes end at this node, in the order they were added to the registry
+    private Entry[] entries = NO_ENTRIES;
+
+    private void add(Entry entry) {
+      for (Entry existing : entries) {
+        if (existing == entry) {
+          return;
+        }
+      }
+      entries = Arrays.copyOf(entries, entries.length + 1);
+      entries[entries.length - 1] = entry;
+    }
+  }
+
+  private static final class Snapshot {
+    private final Map<String, Entry> contracts;
+    // The nodes are not modified after the constructor, so the trie can be read without locking
+    private final Node root = new Node();
+
+    private Snapshot(Map<String, Entry> contracts) {
+      this.contracts = contracts;
+      for (Entry entry : contracts.values()) {
+        for (List<String> prefix : entry.literalPrefixes) {
+          Node node = root;
+          for (String segment : prefix) {
+            node = node.children.computeIfAbsent(segment, key -> new Node());
+          }
+          node.add(entry);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.contract.impl;
+
+import io.vertx.openapi.contract.ContractRouteMatch;
+import io.vertx.openapi.contract.OpenAPIContract;
+import io.vertx.openapi.contract.Operation;
+import io.vertx.openapi.contract.Path;
+import io.vertx.openapi.contract.RouteMatch;
+
+import java.util.Map;
+
+public class ContractRouteMatchImpl implements ContractRouteMatch {
+
+  private final String contractName;
+  private final OpenAPIContract contract;
+  private final RouteMatch route;
+
+  public ContractRouteMatchImpl(String contractName, OpenAPIContract contract, RouteMatch route) {
+    this.contractName = contractName;
+    this.contract = contract;
+    this.route = route;
+  }
+
+  @Override
+  public String getContractName() {
+    return contractName;
+  }
+
+  @Override
+  public OpenAPIContract getContract() {
+    return contract;
+  }
+
+  @Override
+  public Path getPath() {
+    return route.getPath();
+  }
+
+  @Override
+  public Operation getOperation() {
+    return route.getOperation();
+  }
+
+  @Override
+  public boolean isMethodAllowed() {
+    return route.isMethodAllowed();
+  }
+
+  @Override
+  public String getAllowedMethods() {
+    return route.getAllowedMethods();
+  }
+
+  @Override
+  public String getUrlPath() {
+    return route.getUrlPath();
+  }
+
+  @Override
+  public String getPathParameter(String name) {
+    return route.getPathParameter(name);
+  }
+
+  @Override
+  public Map<String, String> getPathParameters() {
+    return route.getPathParameters();
+  }
+
+  @Override
+  public Map<String, String> getServerVariables() {
+    return route.getServerVariables();
+  }
+}
@@ -17,6 +17,7 @@ import io.vertx.core.http.HttpMethod;
 import io.vertx.core.json.JsonObject;
 import io.vertx.json.schema.JsonSchema;
 import io.vertx.json.schema.SchemaRepository;
+import io.vertx.json.schema.Validator;
 import io.vertx.openapi.contract.*;
 import io.vertx.openapi.mediatype.MediaTypeRegistry;
 
@@ -26,7 +27,6 @@ import java.util.Map;
 import java.util.function.UnaryOperator;
 
 import static io.vertx.openapi.contract.OpenAPIContractException.createInvalidContract;
-import static io.vertx.openapi.contract.OpenAPIContractException.createUnsupportedFeature;
 import static io.vertx.openapi.impl.Utils.EMPTY_JSON_ARRAY;
 import static io.vertx.openapi.impl.Utils.EMPTY_JSON_OBJECT;
 import static java.util.Collections.unmodifiableList;
@@ -60,11 +60,20 @@ public class OpenAPIContractImpl implements OpenAPIContract {
 
   private final MediaTypeRegistry mediaTypes;
 
+  private final RouteCache routeCache;
+
+  private final ValidatorCache validatorCache;
+
 
   // VisibleForTesting
   final String basePath;
 
   public OpenAPIContractImpl(JsonObject resolvedSpec, OpenAPIVersion version, SchemaRepository schemaRepository, MediaTypeRegistry mediaTypes) {
+    this(resolvedSpec, version, schemaRepository, mediaTypes, null);
+  }
+
+  public OpenAPIContractImpl(JsonObject resolvedSpec, OpenAPIVersion version, SchemaRepository schemaRepository,
+                             MediaTypeRegistry mediaTypes, RouteCacheOptions routeCacheOptions) {
     this.rawContract = resolvedSpec;
     this.version = version;
     this.schemaRepository = schemaRepository;
@@ -82,11 +91,11 @@ public class OpenAPIContractImpl implements OpenAPIContract {
       .map(JsonObject.class::cast)
       .map(SecurityRequirementImpl::new).collect(toUnmodifiableList());
 
-    if (servers.stream().collect(groupingBy(Server::getBasePath)).size() > 1) {
-      throw createUnsupportedFeature("Different base paths in server urls");
-    } else {
-      this.basePath = servers.isEmpty() ? "" : servers.get(0).getBasePath();
-    }
+    // The absolute paths of the Paths and Operations are based on the first server, further base paths are only
+    // known by the PathFinder.
+    this.basePath = servers.isEmpty() ? "" : servers.get(0).getBasePath();
+    List<ServerBasePath> basePaths = servers.isEmpty() ? List.of(new ServerBasePath("")) :
+      servers.stream().flatMap(server -> ((ServerImpl) server).getBasePaths().stream()).collect(toList());
     List<PathImpl> unsortedPaths = resolvedSpec
       .getJsonObject(KEY_PATHS, EMPTY_JSON_OBJECT)
       .stream()
@@ -100,7 +109,9 @@ public class OpenAPIContractImpl implements OpenAPIContract {
     this.operations = paths.stream().flatMap(path -> path.getOperations().stream()).collect(toMap(
       Operation::getOperationId, operation -> operation));
     // It is important that PathFinder gets the ordered Paths
-    this.pathFinder = new PathFinder(sortedPaths);
+    this.pathFinder = new PathFinder(sortedPaths, basePaths);
+    this.routeCache = routeCacheOptions == null ? null : new RouteCache(routeCacheOptions);
+    this.validatorCache = new ValidatorCache(schemaRepository);
 
     this.securitySchemes =
       resolvedSpec
@@ -197,6 +208,21 @@ public class OpenAPIContractImpl implements OpenAPIContract {
     return schemaRepository;
   }
 
+  @Override
+  public Validator getParameterValidator(Parameter parameter) {
+    return validatorCache.get(parameter, parameter.getSchema());
+  }
+
+  @Override
+  public Validator getMediaTypeValidator(MediaType mediaType) {
+    return validatorCache.get(mediaType, mediaType.getSchema());
+  }
+
+  @Override
+  public ValidatorCacheStats getValidatorCacheStats() {
+    return validatorCache;
+  }
+
   @Override
   public List<Server> getServers() {
     return servers;
@@ -204,20 +230,30 @@ public class OpenAPIContractImpl implements OpenAPIContract {
 
   @Override
   public Path findPath(String urlPath) {
-    return pathFinder.findPath(urlPath);
+    if (routeCache == null) {
+      return pathFinder.findPath(urlPath);
+    }
+    RouteMatch route = findRoute(urlPath, null);
+    return route == null ? null : route.getPath();
   }
 
   @Override
   public Operation findOperation(String urlPath, HttpMethod method) {
-    Path pathObject = findPath(urlPath);
-    if (pathObject != null) {
-      for (Operation op : pathObject.getOperations()) {
-        if (op.getHttpMethod().equals(method)) {
-          return op;
-        }
-      }
+    RouteMatch route = findRoute(urlPath, method);
+    return route == null ? null : route.getOperation();
+  }
+
+  @Override
+  public RouteMatch findRoute(String urlPath, HttpMethod method) {
+    if (routeCache == null) {
+      return pathFinder.findRoute(urlPath, method);
     }
-    return null;
+    return routeCache.get(urlPath, method, pathFinder::findRoute);
+  }
+
+  @Override
+  public RouteCacheStats getRouteCacheStats() {
+    return routeCache;
   }
 
   @Override
@@ -12,76 +12,261 @@
 
 package io.vertx.openapi.contract.impl;
 
+import io.vertx.core.http.HttpMethod;
+import io.vertx.openapi.contract.Operation;
 import io.vertx.openapi.contract.Path;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.function.Function;
 
-import static java.util.Collections.emptyList;
-import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.unmodifiableMap;
 
+/**
+ * Matches request paths against the {@link Path Paths} of a contract.
+ * <p>
+ * All paths are compiled once into a segment trie, e.g.:
+ * <p>
+ * /v1/user/{userid}/name
+ * <br>
+ * /v1/user/{userid}/friends/{friendId}
+ * <br>
+ * /v1/friends
+ * <p>
+ * Results into:
+ * <pre>
+ * v1 ─┬─ user ── {} ─┬─ name
+ *     │              └─ friends ── {}
+ *     └─ friends
+ * </pre>
+ * A lookup walks the request path segment by segment without splitting it, so its costs depend on the length of the
+ * request path and not on the amount of paths in the contract. Concrete segments are always tried before templated
+ * ones, which means that concrete paths are matched before their templated counterparts. In case that multiple
+ * templated paths match, the one with the highest score (see {@link #testSegments(String[], String[])}) wins.
+ * While walking, the start and end of every templated segment is captured, so that the values of the path parameters
+ * can be accessed via the resulting {@link RouteMatchImpl} without parsing the path again.
+ * <p>
+ * In case that the contract defines servers with different base paths, the base paths are compiled into a separate
+ * prefix index in front of the segment trie. Server variables are either expanded into concrete base paths, or
+ * compiled into templated segments of the prefix index, so that their values are captured while matching.
+ */
 public class PathFinder {
 
+  private static final Comparator<BasePathMatch> LONGEST_BASE_PATH_FIRST =
+    Comparator.comparingInt((BasePathMatch match) -> match.end).reversed();
+
+  private final Node root = new Node();
+  private final Node basePathRoot = new Node();
+  private final int maxBasePathDepth;
+
   /**
-   * /v1/users
-   * <br>
-   * /v1/friends
-   * <p>
-   * Results into:
-   * <p>
-   * [2, (/v1/users, /v1/friends) ]
+   * Creates a PathFinder for paths whose absolute path already contains the base path.
+   *
+   * @param paths The paths to match.
    */
-  private final Map<Integer, List<PathImpl>> segmentsWithoutTemplating = new HashMap<>();
+  public PathFinder(List<PathImpl> paths) {
+    this(paths, PathImpl::getAbsolutePath, singletonList(new ServerBasePath("")));
+  }
 
   /**
-   * /v1/user/{userid}/name
-   * <br>
-   * /v1/user/{userid}/age
-   * <br>
-   * /v1/user/{userid}/friends/{friendId}
-   * <p>
-   * Results into:
-   * <p>
-   * [4, [ [Path, (v1, user, {userid}, name)],  [Path, (v1, user, {userid}, age)] ] ]
-   * <br>
-   * [5, [ [Path, (v1, user, {userid}, friends,{friendId})] ] ]
+   * Creates a PathFinder that matches the passed paths below each of the passed base paths. The base paths are
+   * compiled into a separate prefix index, so that the paths are only compiled once, regardless of the amount of
+   * base paths.
+   *
+   * @param paths     The paths to match.
+   * @param basePaths The base paths, e.g. "/v1", "/{region}/v1" or "" if the paths are served from the root.
    */
-  private final Map<Integer, Map<Path, String[]>> segmentsWithTemplating = new HashMap<>();
+  public PathFinder(List<PathImpl> paths, List<ServerBasePath> basePaths) {
+    this(paths, PathImpl::getName, basePaths);
+  }
 
-  public PathFinder(List<PathImpl> paths) {
+  private PathFinder(List<PathImpl> paths, Function<PathImpl, String> pathTemplate, List<ServerBasePath> basePaths) {
     for (PathImpl path : paths) {
-      String[] segments = path.getAbsolutePath().substring(1).split("/");
-      if (path.getName().contains("{")) {
-        segmentsWithTemplating.computeIfAbsent(segments.length, i -> new HashMap<>()).put(path, segments);
-      } else {
-        segmentsWithoutTemplating.computeIfAbsent(segments.length, i -> new ArrayList<>()).add(path);
+      String[] segments = pathTemplate.apply(path).substring(1).split("/");
+      List<String> variables = new ArrayList<>();
+      Node node = root;
+      for (String segment : segments) {
+        if (segment.contains("{")) {
+          variables.add(segment.substring(1, segment.length() - 1));
+          node = node.templateChild();
+        } else {
+          node = node.concreteChild(segment);
+        }
       }
+      // The first path wins, in case the same path is passed multiple times.
+      if (node.path == null) {
+        node.path = path;
+        node.variables = variables.toArray(new String[0]);
+      }
+    }
+    root.compile();
+
+    int depth = 0;
+    for (ServerBasePath basePath : basePaths) {
+      // "" and "/" are both the root, trailing slashes are ignored
+      String basePathTemplate = basePath.getPath();
+      int end = pathEnd(basePathTemplate);
+      List<String> variables = new ArrayList<>();
+      Node node = basePathRoot;
+      int segments = 0;
+      for (int start = 1; start < end; start = segmentEnd(basePathTemplate, start, end) + 1) {
+        String segment = basePathTemplate.substring(start, segmentEnd(basePathTemplate, start, end));
+        if (segment.startsWith("{") && segment.endsWith("}")) {
+          variables.add(segment.substring(1, segment.length() - 1));
+          node = node.templateChild();
+        } else {
+          node = node.concreteChild(segment);
+        }
+        segments++;
+      }
+      // The first base path wins, in case that multiple servers result into the same base path.
+      if (node.basePath == null) {
+        node.basePath = basePath;
+        node.variables = variables.toArray(new String[0]);
+      }
+      depth = Math.max(depth, segments);
     }
+    basePathRoot.compile();
+    this.maxBasePathDepth = depth;
   }
 
   public Path findPath(String path) {
-    String[] segments = path.substring(1).split("/");
+    Lookup lookup = lookup(path);
+    return lookup == null ? null : lookup.node.path;
+  }
+
+  /**
+   * Finds the {@link Path} matching the passed url path, selects its {@link Operation} for the passed method and
+   * captures the positions of the path parameters in the url path.
+   *
+   * @param path   The url path of the request.
+   * @param method The method of the request.
+   * @return the related {@link RouteMatchImpl}, or null if no path matches. In case that the path matches, but doesn't
+   * define an operation for the passed method, the operation of the returned {@link RouteMatchImpl} is null.
+   */
+  public RouteMatchImpl findRoute(String path, HttpMethod method) {
+    Lookup lookup = lookup(path);
+    if (lookup == null) {
+      return null;
+    }
+    PathImpl matchedPath = lookup.node.path;
+    return new RouteMatchImpl(matchedPath, matchedPath.getOperation(method), path, lookup.node.variables,
+      lookup.offsets, lookup.serverVariables);
+  }
+
+  private Lookup lookup(String path) {
+    int end = pathEnd(path);
+    if (end == 0) {
+      return null;
+    }
+
+    // Collect all base paths the url path starts with, the longest base path is tried first.
+    List<BasePathMatch> basePaths = new ArrayList<>(2);
+    collectBasePaths(basePathRoot, path, 0, end, 0, new int[maxBasePathDepth * 2], basePaths);
+    basePaths.sort(LONGEST_BASE_PATH_FIRST);
+    for (BasePathMatch basePath : basePaths) {
+      Lookup lookup = lookup(path, basePath.end + 1, end);
+      if (lookup != null) {
+        lookup.serverVariables = basePath.serverVariables(path);
+        return lookup;
+      }
+    }
+    return null;
+  }
+
+  private static void collectBasePaths(Node node, String path, int position, int end, int variables,
+                                       int[] currentOffsets, List<BasePathMatch> basePaths) {
+    if (node.basePath != null) {
+      basePaths.add(new BasePathMatch(node, position, Arrays.copyOf(currentOffsets, variables * 2)));
+    }
+    if (position >= end) {
+      return;
+    }
+    int segmentEnd = segmentEnd(path, position + 1, end);
+    Node concrete = node.findConcreteChild(path, position + 1, segmentEnd);
+    if (concrete != null) {
+      collectBasePaths(concrete, path, segmentEnd, end, variables, currentOffsets, basePaths);
+    }
+    if (node.template != null) {
+      currentOffsets[variables * 2] = position + 1;
+      currentOffsets[variables * 2 + 1] = segmentEnd;
+      collectBasePaths(node.template, path, segmentEnd, end, variables + 1, currentOffsets, basePaths);
+    }
+  }
 
-    for (PathImpl p : segmentsWithoutTemplating.getOrDefault(segments.length, emptyList())) {
-      if (p.getAbsolutePath().equals(path)) {
-        return p;
+  private Lookup lookup(String path, int start, int end) {
+    int segments = 1;
+    if (start > end) {
+      // The path consists only of the base path, which is the root of the paths.
+      start = end;
+    } else {
+      for (int i = start; i < end; i++) {
+        if (path.charAt(i) == '/') {
+          segments++;
+        }
       }
     }
 
-    Path bestMatchedPath = null;
-    int currentMatchedSegments = -1;
-    for (Entry<Path, String[]> entry : segmentsWithTemplating.getOrDefault(segments.length, emptyMap()).entrySet()) {
-      int matchedSegments = testSegments(segments, entry.getValue());
-      if (matchedSegments > currentMatchedSegments) {
-        bestMatchedPath = entry.getKey();
-        currentMatchedSegments = matchedSegments;
+    Lookup lookup = new Lookup(segments);
+    find(root, path, start, end, 0, segments, 0, 0, lookup);
+    return lookup.node == null ? null : lookup;
+  }
+
+  private static void find(Node node, String path, int start, int end, int index, int segments, int score,
+                           int variables, Lookup lookup) {
+    if (index == segments) {
+      if (node.path != null && score > lookup.score) {
+        lookup.node = node;
+        lookup.score = score;
+        lookup.offsets = Arrays.copyOf(lookup.currentOffsets, variables * 2);
       }
+      return;
+    }
+
+    // Even if all remaining segments match perfectly, the score of the best match can't be beaten.
+    int remaining = segments - index;
+    if (lookup.node != null && score + remaining * (remaining + 1) / 2 <= lookup.score) {
+      return;
+    }
+
+    int segmentEnd = segmentEnd(path, start, end);
+
+    Node concrete = node.findConcreteChild(path, start, segmentEnd);
+    if (concrete != null) {
+      find(concrete, path, segmentEnd + 1, end, index + 1, segments, score + remaining, variables, lookup);
+    }
+    if (node.template != null) {
+      lookup.currentOffsets[variables * 2] = start;
+      lookup.currentOffsets[variables * 2 + 1] = segmentEnd;
+      find(node.template, path, segmentEnd + 1, end, index + 1, segments, score, variables + 1, lookup);
+    }
+  }
+
+  /**
+   * Trailing slashes are ignored, but a path consisting only of slashes has no segments.
+   *
+   * @param path The url path.
+   * @return the end of the last segment of the path, or 0 if the path has no segments.
+   */
+  static int pathEnd(String path) {
+    int end = path.length();
+    while (end > 1 && path.charAt(end - 1) == '/') {
+      end--;
     }
+    return end == 1 && path.length() > 1 ? 0 : end;
+  }
 
-    return bestMatchedPath;
+  static int segmentEnd(String path, int start, int end) {
+    int segmentEnd = start;
+    while (segmentEnd < end && path.charAt(segmentEnd) != '/') {
+      segmentEnd++;
+    }
+    return segmentEnd;
   }
 
   // VisibleForTesting
@@ -111,4 +296,108 @@ public class PathFinder {
     return numPerfectMatches;
   }
 
+  private static final class Lookup {
+    private final int[] currentOffsets;
+    private Node node;
+    private int score = -1;
+    private int[] offsets;
+    private Map<String, String> serverVariables;
+
+    private Lookup(int segments) {
+      this.currentOffsets = new int[segments * 2];
+    }
+  }
+
+  private static final class BasePathMatch {
+    private final Node node;
+    // the end of the base path in the url path
+    private final int end;
+    private final int[] offsets;
+
+    private BasePathMatch(Node node, int end, int[] offsets) {
+      this.node = node;
+      this.end = end;
+      this.offsets = offsets;
+    }
+
+    private Map<String, String> serverVariables(String path) {
+      if (node.variables.length == 0) {
+        return node.basePath.getValues();
+      }
+      Map<String, String> values = new LinkedHashMap<>(node.basePath.getValues());
+      for (int i = 0; i < node.variables.length; i++) {
+        values.put(node.variables[i], path.substring(offsets[i * 2], offsets[i * 2 + 1]));
+      }
+      return unmodifiableMap(values);
+    }
+  }
+
+  private static final class Node {
+    private Map<String, Node> concreteChildren = new LinkedHashMap<>();
+    private Node template;
+    private PathImpl path;
+    private String[] variables;
+    private ServerBasePath basePath;
+
+    // Open addressing hash table, which allows to look up a segment without creating a substring.
+    private String[] keys;
+    private Node[] children;
+    private int mask;
+
+    private Node concreteChild(String segment) {
+      return concreteChildren.computeIfAbsent(segment, s -> new Node());
+    }
+
+    private Node templateChild() {
+      if (template == null) {
+        template = new Node();
+      }
+      return template;
+    }
+
+    private void compile() {
+      if (!concreteChildren.isEmpty()) {
+        int size = Integer.highestOneBit(concreteChildren.size() * 2 - 1) << 1;
+        keys = new String[size];
+        children = new Node[size];
+        mask = size - 1;
+        for (Map.Entry<String, Node> entry : concreteChildren.entrySet()) {
+          int slot = spread(entry.getKey().hashCode()) & mask;
+          while (keys[slot] != null) {
+            slot = (slot + 1) & mask;
+          }
+          keys[slot] = entry.getKey();
+          children[slot] = entry.getValue();
+          entry.getValue().compile();
+        }
+      }
+      if (template != null) {
+        template.compile();
+      }
+      concreteChildren = null;
+    }
+
+    private Node findConcreteChild(String path, int start, int end) {
+      if (keys == null) {
+        return null;
+      }
+      // Same as String#hashCode, but computed on the region of the path.
+      int hash = 0;
+      for (int i = start; i < end; i++) {
+        hash = 31 * hash + path.charAt(i);
+      }
+      int length = end - start;
+      for (int slot = spread(hash) & mask; keys[slot] != null; slot = (slot + 1) & mask) {
+        String key = keys[slot];
+        if (key.length() == length && key.regionMatches(0, path, start, length)) {
+          return children[slot];
+        }
+      }
+      return null;
+    }
+
+    private static int spread(int hash) {
+      return hash ^ (hash >>> 16);
+    }
+  }
 }
@@ -38,12 +38,15 @@ import static io.vertx.openapi.contract.OpenAPIContractException.createInvalidCo
 import static io.vertx.openapi.contract.impl.ParameterImpl.parseParameters;
 import static io.vertx.openapi.impl.Utils.EMPTY_JSON_ARRAY;
 import static java.util.Collections.unmodifiableList;
+import static java.util.stream.Collectors.joining;
 
 public class PathImpl implements Path {
   // VisibleForTesting
   public static final Pattern INVALID_CURLY_BRACES = Pattern.compile("/[^/]+\\{|}[^/]+/|}[^/]+$");
   private static final String KEY_PARAMETERS = "parameters";
   private static final Map<String, HttpMethod> SUPPORTED_METHODS;
+  // Order in which the methods are listed in the Allow header
+  private static final List<HttpMethod> ALLOW_ORDER = List.of(GET, HEAD, POST, PUT, DELETE, PATCH, OPTIONS, TRACE);
 
   static {
     SUPPORTED_METHODS = new HashMap<>(8);
@@ -59,6 +62,8 @@ public class PathImpl implements Path {
 
   private final String name;
   private final List<Operation> operations;
+  private final Map<HttpMethod, Operation> operationsByMethod;
+  private final String allowedMethods;
   private final List<Parameter> parameters;
   private final JsonObject pathModel;
   private final String absolutePath;
@@ -86,6 +91,15 @@ public class PathImpl implements Path {
         getExtensions(), globalSecReq))
       .ifPresent(ops::add));
     this.operations = unmodifiableList(ops);
+
+    this.operationsByMethod = new HashMap<>(ops.size() * 2);
+    for (Operation op : ops) {
+      operationsByMethod.put(op.getHttpMethod(), op);
+    }
+    this.allowedMethods = ALLOW_ORDER.stream()
+      .filter(operationsByMethod::containsKey)
+      .map(HttpMethod::name)
+      .collect(joining(", "));
   }
 
   @Override
@@ -116,4 +130,19 @@ public class PathImpl implements Path {
   public String getAbsolutePath() {
     return absolutePath;
   }
+
+  /**
+   * @param method The method of the request.
+   * @return the operation of this path for the passed method, or null if this path doesn't define one.
+   */
+  public Operation getOperation(HttpMethod method) {
+    return operationsByMethod.get(method);
+  }
+
+  /**
+   * @return the methods of the operations of this path, formatted as value for the Allow header.
+   */
+  public String getAllowedMethods() {
+    return allowedMethods;
+  }
 }
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.contract.impl;
+
+import io.vertx.core.http.HttpMethod;
+import io.vertx.openapi.contract.RouteCacheOptions;
+import io.vertx.openapi.contract.RouteCacheStats;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+import static io.vertx.openapi.contract.RouteCacheOptions.EvictionPolicy.LRU;
+
+/**
+ * A size bounded cache of {@link RouteMatchImpl RouteMatches}, keyed by method and raw url path.
+ * <p>
+ * To reduce contention between event loops, the cache is split into segments, each guarded by its own lock. The
+ * maximum size is divided between the segments, so that the cache never holds more entries than configured.
+ */
+public class RouteCache implements RouteCacheStats {
+
+  private static final int MAX_SEGMENTS = 16;
+  private static final int MIN_SEGMENT_SIZE = 16;
+
+  private final Segment[] segments;
+  private final int segmentMask;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  public RouteCache(RouteCacheOptions options) {
+    int amountOfSegments =
+      Math.max(1, Math.min(MAX_SEGMENTS, Integer.highestOneBit(options.getMaxSize() / MIN_SEGMENT_SIZE)));
+    int segmentSize = options.getMaxSize() / amountOfSegments;
+    boolean accessOrder = options.getEvictionPolicy() == LRU;
+
+    this.segments = new Segment[amountOfSegments];
+    this.segmentMask = amountOfSegments - 1;
+    for (int i = 0; i < amountOfSegments; i++) {
+      segments[i] = new Segment(segmentSize, accessOrder);
+    }
+  }
+
+  /**
+   * Returns the cached {@link RouteMatchImpl}, or computes and caches it if it isn't cached yet.
+   *
+   * @param urlPath The raw url path of the request.
+   * @param method  The method of the request, or null if only the path is of interest.
+   * @param matcher The function to match the url path in case of a cache miss.
+   * @return the related {@link RouteMatchImpl}, or null if the url path doesn't match any path.
+   */
+  public RouteMatchImpl get(String urlPath, HttpMethod method,
+                            BiFunction<String, HttpMethod, RouteMatchImpl> matcher) {
+    Key key = new Key(method, urlPath);
+    Segment segment = segments[spread(key.hashCode()) & segmentMask];
+
+    RouteMatchImpl route;
+    synchronized (segment) {
+      route = segment.get(key);
+    }
+    if (route != null) {
+      hits.increment();
+      return route;
+    }
+
+    misses.increment();
+    route = matcher.apply(urlPath, method);
+    if (route != null) {
+      synchronized (segment) {
+        segment.put(key, route);
+      }
+    }
+    return route;
+  }
+
+  @Override
+  public long getHits() {
+    return hits.sum();
+  }
+
+  @Override
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  @Override
+  public long getEvictions() {
+    return evictions.sum();
+  }
+
+  @Override
+  public int getSize() {
+    int size = 0;
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        size += segment.size();
+      }
+    }
+    return size;
+  }
+
+  private static int spread(int hash) {
+    return hash ^ (hash >>> 16);
+  }
+
+  private final class Segment extends LinkedHashMap<Key, RouteMatchImpl> {
+    private final int maxSize;
+
+    private Segment(int maxSize, boolean accessOrder) {
+      super(16, 0.75f, accessOrder);
+      this.maxSize = maxSize;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Key, RouteMatchImpl> eldest) {
+      if (size() > maxSize) {
+        evictions.increment();
+        return true;
+      }
+      return false;
+    }
+  }
+
+  private static final class Key {
+    private final HttpMethod method;
+    private final String urlPath;
+    private final int hash;
+
+    private Key(HttpMethod method, String urlPath) {
+      this.method = method;
+      this.urlPath = urlPath;
+      this.hash = 31 * Objects.hashCode(method) + urlPath.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key that = (Key) o;
+      return urlPath.equals(that.urlPath) && Objects.equals(method, that.method);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+}
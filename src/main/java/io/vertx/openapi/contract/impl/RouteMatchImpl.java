@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.contract.impl;
+
+import io.vertx.openapi.contract.Operation;
+import io.vertx.openapi.contract.Path;
+import io.vertx.openapi.contract.RouteMatch;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableMap;
+
+public class RouteMatchImpl implements RouteMatch {
+
+  private final PathImpl path;
+  private final Operation operation;
+  private final String urlPath;
+  private final String[] names;
+  // start and end offset of each path parameter in the url path, -1 if the url path doesn't contain a value.
+  private final int[] offsets;
+  private final Map<String, String> serverVariables;
+
+  public RouteMatchImpl(PathImpl path, Operation operation, String urlPath, String[] names, int[] offsets) {
+    this(path, operation, urlPath, names, offsets, emptyMap());
+  }
+
+  public RouteMatchImpl(PathImpl path, Operation operation, String urlPath, String[] names, int[] offsets,
+                        Map<String, String> serverVariables) {
+    this.path = path;
+    this.operation = operation;
+    this.urlPath = urlPath;
+    this.names = names;
+    this.offsets = offsets;
+    this.serverVariables = serverVariables;
+  }
+
+  /**
+   * Creates a {@link RouteMatch} for an already known {@link Operation}, by walking the absolute path of the
+   * operation and the url path once in parallel.
+   * <p>
+   * In case that the url path doesn't start with the base path of the absolute path, because it was sent to a server
+   * with a different base path, the leading segments of the url path are skipped and the url path is walked in
+   * parallel with the relative path of the operation.
+   *
+   * @param operation The related operation.
+   * @param urlPath   The url path of the request.
+   * @return the related {@link RouteMatch}.
+   */
+  public static RouteMatchImpl of(Operation operation, String urlPath) {
+    String template = operation.getAbsoluteOpenAPIPath();
+    int urlEnd = PathFinder.pathEnd(urlPath);
+    int urlStart = 1;
+
+    String relativeTemplate = operation.getOpenAPIPath();
+    if (relativeTemplate != null && template.endsWith(relativeTemplate)) {
+      String basePath = template.substring(0, template.length() - relativeTemplate.length());
+      boolean sameBasePath = urlPath.startsWith(basePath)
+        && (urlPath.length() == basePath.length() || urlPath.charAt(basePath.length()) == '/');
+      if (!sameBasePath) {
+        template = relativeTemplate;
+        int skip = segments(urlPath, urlEnd) - segments(template, PathFinder.pathEnd(template));
+        for (; skip > 0; skip--) {
+          urlStart = PathFinder.segmentEnd(urlPath, urlStart, urlEnd) + 1;
+        }
+      }
+    }
+    int templateEnd = PathFinder.pathEnd(template);
+
+    int variables = 0;
+    for (int i = 0; i < templateEnd; i++) {
+      if (template.charAt(i) == '{') {
+        variables++;
+      }
+    }
+
+    String[] names = new String[variables];
+    int[] offsets = new int[variables * 2];
+    int variable = 0;
+    int templateStart = 1;
+    while (templateStart <= templateEnd && variable < variables) {
+      int templateSegmentEnd = PathFinder.segmentEnd(template, templateStart, templateEnd);
+      int urlSegmentEnd = PathFinder.segmentEnd(urlPath, urlStart, urlEnd);
+      if (template.charAt(templateStart) == '{') {
+        names[variable] = template.substring(templateStart + 1, templateSegmentEnd - 1);
+        boolean available = urlStart <= urlEnd;
+        offsets[variable * 2] = available ? urlStart : -1;
+        offsets[variable * 2 + 1] = available ? urlSegmentEnd : -1;
+        variable++;
+      }
+      templateStart = templateSegmentEnd + 1;
+      urlStart = urlSegmentEnd + 1;
+    }
+    return new RouteMatchImpl(null, operation, urlPath, names, offsets);
+  }
+
+  private static int segments(String path, int end) {
+    int segments = 0;
+    for (int i = 0; i < end; i++) {
+      if (path.charAt(i) == '/') {
+        segments++;
+      }
+    }
+    return segments;
+  }
+
+  @Override
+  public Path getPath() {
+    return path;
+  }
+
+  @Override
+  public Operation getOperation() {
+    return operation;
+  }
+
+  @Override
+  public boolean isMethodAllowed() {
+    return operation != null;
+  }
+
+  @Override
+  public String getAllowedMethods() {
+    return path == null ? operation.getHttpMethod().name() : path.getAllowedMethods();
+  }
+
+  @Override
+  public String getUrlPath() {
+    return urlPath;
+  }
+
+  @Override
+  public String getPathParameter(String name) {
+    for (int i = 0; i < names.length; i++) {
+      if (names[i].equals(name)) {
+        return value(i);
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public Map<String, String> getPathParameters() {
+    Map<String, String> parameters = new LinkedHashMap<>(names.length * 2);
+    for (int i = 0; i < names.length; i++) {
+      parameters.put(names[i], value(i));
+    }
+    return unmodifiableMap(parameters);
+  }
+
+  @Override
+  public Map<String, String> getServerVariables() {
+    return serverVariables;
+  }
+
+  private String value(int variable) {
+    int start = offsets[variable * 2];
+    return start < 0 ? null : urlPath.substring(start, offsets[variable * 2 + 1]);
+  }
+}
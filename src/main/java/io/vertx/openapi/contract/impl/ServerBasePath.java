@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.contract.impl;
+
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * A base path of a server, which is compiled into the prefix index of the {@link PathFinder}.
+ * <p>
+ * Server variables with an enum are already expanded, which means that a server with such variables results into one
+ * {@link ServerBasePath} per combination of their values. Server variables without an enum that span a whole segment
+ * remain as templated segment, e.g. "/{region}/api".
+ */
+public class ServerBasePath {
+
+  private final String path;
+  private final Map<String, String> values;
+
+  public ServerBasePath(String path) {
+    this(path, emptyMap());
+  }
+
+  /**
+   * @param path   The base path, which may contain templated segments.
+   * @param values The values of the server variables that were already resolved while expanding the base path.
+   */
+  public ServerBasePath(String path, Map<String, String> values) {
+    this.path = path;
+    this.values = unmodifiableMap(values);
+  }
+
+  public String getPath() {
+    return path;
+  }
+
+  public Map<String, String> getValues() {
+    return values;
+  }
+}
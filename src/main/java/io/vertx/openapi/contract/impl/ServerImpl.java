@@ -12,21 +12,42 @@
 
 package io.vertx.openapi.contract.impl;
 
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.openapi.contract.Server;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static io.vertx.openapi.contract.OpenAPIContractException.createInvalidContract;
 import static io.vertx.openapi.contract.OpenAPIContractException.createUnsupportedFeature;
+import static io.vertx.openapi.impl.Utils.EMPTY_JSON_OBJECT;
+import static java.util.Collections.unmodifiableList;
 
 public class ServerImpl implements Server {
 
   private static final String KEY_URL = "url";
+  private static final String KEY_VARIABLES = "variables";
+  private static final String KEY_DEFAULT = "default";
+  private static final String KEY_ENUM = "enum";
+  private static final Pattern VARIABLE = Pattern.compile("\\{([^}]*)}");
+
+  // VisibleForTesting
+  public static final int MAX_BASE_PATHS = 1024;
 
   private final String basePath;
 
+  private final List<ServerBasePath> basePaths;
+
   private final String url;
 
   private final JsonObject serverModel;
@@ -34,14 +55,129 @@ public class ServerImpl implements Server {
   public ServerImpl(JsonObject serverModel) {
     this.serverModel = serverModel;
     this.url = serverModel.getString(KEY_URL); // is required should be validated by the contract schema
-    if (url.contains("{")) {
-      throw createUnsupportedFeature("Server Variables");
+
+    JsonObject variablesModel = serverModel.getJsonObject(KEY_VARIABLES, EMPTY_JSON_OBJECT);
+    Map<String, String> defaults = new HashMap<>();
+    Map<String, List<String>> enums = new HashMap<>();
+    Matcher matcher = VARIABLE.matcher(url);
+    while (matcher.find()) {
+      String name = matcher.group(1);
+      JsonObject variableModel = variablesModel.getJsonObject(name);
+      if (variableModel == null || variableModel.getString(KEY_DEFAULT) == null) {
+        throw createInvalidContract("The server variable " + name + " is not defined or has no default: " + url);
+      }
+      defaults.put(name, variableModel.getString(KEY_DEFAULT));
+      JsonArray enumValues = variableModel.getJsonArray(KEY_ENUM);
+      if (enumValues != null && !enumValues.isEmpty()) {
+        List<String> values = new ArrayList<>(enumValues.size());
+        enumValues.forEach(value -> values.add(String.valueOf(value)));
+        enums.put(name, values);
+      }
     }
+
+    String defaultUrl = replaceVariables(url, defaults);
     try {
-      this.basePath = new URL(url.endsWith("/") ? url.substring(0, url.length() - 1) : url).getPath();
+      this.basePath =
+        new URL(defaultUrl.endsWith("/") ? defaultUrl.substring(0, defaultUrl.length() - 1) : defaultUrl).getPath();
     } catch (MalformedURLException e) {
       throw createInvalidContract("The specified URL is malformed: " + url, e);
     }
+    this.basePaths = unmodifiableList(expandBasePath(url, defaults, enums));
+  }
+
+  private static String replaceVariables(String template, Map<String, String> values) {
+    return VARIABLE.matcher(template)
+      .replaceAll(match -> Matcher.quoteReplacement(values.getOrDefault(match.group(1), match.group())));
+  }
+
+  /**
+   * Extracts the path of the url without resolving the server variables. The url was already validated with the
+   * default values of the server variables, which means that it has a scheme.
+   */
+  private static String extractPath(String url) {
+    int pathStart = url.indexOf('/', url.indexOf("://") + 3);
+    if (pathStart < 0) {
+      return "";
+    }
+    int pathEnd = url.length();
+    for (int i = pathStart; i < url.length(); i++) {
+      if (url.charAt(i) == '?' || url.charAt(i) == '#') {
+        pathEnd = i;
+        break;
+      }
+    }
+    while (pathEnd > pathStart && url.charAt(pathEnd - 1) == '/') {
+      pathEnd--;
+    }
+    return url.substring(pathStart, pathEnd);
+  }
+
+  /**
+   * Expands the server variables with an enum in the passed path into one base path per combination of their values.
+   * Server variables without an enum that span a whole segment remain as templated segment, all others are replaced
+   * with their default value.
+   * <p>
+   * The number of base paths grows with the product of the sizes of the enums, therefore it is limited to
+   * {@link #MAX_BASE_PATHS}.
+   */
+  private static List<ServerBasePath> expandBasePath(String url, Map<String, String> defaults,
+                                                     Map<String, List<String>> enums) {
+    String path = extractPath(url);
+    Set<String> enumVariables = new LinkedHashSet<>();
+    Map<String, String> fixedValues = new LinkedHashMap<>();
+    StringBuilder template = new StringBuilder(path.length());
+    for (String segment : path.isEmpty() ? new String[0] : path.substring(1).split("/", -1)) {
+      template.append('/');
+      Matcher matcher = VARIABLE.matcher(segment);
+      if (matcher.matches() && !enums.containsKey(matcher.group(1))) {
+        template.append(segment);
+        continue;
+      }
+      matcher.reset();
+      int end = 0;
+      while (matcher.find()) {
+        String name = matcher.group(1);
+        template.append(segment, end, matcher.start());
+        if (enums.containsKey(name)) {
+          enumVariables.add(name);
+          template.append(matcher.group());
+        } else {
+          fixedValues.put(name, defaults.get(name));
+          template.append(defaults.get(name));
+        }
+        end = matcher.end();
+      }
+      template.append(segment, end, segment.length());
+    }
+
+    long count = 1;
+    for (String name : enumVariables) {
+      count *= enums.get(name).size();
+      if (count > MAX_BASE_PATHS) {
+        throw createUnsupportedFeature("The enums of the server variables result in more than " + MAX_BASE_PATHS
+          + " base paths: " + url);
+      }
+    }
+
+    List<Map<String, String>> combinations = new ArrayList<>();
+    combinations.add(fixedValues);
+    for (String name : enumVariables) {
+      List<Map<String, String>> expanded = new ArrayList<>(combinations.size() * enums.get(name).size());
+      for (Map<String, String> combination : combinations) {
+        for (String value : enums.get(name)) {
+          Map<String, String> values = new LinkedHashMap<>(combination);
+          values.put(name, value);
+          expanded.add(values);
+        }
+      }
+      combinations = expanded;
+    }
+
+    List<ServerBasePath> basePaths = new ArrayList<>(combinations.size());
+    for (Map<String, String> values : combinations) {
+      basePaths.add(new ServerBasePath(replaceVariables(template.toString(), values), values));
+    }
+    return basePaths;
   }
 
   @Override
@@ -58,4 +194,11 @@ public class ServerImpl implements Server {
   public String getBasePath() {
     return basePath;
   }
+
+  /**
+   * @return the base paths of this server, with expanded server variables.
+   */
+  public List<ServerBasePath> getBasePaths() {
+    return basePaths;
+  }
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.contract.impl;
+
+import io.vertx.json.schema.JsonSchema;
+import io.vertx.json.schema.SchemaRepository;
+import io.vertx.json.schema.Validator;
+import io.vertx.openapi.contract.ValidatorCacheStats;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Holds the schema validators of a contract, so that each validator is only created once. The validators are keyed by
+ * the object that owns the schema, e.g. a {@link io.vertx.openapi.contract.Parameter}. As the contract objects don't
+ * override {@link Object#equals(Object)}, a lookup doesn't need to hash the schema.
+ * <p>
+ * The validators are created lazily on first use, and are shared between event loop and worker threads, because a
+ * {@link Validator} doesn't hold any state of a validation.
+ */
+public class ValidatorCache implements ValidatorCacheStats {
+
+  private final SchemaRepository schemaRepository;
+  private final Map<Object, Validator> validators = new ConcurrentHashMap<>();
+  private final LongAdder created = new LongAdder();
+  private final LongAdder reused = new LongAdder();
+
+  public ValidatorCache(SchemaRepository schemaRepository) {
+    this.schemaRepository = schemaRepository;
+  }
+
+  /**
+   * Returns the cached validator of the passed owner, or creates it if it doesn't exist yet.
+   *
+   * @param owner  The object that owns the schema.
+   * @param schema The schema to validate against.
+   * @return the related {@link Validator}.
+   */
+  public Validator get(Object owner, JsonSchema schema) {
+    Validator validator = validators.get(owner);
+    if (validator != null) {
+      reused.increment();
+      return validator;
+    }
+    return validators.computeIfAbsent(owner, key -> {
+      created.increment();
+      return schemaRepository.validator(schema);
+    });
+  }
+
+  @Override
+  public long getCreated() {
+    return created.sum();
+  }
+
+  @Override
+  public long getReused() {
+    return reused.sum();
+  }
+
+  @Override
+  public int getSize() {
+    return validators.size();
+  }
+}
@@ -9,6 +9,7 @@ import io.vertx.openapi.mediatype.impl.NoOpAnalyser;
 import io.vertx.openapi.validation.ValidationContext;
 
 import java.util.Arrays;
+import java.util.Set;
 import java.util.function.Predicate;
 
 /**
@@ -97,12 +98,14 @@ public interface MediaTypeRegistration extends ContentAnalyserFactory {
 
 
   /**
-   * Factory for a whitelist predicate. Checks if the mediatype is equal to one of the types provided.
+   * Factory for a whitelist predicate. Checks if the mediatype is equal to one of the types provided. The types are
+   * copied into a set, so that the check takes constant time.
    *
    * @param types The whitelisting types
    * @return The predicate that checks if the string is part of the whitelist.
    */
   static Predicate<String> whitelist(String... types) {
-    return v -> Arrays.asList(types).contains(v);
+    Set<String> whitelist = Set.copyOf(Arrays.asList(types));
+    return v -> v != null && whitelist.contains(v);
   }
 }
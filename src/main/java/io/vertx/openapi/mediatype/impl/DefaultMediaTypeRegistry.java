@@ -4,35 +4,90 @@ import io.vertx.core.buffer.Buffer;
 import io.vertx.openapi.mediatype.*;
 import io.vertx.openapi.validation.ValidationContext;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Default implementation for MediaTypeRegistry
+ * <p>
+ * The registrations are held in an immutable snapshot, which is replaced when a registration is added, so that the
+ * registry can be shared between event loops. Each snapshot caches which registration handles a raw content type,
+ * because real traffic only uses a handful of distinct content types. The cache is bounded, content types that don't
+ * fit into it anymore are resolved on every call.
  */
 public class DefaultMediaTypeRegistry implements MediaTypeRegistry {
-  private final List<MediaTypeRegistration> registrations = new ArrayList<>();
 
+  /**
+   * Maximum number of raw content types whose registration is cached.
+   */
+  public static final int MAX_CACHED_CONTENT_TYPES = 256;
+
+  // Marks content types that no registration can handle, because a ConcurrentHashMap doesn't accept null values
+  private static final MediaTypeRegistration UNSUPPORTED = MediaTypeRegistration.alwaysValid(type -> false);
+
+  private volatile Snapshot snapshot = new Snapshot(new MediaTypeRegistration[0]);
 
   @Override
-  public DefaultMediaTypeRegistry register(MediaTypeRegistration registration) {
-    this.registrations.add(registration);
+  public synchronized DefaultMediaTypeRegistry register(MediaTypeRegistration registration) {
+    MediaTypeRegistration[] current = snapshot.registrations;
+    MediaTypeRegistration[] registrations = Arrays.copyOf(current, current.length + 1);
+    registrations[current.length] = registration;
+    // The cache starts empty, because the new registration may handle content types that were resolved before
+    snapshot = new Snapshot(registrations);
     return this;
   }
 
   @Override
   public boolean isSupported(String type) {
-    var v = MediaType.of(type);
-    return this.registrations.stream().anyMatch(x -> x.canHandle(v.fullType()));
+    return snapshot.resolve(type) != null;
   }
 
   @Override
   public ContentAnalyser createContentAnalyser(String contentType, Buffer content, ValidationContext context) {
-    var v = MediaType.of(contentType);
-    var reg = this.registrations.stream().filter(x -> x.canHandle(v.fullType())).findFirst();
-    if (reg.isEmpty()) {
+    MediaTypeRegistration registration = snapshot.resolve(contentType);
+    if (registration == null) {
       throw new MediaTypeException("Unsupported media type " + contentType);
     }
-    return reg.get().createContentAnalyser(contentType, content, context);
+    return registration.createContentAnalyser(contentType, content, context);
+  }
+
+  // VisibleForTesting
+  public int getCachedContentTypes() {
+    return snapshot.resolved.size();
+  }
+
+  private static final class Snapshot {
+    private final MediaTypeRegistration[] registrations;
+    private final Map<String, MediaTypeRegistration> resolved = new ConcurrentHashMap<>();
+
+    private Snapshot(MediaTypeRegistration[] registrations) {
+      this.registrations = registrations;
+    }
+
+    /**
+     * @param contentType the raw content type.
+     * @return the first registration that can handle the content type, or null if there is none.
+     */
+    private MediaTypeRegistration resolve(String contentType) {
+      MediaTypeRegistration registration = resolved.get(contentType);
+      if (registration == null) {
+        registration = find(MediaType.of(contentType).fullType());
+        // Checking the size first can exceed the limit by the number of concurrent callers, which is negligible
+        if (resolved.size() < MAX_CACHED_CONTENT_TYPES) {
+          resolved.putIfAbsent(contentType, registration);
+        }
+      }
+      return registration == UNSUPPORTED ? null : registration;
+    }
+
+    private MediaTypeRegistration find(String fullType) {
+      for (MediaTypeRegistration registration : registrations) {
+        if (registration.canHandle(fullType)) {
+          return registration;
+        }
+      }
+      return UNSUPPORTED;
+    }
   }
 }
@@ -15,74 +15,186 @@ package io.vertx.openapi.mediatype.impl;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.openapi.validation.ValidatorException;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import static io.vertx.openapi.validation.ValidatorErrorType.INVALID_VALUE;
-import static java.util.regex.Pattern.CASE_INSENSITIVE;
 
+/**
+ * A part of a multipart/form-data body. The body of a part is a slice of the multipart body, so parsing a multipart
+ * body neither copies nor decodes the bodies of its parts.
+ */
 public class MultipartPart {
-  private static final Pattern NAME_PATTERN = Pattern.compile("Content-Disposition: form-data; name=\"(.*?)\"",
-    CASE_INSENSITIVE);
-  private static final Pattern CONTENT_TYPE_PATTERN = Pattern.compile("Content-Type: (.*)", CASE_INSENSITIVE);
+  private static final String DEFAULT_CONTENT_TYPE = "text/plain";
+  private static final String CONTENT_DISPOSITION = "Content-Disposition";
+  private static final String CONTENT_TYPE = "Content-Type";
+  private static final String FORM_DATA = "form-data";
+  private static final String NAME = "name";
 
   private final String name;
   private final String contentType;
   private final Buffer body;
 
   // Should only be called by MultipartPartFormTransformer
-  static List<MultipartPart> fromMultipartBody(String body, String boundary) {
-    return parseParts(body, boundary).stream().map(MultipartPart::parsePart).collect(Collectors.toList());
+  static List<MultipartPart> fromMultipartBody(Buffer body, String boundary) {
+    List<Buffer> rawParts = parseParts(body, boundary);
+    List<MultipartPart> parts = new ArrayList<>(rawParts.size());
+    for (Buffer rawPart : rawParts) {
+      parts.add(parsePart(rawPart));
+    }
+    return parts;
   }
 
   // VisibleForTesting
-  public static List<String> parseParts(String body, String boundary) {
-    String delimiter = "--" + boundary + "|\r\n--" + boundary;
-    String[] rawParts = body.split(delimiter);
-
-    if (rawParts.length < 3 || !"--".equals(rawParts[rawParts.length - 1].strip())) {
-      String msg = "The multipart message doesn't contain any parts, or has an invalid structure.";
-      throw new ValidatorException(msg, INVALID_VALUE);
+  public static List<Buffer> parseParts(Buffer body, String boundary) {
+    // Each delimiter starts with a line break, which belongs to the delimiter and not to the preceding part. Only the
+    // first delimiter may be at the very beginning of the body.
+    Delimiter delimiter = Delimiter.of(boundary);
+    int position;
+    if (delimiter.matches(body, 0, 2)) {
+      position = delimiter.length() - 2;
+    } else {
+      int found = delimiter.indexOf(body, 0);
+      if (found < 0) {
+        throw createInvalidStructure();
+      }
+      position = found + delimiter.length();
     }
 
-    List<String> parts = new ArrayList<>(rawParts.length - 2);
-
-    // Omit first and last part, because first part is everything up to the first delimiter and the last part
-    // contains "--";
-    for (int i = 1; i < rawParts.length - 1; i++) {
-      parts.add(rawParts[i].strip());
+    List<Buffer> parts = new ArrayList<>();
+    // The close delimiter ends with "--", everything after it is the epilogue, which is ignored.
+    while (!isCloseDelimiter(body, position)) {
+      int start = skipLineBreak(body, position);
+      int end = start < 0 ? -1 : delimiter.indexOf(body, start);
+      if (end < 0) {
+        throw createInvalidStructure();
+      }
+      parts.add(body.slice(start, end));
+      position = end + delimiter.length();
     }
 
+    if (parts.isEmpty()) {
+      throw createInvalidStructure();
+    }
     return parts;
   }
 
-  private static Optional<String> parsePattern(Pattern pattern, String rawPart) {
-    return pattern.matcher(rawPart).results().findFirst().map(m -> m.group(1));
+  private static boolean isCloseDelimiter(Buffer body, int position) {
+    return position + 1 < body.length() && body.getByte(position) == '-' && body.getByte(position + 1) == '-';
   }
 
-  // VisibleForTesting
-  public static MultipartPart parsePart(String rawPart) {
-    String sectionDelimiterPattern = "\r\n\r\n";
-    int sectionDelimiter = rawPart.indexOf(sectionDelimiterPattern);
+  /**
+   * Skips the optional whitespace after a delimiter and the subsequent line break.
+   *
+   * @return the position after the line break, or -1 if there is no line break.
+   */
+  private static int skipLineBreak(Buffer body, int position) {
+    int i = position;
+    while (i < body.length() && (body.getByte(i) == ' ' || body.getByte(i) == '\t')) {
+      i++;
+    }
+    if (i + 1 < body.length() && body.getByte(i) == '\r' && body.getByte(i + 1) == '\n') {
+      return i + 2;
+    }
+    return -1;
+  }
 
+  private static ValidatorException createInvalidStructure() {
+    String msg = "The multipart message doesn't contain any parts, or has an invalid structure.";
+    return new ValidatorException(msg, INVALID_VALUE);
+  }
+
+  // VisibleForTesting
+  public static MultipartPart parsePart(Buffer rawPart) {
     // if no empty line exists, there are only headers
-    String headerSection = sectionDelimiter == -1 ? rawPart : rawPart.substring(0, sectionDelimiter);
-    String body = sectionDelimiter == -1 ? null :
-      rawPart.substring(sectionDelimiter + sectionDelimiterPattern.length());
+    int headerEnd = indexOfEmptyLine(rawPart);
+    int headerSectionEnd = headerEnd < 0 ? rawPart.length() : headerEnd;
 
-    String name = parsePattern(NAME_PATTERN, headerSection).orElseThrow(() -> {
-      String msg = "A part of the multipart message doesn't contain a name.";
-      return new ValidatorException(msg, INVALID_VALUE);
-    });
+    String name = null;
+    String contentType = null;
+    int lineStart = 0;
+    while (lineStart < headerSectionEnd) {
+      int lineEnd = indexOfLineBreak(rawPart, lineStart, headerSectionEnd);
+      int colon = indexOf(rawPart, (byte) ':', lineStart, lineEnd);
+      if (colon > 0) {
+        String headerName = rawPart.getString(lineStart, colon, "ISO-8859-1").trim();
+        if (CONTENT_DISPOSITION.equalsIgnoreCase(headerName)) {
+          name = parseName(rawPart.getString(colon + 1, lineEnd, "UTF-8"));
+        } else if (CONTENT_TYPE.equalsIgnoreCase(headerName)) {
+          contentType = rawPart.getString(colon + 1, lineEnd, "ISO-8859-1").trim();
+        }
+      }
+      lineStart = lineEnd + 2;
+    }
 
+    if (name == null) {
+      String msg = "A part of the multipart message doesn't contain a name.";
+      throw new ValidatorException(msg, INVALID_VALUE);
+    }
     // If no header is set, content type defaults to text/plain
-    String contentType = parsePattern(CONTENT_TYPE_PATTERN, headerSection).orElse("text/plain");
+    if (contentType == null || contentType.isEmpty()) {
+      contentType = DEFAULT_CONTENT_TYPE;
+    }
+
+    int bodyStart = headerEnd + 4;
+    Buffer body = headerEnd < 0 || bodyStart >= rawPart.length() ? null : rawPart.slice(bodyStart, rawPart.length());
+    return new MultipartPart(name, contentType, body);
+  }
+
+  /**
+   * @return the name parameter of a form-data content disposition, or null if there is none.
+   */
+  private static String parseName(String contentDisposition) {
+    int paramStart = contentDisposition.indexOf(';');
+    if (paramStart < 0 || !FORM_DATA.equalsIgnoreCase(contentDisposition.substring(0, paramStart).trim())) {
+      return null;
+    }
+    while (paramStart >= 0) {
+      int paramEnd = contentDisposition.indexOf(';', paramStart + 1);
+      String param = contentDisposition.substring(paramStart + 1,
+        paramEnd < 0 ? contentDisposition.length() : paramEnd);
+      int equals = param.indexOf('=');
+      if (equals > 0 && NAME.equalsIgnoreCase(param.substring(0, equals).trim())) {
+        String value = param.substring(equals + 1).trim();
+        if (value.length() >= 2 && value.charAt(0) == '"' && value.charAt(value.length() - 1) == '"') {
+          value = value.substring(1, value.length() - 1);
+        }
+        return value;
+      }
+      paramStart = paramEnd;
+    }
+    return null;
+  }
+
+  private static int indexOfEmptyLine(Buffer buffer) {
+    for (int i = 0; i + 3 < buffer.length(); i++) {
+      if (buffer.getByte(i) == '\r' && buffer.getByte(i + 1) == '\n' && buffer.getByte(i + 2) == '\r'
+        && buffer.getByte(i + 3) == '\n') {
+        return i;
+      }
+    }
+    return -1;
+  }
 
-    return new MultipartPart(name, contentType, body == null ? null : Buffer.buffer(body));
+  private static int indexOfLineBreak(Buffer buffer, int from, int to) {
+    for (int i = from; i + 1 < to; i++) {
+      if (buffer.getByte(i) == '\r' && buffer.getByte(i + 1) == '\n') {
+        return i;
+      }
+    }
+    return to;
+  }
+
+  private static int indexOf(Buffer buffer, byte b, int from, int to) {
+    for (int i = from; i < to; i++) {
+      if (buffer.getByte(i) == b) {
+        return i;
+      }
+    }
+    return -1;
   }
 
   public MultipartPart(String name, String contentType, Buffer body) {
@@ -122,4 +234,72 @@ public class MultipartPart {
   public int hashCode() {
     return Objects.hash(name, contentType, body);
   }
+
+  /**
+   * The delimiter of the parts of a multipart body, which consists of a line break and the dash boundary. It is
+   * searched with the Boyer-Moore-Horspool algorithm, which skips up to the length of the delimiter per comparison.
+   * Because boundaries are long and rarely part of a body, most bytes of a body are never read.
+   */
+  public static final class Delimiter {
+    private final byte[] bytes;
+    private final int[] skip = new int[256];
+
+    private Delimiter(byte[] bytes) {
+      this.bytes = bytes;
+      int last = bytes.length - 1;
+      Arrays.fill(skip, bytes.length);
+      for (int i = 0; i < last; i++) {
+        skip[bytes[i] & 0xFF] = last - i;
+      }
+    }
+
+    /**
+     * @param boundary the boundary of a multipart body.
+     * @return the delimiter of the parts of the multipart body.
+     */
+    public static Delimiter of(String boundary) {
+      return new Delimiter(("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    public int length() {
+      return bytes.length;
+    }
+
+    /**
+     * @param buffer   the buffer to check.
+     * @param position the position in the buffer.
+     * @param offset   the offset in the delimiter, e.g. 2 to skip the line break.
+     * @return true if the delimiter, starting at the passed offset of the delimiter, is at the passed position.
+     */
+    public boolean matches(Buffer buffer, int position, int offset) {
+      if (position + bytes.length - offset > buffer.length()) {
+        return false;
+      }
+      for (int i = offset; i < bytes.length; i++) {
+        if (buffer.getByte(position + i - offset) != bytes[i]) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    /**
+     * @param buffer the buffer to search.
+     * @param from   the position to start the search from.
+     * @return the position of the delimiter, or -1 if the buffer doesn't contain the delimiter.
+     */
+    public int indexOf(Buffer buffer, int from) {
+      int last = bytes.length - 1;
+      int end = buffer.length() - last;
+      int i = from;
+      while (i < end) {
+        byte b = buffer.getByte(i + last);
+        if (b == bytes[last] && matches(buffer, i, 0)) {
+          return i;
+        }
+        i += skip[b & 0xFF];
+      }
+      return -1;
+    }
+  }
 }
@@ -0,0 +1,326 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.mediatype.impl;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.core.exc.StreamConstraintsException;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.json.schema.OutputErrorType;
+import io.vertx.json.schema.OutputUnit;
+import io.vertx.openapi.validation.ValidationContext;
+import io.vertx.openapi.validation.ValidatorException;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import static io.vertx.openapi.mediatype.impl.AbstractContentAnalyser.buildSyntaxException;
+import static io.vertx.openapi.validation.SchemaValidationException.createInvalidValueBody;
+import static io.vertx.openapi.validation.ValidatorException.createBodyTooLarge;
+
+/**
+ * Analyses a JSON body chunk by chunk while it is read. The chunks are fed into a non-blocking parser and every token
+ * is checked against a {@link StreamingJsonSchema}, so that a syntax error or a schema violation is detected as soon
+ * as the related chunk is read, and not only after the whole body was aggregated.
+ * <p>
+ * The analyser only keeps the state of the currently open objects and arrays, so its memory grows with the nesting
+ * depth of the body, rather than with the size of the body. In addition to the schema, the analyser enforces the
+ * {@link StreamingJsonLimits} of the body.
+ */
+public class StreamingJsonAnalyser {
+
+  private final JsonParser parser;
+  private final ByteArrayFeeder feeder;
+  private final StreamingJsonSchema schema;
+  private final StreamingJsonLimits limits;
+  private final ValidationContext requestOrResponse;
+  private final Deque<Container> containers = new ArrayDeque<>();
+
+  private boolean started;
+  private boolean completed;
+
+  /**
+   * @param schema            the schema to check the body against.
+   * @param requestOrResponse whether the body belongs to a request or a response.
+   */
+  public StreamingJsonAnalyser(StreamingJsonSchema schema, ValidationContext requestOrResponse) {
+    this(schema, StreamingJsonLimits.NONE, requestOrResponse);
+  }
+
+  /**
+   * @param schema            the schema to check the body against.
+   * @param limits            the limits of the structure of the body.
+   * @param requestOrResponse whether the body belongs to a request or a response.
+   */
+  public StreamingJsonAnalyser(StreamingJsonSchema schema, StreamingJsonLimits limits,
+                               ValidationContext requestOrResponse) {
+    this.schema = schema;
+    this.limits = limits;
+    this.requestOrResponse = requestOrResponse;
+    try {
+      this.parser = limits.getJsonFactory().createNonBlockingByteArrayParser();
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+    this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+  }
+
+  /**
+   * Analyses the next chunk of the body.
+   *
+   * @param chunk the next chunk of the body.
+   * @throws ValidatorException if the body read so far is syntactically incorrect, violates the schema or exceeds a
+   *                            limit.
+   */
+  public void analyse(Buffer chunk) {
+    byte[] bytes = chunk.getBytes();
+    try {
+      feeder.feedInput(bytes, 0, bytes.length);
+    } catch (StreamConstraintsException e) {
+      throw constraintViolation(e);
+    } catch (IOException e) {
+      throw syntaxException();
+    }
+    nextTokens();
+  }
+
+  /**
+   * Completes the analysis after the last chunk of the body was read. An empty body is accepted, because whether the
+   * body is required is checked when the whole body is validated.
+   *
+   * @throws ValidatorException if the body is incomplete or violates the schema.
+   */
+  public void end() {
+    feeder.endOfInput();
+    nextTokens();
+    if (started && !completed) {
+      throw syntaxException();
+    }
+  }
+
+  private void nextTokens() {
+    try {
+      JsonToken token;
+      while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+        onToken(token);
+      }
+    } catch (StreamConstraintsException e) {
+      throw constraintViolation(e);
+    } catch (IOException e) {
+      throw syntaxException();
+    }
+  }
+
+  private void onToken(JsonToken token) throws IOException {
+    switch (token) {
+      case FIELD_NAME:
+        onFieldName(parser.currentName());
+        break;
+      case START_OBJECT:
+        containers.push(new Container(checkType(StreamingJsonSchema.OBJECT, "object"), true));
+        checkDepth();
+        break;
+      case START_ARRAY:
+        containers.push(new Container(checkType(StreamingJsonSchema.ARRAY, "array"), false));
+        checkDepth();
+        break;
+      case END_OBJECT:
+      case END_ARRAY:
+        // The container is removed first, so that a violation is reported at the location of the container
+        onEnd(containers.pop());
+        onValueCompleted();
+        break;
+      case VALUE_STRING:
+        onString(checkType(StreamingJsonSchema.STRING, "string"), parser.getText());
+        onValueCompleted();
+        break;
+      case VALUE_NUMBER_INT:
+        checkType(StreamingJsonSchema.INTEGER, "integer");
+        onValueCompleted();
+        break;
+      case VALUE_NUMBER_FLOAT:
+        // A number without a fraction is also an integer
+        checkType(isIntegral(parser.getDecimalValue()) ? StreamingJsonSchema.INTEGER : StreamingJsonSchema.NUMBER,
+          "number");
+        onValueCompleted();
+        break;
+      case VALUE_TRUE:
+      case VALUE_FALSE:
+        checkType(StreamingJsonSchema.BOOLEAN, "boolean");
+        onValueCompleted();
+        break;
+      case VALUE_NULL:
+        checkType(StreamingJsonSchema.NULL, "null");
+        onValueCompleted();
+        break;
+      default:
+        throw syntaxException();
+    }
+  }
+
+  private void onFieldName(String name) {
+    Container object = containers.peek();
+    object.name = name;
+    object.size++;
+    if (object.size > object.schema.getMaxProperties()) {
+      throw violation("maxProperties", "Instance has too many properties. Expected at most "
+        + object.schema.getMaxProperties());
+    }
+    object.missing.remove(name);
+    object.next = object.schema.getPropertySchema(name);
+    if (object.next == null) {
+      throw violation("additionalProperties", "Property \"" + name + "\" is not allowed");
+    }
+  }
+
+  private void onEnd(Container container) {
+    StreamingJsonSchema containerSchema = container.schema;
+    if (container.object) {
+      if (!container.missing.isEmpty()) {
+        throw violation("required", "Instance does not have required property \""
+          + container.missing.iterator().next() + "\"");
+      }
+      if (container.size < containerSchema.getMinProperties()) {
+        throw violation("minProperties", "Instance has too few properties. Expected at least "
+          + containerSchema.getMinProperties());
+      }
+    } else if (container.size < containerSchema.getMinItems()) {
+      throw violation("minItems", "Array has too few items. Expected at least " + containerSchema.getMinItems());
+    }
+  }
+
+  private void checkDepth() {
+    if (containers.size() > limits.getMaxDepth()) {
+      throw tooLarge("nesting depth of " + limits.getMaxDepth());
+    }
+  }
+
+  private void onString(StreamingJsonSchema stringSchema, String value) {
+    long length = value.codePointCount(0, value.length());
+    if (length > limits.getMaxStringLength()) {
+      throw tooLarge("string length of " + limits.getMaxStringLength());
+    }
+    if (length > stringSchema.getMaxLength()) {
+      throw violation("maxLength", "String is too long. Expected at most " + stringSchema.getMaxLength());
+    }
+    if (length < stringSchema.getMinLength()) {
+      throw violation("minLength", "String is too short. Expected at least " + stringSchema.getMinLength());
+    }
+  }
+
+  /**
+   * Determines the schema of the value that starts with the current token and checks its type.
+   */
+  private StreamingJsonSchema checkType(int type, String typeName) {
+    StreamingJsonSchema valueSchema;
+    Container parent = containers.peek();
+    if (parent == null) {
+      if (started) {
+        // Only a single value is allowed
+        throw syntaxException();
+      }
+      started = true;
+      valueSchema = schema;
+    } else if (parent.object) {
+      valueSchema = parent.next;
+    } else {
+      parent.size++;
+      parent.name = null;
+      if (parent.size > limits.getMaxArrayLength()) {
+        throw tooLarge("array length of " + limits.getMaxArrayLength());
+      }
+      if (parent.size > parent.schema.getMaxItems()) {
+        throw violation("maxItems", "Array has too many items. Expected at most " + parent.schema.getMaxItems());
+      }
+      valueSchema = parent.schema.getItems();
+    }
+
+    if (!valueSchema.allowsType(type)) {
+      throw violation("type", "Instance type " + typeName + " is invalid");
+    }
+    return valueSchema;
+  }
+
+  private void onValueCompleted() {
+    if (containers.isEmpty()) {
+      completed = true;
+    }
+  }
+
+  private static boolean isIntegral(BigDecimal value) {
+    return value.signum() == 0 || value.stripTrailingZeros().scale() <= 0;
+  }
+
+  private ValidatorException syntaxException() {
+    return buildSyntaxException("The " + requestOrResponse + " body can't be decoded");
+  }
+
+  private ValidatorException constraintViolation(StreamConstraintsException e) {
+    // Only the string length is limited by the configured limit, the other constraints of the parser are the defaults
+    if (limits.getMaxStringLength() != Long.MAX_VALUE && e.getOriginalMessage().startsWith("String")) {
+      return tooLarge("string length of " + limits.getMaxStringLength());
+    }
+    return tooLarge(e.getOriginalMessage());
+  }
+
+  private ValidatorException tooLarge(String limit) {
+    return createBodyTooLarge(requestOrResponse, limit);
+  }
+
+  private ValidatorException violation(String keyword, String error) {
+    OutputUnit unit = new OutputUnit(instanceLocation(), keyword, keyword, error, OutputErrorType.INVALID_VALUE);
+    OutputUnit result = new OutputUnit(instanceLocation(), keyword, keyword, error, OutputErrorType.INVALID_VALUE);
+    result.setErrors(Collections.singletonList(unit));
+    return createInvalidValueBody(result, requestOrResponse, null);
+  }
+
+  private String instanceLocation() {
+    StringBuilder location = new StringBuilder();
+    Iterator<Container> fromRoot = containers.descendingIterator();
+    while (fromRoot.hasNext()) {
+      Container container = fromRoot.next();
+      if (container.object && container.name != null) {
+        location.append('/').append(container.name.replace("~", "~0").replace("/", "~1"));
+      } else if (!container.object && container.size > 0) {
+        location.append('/').append(container.size - 1);
+      }
+    }
+    return location.toString();
+  }
+
+  private static final class Container {
+    private final StreamingJsonSchema schema;
+    private final boolean object;
+    // The properties that are required, but were not read yet
+    private final Set<String> missing;
+    private long size;
+    // The name of the current property of an object
+    private String name;
+    // The schema of the value of the current property of an object
+    private StreamingJsonSchema next;
+
+    private Container(StreamingJsonSchema schema, boolean object) {
+      this.schema = schema;
+      this.object = object;
+      this.missing = object && !schema.getRequired().isEmpty() ? new HashSet<>(schema.getRequired()) :
+        Collections.emptySet();
+    }
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.mediatype.impl;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+
+/**
+ * The limits of the structure of a JSON body, which are enforced by a {@link StreamingJsonAnalyser} while the body is
+ * read. Unlike the keywords of a schema, these limits apply to all objects, arrays and strings of the body.
+ */
+public final class StreamingJsonLimits {
+
+  /**
+   * No limits.
+   */
+  public static final StreamingJsonLimits NONE = new StreamingJsonLimits(-1, -1, -1);
+
+  private final long maxDepth;
+  private final long maxArrayLength;
+  private final long maxStringLength;
+  private final JsonFactory jsonFactory;
+
+  /**
+   * @param maxDepth        the maximum nesting depth of objects and arrays, or -1 for no limit.
+   * @param maxArrayLength  the maximum length of arrays, or -1 for no limit.
+   * @param maxStringLength the maximum length of strings, or -1 for no limit.
+   */
+  public StreamingJsonLimits(long maxDepth, long maxArrayLength, long maxStringLength) {
+    this.maxDepth = maxDepth < 0 ? Long.MAX_VALUE : maxDepth;
+    this.maxArrayLength = maxArrayLength < 0 ? Long.MAX_VALUE : maxArrayLength;
+    this.maxStringLength = maxStringLength < 0 ? Long.MAX_VALUE : maxStringLength;
+
+    if (maxStringLength < 0) {
+      this.jsonFactory = new JsonFactory();
+    } else {
+      // The parser buffers a string completely before it is passed on, so it must already stop reading a string that
+      // exceeds the limit. The limit of the parser is in chars, which are at most twice as many as the code points.
+      int parserMaxStringLength = (int) Math.min(Integer.MAX_VALUE, 2 * maxStringLength);
+      StreamReadConstraints constraints = StreamReadConstraints.builder()
+        .maxStringLength(parserMaxStringLength)
+        .build();
+      this.jsonFactory = JsonFactory.builder().streamReadConstraints(constraints).build();
+    }
+  }
+
+  private StreamingJsonLimits(long maxDepth, StreamingJsonLimits other) {
+    this.maxDepth = maxDepth;
+    this.maxArrayLength = other.maxArrayLength;
+    this.maxStringLength = other.maxStringLength;
+    this.jsonFactory = other.jsonFactory;
+  }
+
+  /**
+   * @param maxDepth the maximum nesting depth of objects and arrays.
+   * @return these limits, but with the passed maximum nesting depth if it is lower than the current one.
+   */
+  public StreamingJsonLimits withMaxDepth(long maxDepth) {
+    return maxDepth < 0 || maxDepth >= this.maxDepth ? this : new StreamingJsonLimits(maxDepth, this);
+  }
+
+  /**
+   * @return true if at least one limit is set.
+   */
+  public boolean isLimited() {
+    return maxDepth != Long.MAX_VALUE || maxArrayLength != Long.MAX_VALUE || maxStringLength != Long.MAX_VALUE;
+  }
+
+  public long getMaxDepth() {
+    return maxDepth;
+  }
+
+  public long getMaxArrayLength() {
+    return maxArrayLength;
+  }
+
+  public long getMaxStringLength() {
+    return maxStringLength;
+  }
+
+  JsonFactory getJsonFactory() {
+    return jsonFactory;
+  }
+}
@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.mediatype.impl;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.json.schema.JsonSchema;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The subset of a JSON schema that can be checked while a JSON document is parsed token by token: the types of the
+ * values, the properties and items of objects and arrays, and the limits of their sizes and of the length of strings.
+ * <p>
+ * All other keywords are ignored, so a document that passes these checks can still be invalid. However, a document
+ * that violates these checks is always invalid. Schemas with a reference are treated as unconstrained, because their
+ * semantics depend on the draft of the schema, and so are schemas that are nested deeper than {@link #MAX_DEPTH}.
+ */
+public final class StreamingJsonSchema {
+
+  public static final int OBJECT = 1;
+  public static final int ARRAY = 1 << 1;
+  public static final int STRING = 1 << 2;
+  public static final int NUMBER = 1 << 3;
+  public static final int INTEGER = 1 << 4;
+  public static final int BOOLEAN = 1 << 5;
+  public static final int NULL = 1 << 6;
+  private static final int ANY_TYPE = OBJECT | ARRAY | STRING | NUMBER | INTEGER | BOOLEAN | NULL;
+
+  /**
+   * The maximum depth of the compiled schema, which also ensures that the compilation terminates for circular schemas.
+   */
+  public static final int MAX_DEPTH = 64;
+
+  /**
+   * A schema without any constraints.
+   */
+  public static final StreamingJsonSchema ANY = new StreamingJsonSchema();
+
+  private int types = ANY_TYPE;
+  private Map<String, StreamingJsonSchema> properties = Collections.emptyMap();
+  // null if additional properties are not allowed
+  private StreamingJsonSchema additionalProperties = ANY;
+  private StreamingJsonSchema items = ANY;
+  private Set<String> required = Collections.emptySet();
+  private long minItems;
+  private long maxItems = Long.MAX_VALUE;
+  private long minLength;
+  private long maxLength = Long.MAX_VALUE;
+  private long minProperties;
+  private long maxProperties = Long.MAX_VALUE;
+  // computed on first use, Integer.MIN_VALUE if not yet computed
+  private volatile int maxDepth = Integer.MIN_VALUE;
+
+  private StreamingJsonSchema() {
+
+  }
+
+  /**
+   * Compiles the passed schema.
+   *
+   * @param schema the schema to compile.
+   * @return the compiled schema.
+   */
+  public static StreamingJsonSchema compile(JsonSchema schema) {
+    if (schema == null) {
+      return ANY;
+    }
+    JsonObject json = new JsonObject();
+    for (String keyword : schema.fieldNames()) {
+      json.put(keyword, (Object) schema.get(keyword));
+    }
+    return compile(json, new IdentityHashMap<>(), 0);
+  }
+
+  private static StreamingJsonSchema compile(Object schema, Map<JsonObject, StreamingJsonSchema> compiled,
+                                             int depth) {
+    if (Boolean.FALSE.equals(schema)) {
+      StreamingJsonSchema none = new StreamingJsonSchema();
+      none.types = 0;
+      return none;
+    }
+    if (!(schema instanceof JsonObject) || depth > MAX_DEPTH) {
+      return ANY;
+    }
+    JsonObject json = (JsonObject) schema;
+    if (json.containsKey("$ref") || json.containsKey("$dynamicRef") || json.containsKey("$recursiveRef")) {
+      return ANY;
+    }
+    StreamingJsonSchema existing = compiled.get(json);
+    if (existing != null) {
+      // The schema is circular or shared, the node is already compiled
+      return existing;
+    }
+
+    StreamingJsonSchema node = new StreamingJsonSchema();
+    compiled.put(json, node);
+
+    Object type = json.getValue("type");
+    if (type instanceof String) {
+      node.types = typeOf((String) type);
+    } else if (type instanceof JsonArray) {
+      node.types = 0;
+      for (Object t : (JsonArray) type) {
+        node.types |= t instanceof String ? typeOf((String) t) : ANY_TYPE;
+      }
+    }
+    if (type != null && Boolean.TRUE.equals(json.getValue("nullable"))) {
+      node.types |= NULL;
+    }
+
+    Object properties = json.getValue("properties");
+    if (properties instanceof JsonObject) {
+      node.properties = new HashMap<>();
+      for (Map.Entry<String, Object> property : (JsonObject) properties) {
+        node.properties.put(property.getKey(), compile(property.getValue(), compiled, depth + 1));
+      }
+    }
+    // Properties that match a pattern are not additional properties
+    if (!json.containsKey("patternProperties") && json.containsKey("additionalProperties")) {
+      Object additionalProperties = json.getValue("additionalProperties");
+      node.additionalProperties =
+        Boolean.FALSE.equals(additionalProperties) ? null : compile(additionalProperties, compiled, depth + 1);
+    }
+    // Tuples are not checked
+    Object items = json.getValue("items");
+    if (!json.containsKey("prefixItems") && (items instanceof JsonObject || items instanceof Boolean)) {
+      node.items = compile(items, compiled, depth + 1);
+    }
+    Object required = json.getValue("required");
+    if (required instanceof JsonArray && !((JsonArray) required).isEmpty()) {
+      node.required = new HashSet<>();
+      for (Object name : (JsonArray) required) {
+        node.required.add(String.valueOf(name));
+      }
+    }
+
+    node.minItems = getLong(json, "minItems", node.minItems);
+    node.maxItems = getLong(json, "maxItems", node.maxItems);
+    node.minLength = getLong(json, "minLength", node.minLength);
+    node.maxLength = getLong(json, "maxLength", node.maxLength);
+    node.minProperties = getLong(json, "minProperties", node.minProperties);
+    node.maxProperties = getLong(json, "maxProperties", node.maxProperties);
+    return node;
+  }
+
+  private static int typeOf(String type) {
+    switch (type) {
+      case "object":
+        return OBJECT;
+      case "array":
+        return ARRAY;
+      case "string":
+        return STRING;
+      case "number":
+        return NUMBER | INTEGER;
+      case "integer":
+        return INTEGER;
+      case "boolean":
+        return BOOLEAN;
+      case "null":
+        return NULL;
+      default:
+        return ANY_TYPE;
+    }
+  }
+
+  private static long getLong(JsonObject json, String keyword, long defaultValue) {
+    Object value = json.getValue(keyword);
+    return value instanceof Number ? ((Number) value).longValue() : defaultValue;
+  }
+
+  /**
+   * @return the maximum nesting depth of the objects and arrays that are allowed by this schema, or -1 if the depth is
+   * not limited, e.g. because the schema allows additional properties of any type or is circular.
+   */
+  public int getMaxDepth() {
+    int depth = maxDepth;
+    if (depth == Integer.MIN_VALUE) {
+      depth = maxDepth(this, new IdentityHashMap<>());
+      maxDepth = depth;
+    }
+    return depth;
+  }
+
+  private static int maxDepth(StreamingJsonSchema node, Map<StreamingJsonSchema, Integer> visited) {
+    if (!node.allowsType(OBJECT) && !node.allowsType(ARRAY)) {
+      return 0;
+    }
+    Integer known = visited.get(node);
+    if (known != null) {
+      // -1 if the node is still in progress, which means the schema is circular
+      return known;
+    }
+    visited.put(node, -1);
+
+    int depth = 0;
+    if (node.allowsType(OBJECT)) {
+      for (StreamingJsonSchema property : node.properties.values()) {
+        depth = deepest(depth, maxDepth(property, visited));
+      }
+      if (node.additionalProperties != null) {
+        depth = deepest(depth, maxDepth(node.additionalProperties, visited));
+      }
+    }
+    if (node.allowsType(ARRAY)) {
+      depth = deepest(depth, maxDepth(node.items, visited));
+    }
+    int result = depth < 0 ? -1 : depth + 1;
+    visited.put(node, result);
+    return result;
+  }
+
+  private static int deepest(int depth, int other) {
+    return depth < 0 || other < 0 ? -1 : Math.max(depth, other);
+  }
+
+  /**
+   * @param type one of the type constants of this class.
+   * @return true if the type is allowed by this schema.
+   */
+  public boolean allowsType(int type) {
+    return (types & type) != 0;
+  }
+
+  /**
+   * @param name the name of a property.
+   * @return the schema of the property, or null if the property is not allowed.
+   */
+  public StreamingJsonSchema getPropertySchema(String name) {
+    StreamingJsonSchema property = properties.get(name);
+    return property == null ? additionalProperties : property;
+  }
+
+  public StreamingJsonSchema getItems() {
+    return items;
+  }
+
+  public Set<String> getRequired() {
+    return required;
+  }
+
+  public long getMinItems() {
+    return minItems;
+  }
+
+  public long getMaxItems() {
+    return maxItems;
+  }
+
+  public long getMinLength() {
+    return minLength;
+  }
+
+  public long getMaxLength() {
+    return maxLength;
+  }
+
+  public long getMinProperties() {
+    return minProperties;
+  }
+
+  public long getMaxProperties() {
+    return maxProperties;
+  }
+}
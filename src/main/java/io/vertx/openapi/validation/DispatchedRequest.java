@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.validation;
+
+import io.vertx.codegen.annotations.Nullable;
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.openapi.contract.Operation;
+import io.vertx.openapi.contract.RouteMatch;
+
+/**
+ * A request that was dispatched by a {@link RequestDispatcher}, either to the handler of its {@link Operation}, or in
+ * case of a failure to the failure handler.
+ */
+@VertxGen
+public interface DispatchedRequest {
+
+  /**
+   * @return the related request.
+   */
+  HttpServerRequest getRequest();
+
+  /**
+   * @return the matched route, or null if the request doesn't match any path of the contract.
+   */
+  @Nullable
+  RouteMatch getRoute();
+
+  /**
+   * @return the matched operation, or null if the request doesn't match any operation of the contract.
+   */
+  @Nullable
+  Operation getOperation();
+
+  /**
+   * @return the validated request, or null if the request was not (successfully) validated.
+   */
+  @Nullable
+  ValidatedRequest getValidatedRequest();
+
+  /**
+   * @return the cause why the request couldn't be dispatched to the handler of its operation, or null if it was
+   * dispatched successfully.
+   */
+  @Nullable
+  Throwable getFailure();
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.validation;
+
+import io.vertx.codegen.annotations.Fluent;
+import io.vertx.codegen.annotations.GenIgnore;
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.openapi.contract.OpenAPIContract;
+import io.vertx.openapi.validation.impl.RequestDispatcherImpl;
+
+import java.util.Map;
+
+/**
+ * A lightweight request handler for a plain {@link io.vertx.core.http.HttpServer}, which dispatches requests to the
+ * handlers of their operations.
+ * <p>
+ * Each request is matched once against the paths of the contract, validated once and then passed to the handler of
+ * the matched operation. Requests that can't be dispatched are passed to the failure handler, which by default
+ * responds with:
+ * <ul>
+ *   <li><i>404 Not Found</i> if the request doesn't match any path of the contract.</li>
+ *   <li><i>405 Method Not Allowed</i> if the matched path doesn't define an operation for the method of the
+ *   request.</li>
+ *   <li><i>501 Not Implemented</i> if no handler is registered for the matched operation.</li>
+ *   <li><i>413 Content Too Large</i> if the request body exceeds a limit of the operation.</li>
+ *   <li><i>400 Bad Request</i> if the request is invalid.</li>
+ *   <li><i>500 Internal Server Error</i> in case of any other failure.</li>
+ * </ul>
+ */
+@VertxGen
+public interface RequestDispatcher extends Handler<HttpServerRequest> {
+
+  /**
+   * Create a new {@link RequestDispatcher}.
+   *
+   * @param vertx    the related Vert.x instance
+   * @param contract the related {@link OpenAPIContract}
+   * @return an instance of {@link RequestDispatcher}.
+   */
+  static RequestDispatcher create(Vertx vertx, OpenAPIContract contract) {
+    return new RequestDispatcherImpl(vertx, contract);
+  }
+
+  /**
+   * Create a new {@link RequestDispatcher} with the passed handlers.
+   *
+   * @param vertx    the related Vert.x instance
+   * @param contract the related {@link OpenAPIContract}
+   * @param handlers the handlers keyed by the operationId of their operation.
+   * @return an instance of {@link RequestDispatcher}.
+   * @throws IllegalArgumentException if the contract doesn't contain an operation with one of the passed operationIds.
+   */
+  @GenIgnore(GenIgnore.PERMITTED_TYPE)
+  static RequestDispatcher create(Vertx vertx, OpenAPIContract contract,
+                                  Map<String, Handler<DispatchedRequest>> handlers) {
+    RequestDispatcher dispatcher = create(vertx, contract);
+    handlers.forEach(dispatcher::operation);
+    return dispatcher;
+  }
+
+  /**
+   * Registers the handler of an operation.
+   *
+   * @param operationId the operationId of the operation.
+   * @param handler     the handler, which is called with the validated request.
+   * @return this dispatcher.
+   * @throws IllegalArgumentException if the contract doesn't contain an operation with the passed operationId.
+   */
+  @Fluent
+  RequestDispatcher operation(String operationId, Handler<DispatchedRequest> handler);
+
+  /**
+   * Replaces the default failure handler.
+   *
+   * @param handler the handler, which is called with requests that couldn't be dispatched to an operation.
+   * @return this dispatcher.
+   */
+  @Fluent
+  RequestDispatcher failureHandler(Handler<DispatchedRequest> handler);
+}
@@ -19,6 +19,8 @@ import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.openapi.contract.Operation;
 import io.vertx.openapi.contract.Parameter;
+import io.vertx.openapi.contract.RouteMatch;
+import io.vertx.openapi.contract.impl.RouteMatchImpl;
 import io.vertx.openapi.validation.impl.RequestParameterImpl;
 import io.vertx.openapi.validation.impl.ValidatableRequestImpl;
 
@@ -32,6 +34,7 @@ import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static io.vertx.openapi.validation.ValidatorErrorType.ILLEGAL_VALUE;
+import static java.util.Collections.emptyMap;
 import static java.util.stream.Collectors.joining;
 
 public class RequestUtils {
@@ -56,7 +59,7 @@ public class RequestUtils {
   }
 
   /**
-   * Like {@link #extract(HttpServerRequest, Operation)}, but offers to pass a supplier fpr the body. This is
+   * Like {@link #extract(HttpServerRequest, Operation)}, but offers to pass a supplier for the body. This is
    * helpful in case that the request has already been read.
    *
    * @param request      the incoming request.
@@ -66,10 +69,84 @@ public class RequestUtils {
    */
   public static Future<ValidatableRequest> extract(HttpServerRequest request, Operation operation,
                                                    Supplier<Future<Buffer>> bodySupplier) {
+    return extract(request, operation, null, bodySupplier);
+  }
+
+  /**
+   * Like {@link #extract(HttpServerRequest, Operation)}, but the values of the path parameters are taken from the
+   * passed {@link RouteMatch}, instead of parsing the path of the request again.
+   *
+   * @param request the incoming request.
+   * @param route   the route of the related request.
+   * @return A {@link Future} holding the ValidatableRequest.
+   */
+  public static Future<ValidatableRequest> extract(HttpServerRequest request, RouteMatch route) {
+    return extract(request, route, request::body);
+  }
+
+  /**
+   * Like {@link #extract(HttpServerRequest, RouteMatch)}, but offers to pass a supplier for the body. This is
+   * helpful in case that the request has already been read.
+   *
+   * @param request      the incoming request.
+   * @param route        the route of the related request.
+   * @param bodySupplier the body supplier which can help in case that the request has already been read.
+   * @return A {@link Future} holding the ValidatableRequest.
+   */
+  public static Future<ValidatableRequest> extract(HttpServerRequest request, RouteMatch route,
+                                                   Supplier<Future<Buffer>> bodySupplier) {
+    return extract(request, route.getOperation(), route, bodySupplier);
+  }
+
+  /**
+   * Extracts and transforms the parameters of an incoming request, but not its body. Unlike
+   * {@link #extract(HttpServerRequest, Operation)} this doesn't wait for the body, so the parameters can be validated
+   * as soon as the headers of the request have arrived.
+   *
+   * @param request   the incoming request.
+   * @param operation the operation of the related request.
+   * @return the ValidatableRequest without a body.
+   * @throws ValidatorException if a value of a parameter can't be decoded.
+   */
+  public static ValidatableRequest extractParameters(HttpServerRequest request, Operation operation) {
+    return extractParameters(request, operation, null);
+  }
+
+  /**
+   * Like {@link #extractParameters(HttpServerRequest, Operation)}, but the values of the path parameters are taken from
+   * the passed {@link RouteMatch}, instead of parsing the path of the request again.
+   *
+   * @param request the incoming request.
+   * @param route   the route of the related request.
+   * @return the ValidatableRequest without a body.
+   * @throws ValidatorException if a value of a parameter can't be decoded.
+   */
+  public static ValidatableRequest extractParameters(HttpServerRequest request, RouteMatch route) {
+    return extractParameters(request, route.getOperation(), route);
+  }
+
+  private static Future<ValidatableRequest> extract(HttpServerRequest request, Operation operation, RouteMatch route,
+                                                    Supplier<Future<Buffer>> bodySupplier) {
+    ValidatableRequest parameters = extractParameters(request, operation, route);
+    if (operation.getRequestBody() == null) {
+      return Future.succeededFuture(parameters);
+    }
+
+    String contentType = request.headers().get(HttpHeaders.CONTENT_TYPE);
+    try {
+      return bodySupplier.get().map(buffer -> withBody(parameters, new RequestParameterImpl(buffer), contentType));
+    } catch (RuntimeException e) {
+      return Future.failedFuture(e);
+    }
+  }
+
+  private static ValidatableRequest extractParameters(HttpServerRequest request, Operation operation,
+                                                      RouteMatch route) {
     Map<String, RequestParameter> cookies = new HashMap<>();
     Map<String, RequestParameter> headers = new HashMap<>();
     Map<String, RequestParameter> pathParams = new HashMap<>();
     Map<String, RequestParameter> query = new HashMap<>();
+    Map<String, String> serverVariables = route == null ? emptyMap() : route.getServerVariables();
 
     for (Parameter param : operation.getParameters()) {
       switch (param.getIn()) {
@@ -80,27 +157,22 @@ public class RequestUtils {
           headers.put(param.getName(), extractHeaders(request, param));
           break;
         case PATH:
-          int segment = findPathSegment(operation.getAbsoluteOpenAPIPath(), param.getName());
-          pathParams.put(param.getName(), extractPathParameters(request, segment));
+          if (route == null) {
+            // The path is only parsed once, even if the operation has multiple path parameters.
+            route = RouteMatchImpl.of(operation, request.path());
+          }
+          pathParams.put(param.getName(), extractPathParameter(route, param));
           break;
         case QUERY:
           query.put(param.getName(), extractQuery(request, param));
       }
     }
+    return new ValidatableRequestImpl(cookies, headers, pathParams, query, null, null, serverVariables);
+  }
 
-    if (operation.getRequestBody() == null) {
-      return Future.succeededFuture(new ValidatableRequestImpl(cookies, headers, pathParams, query));
-    }
-
-    String contentType = request.headers().get(HttpHeaders.CONTENT_TYPE);
-    try {
-      return bodySupplier.get().map(buffer -> {
-        RequestParameter body = new RequestParameterImpl(buffer);
-        return new ValidatableRequestImpl(cookies, headers, pathParams, query, body, contentType);
-      });
-    } catch (RuntimeException e) {
-      return Future.failedFuture(e);
-    }
+  private static ValidatableRequest withBody(ValidatableRequest parameters, RequestParameter body, String contentType) {
+    return new ValidatableRequestImpl(parameters.getCookies(), parameters.getHeaders(), parameters.getPathParameters(),
+      parameters.getQuery(), body, contentType, parameters.getServerVariables());
   }
 
   private static RequestParameter extractCookie(HttpServerRequest request, Parameter parameter) {
@@ -118,12 +190,9 @@ public class RequestUtils {
     return new RequestParameterImpl(decodeUrl(headerValue));
   }
 
-  private static RequestParameter extractPathParameters(HttpServerRequest request, int segment) {
-    String[] pathSegments = request.path().substring(1).split("/");
-    if (pathSegments.length < segment) {
-      return EMPTY;
-    }
-    return new RequestParameterImpl(decodeUrl(pathSegments[segment - 1]));
+  private static RequestParameter extractPathParameter(RouteMatch route, Parameter parameter) {
+    String value = route.getPathParameter(parameter.getName());
+    return value == null ? EMPTY : new RequestParameterImpl(decodeUrl(value));
   }
 
   private static RequestParameter extractQuery(HttpServerRequest request, Parameter parameter) {
@@ -162,7 +231,14 @@ public class RequestUtils {
     }
   }
 
-  // VisibleForTesting
+  /**
+   * @param templatePath  the template path, e.g. "/pets/{petId}".
+   * @param parameterName the name of the path parameter.
+   * @return the index of the segment of the template path that holds the path parameter.
+   * @deprecated the path parameters are taken from a {@link RouteMatch} now, this method will be removed in the next
+   * release.
+   */
+  @Deprecated
   public static int findPathSegment(String templatePath, String parameterName) {
     int idx = templatePath.indexOf("{" + parameterName + "}");
     return (int) templatePath.subSequence(0, idx).chars().filter(c -> c == '/').count();
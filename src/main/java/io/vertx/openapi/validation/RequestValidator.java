@@ -12,6 +12,7 @@
 
 package io.vertx.openapi.validation;
 
+import io.vertx.codegen.annotations.Nullable;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
@@ -104,6 +105,18 @@ public interface RequestValidator {
     return new RequestValidatorImpl(vertx, contract);
   }
 
+  /**
+   * Create a new {@link RequestValidator}.
+   *
+   * @param vertx    the related Vert.x instance
+   * @param contract the related {@link OpenAPIContract}
+   * @param options  the options to configure how validations are executed
+   * @return an instance of {@link RequestValidator}.
+   */
+  static RequestValidator create(Vertx vertx, OpenAPIContract contract, ValidatorOptions options) {
+    return new RequestValidatorImpl(vertx, contract, options);
+  }
+
   /**
    * Like {@link #validate(ValidatableRequest, String)}, but the operationId and {@link ValidatableRequest} are
    * determined from the passed request.
@@ -117,6 +130,9 @@ public interface RequestValidator {
 
   /**
    * Like {@link #validate(ValidatableRequest, String)}, but {@link ValidatableRequest} are directly extracted from the passed request.
+   * <p></p>
+   * The parameters and the content type of the request are validated before the body is read. If they are invalid,
+   * the returned Future fails without reading the body.
    *
    * @param request     the request to validate
    * @param operationId the id of the related operation.
@@ -124,6 +140,28 @@ public interface RequestValidator {
    */
   Future<ValidatedRequest> validate(HttpServerRequest request, String operationId);
 
+  /**
+   * Like {@link #validate(HttpServerRequest, String)}, but a binary body is not read. If the media type of the request
+   * has no schema, or a schema of type <i>string</i> and format <i>binary</i> without other constraints than
+   * <i>minLength</i> and <i>maxLength</i>, only the parameters and the content type are validated. The untouched body
+   * is then available as {@link ValidatedRequest#getBodyStream()}, which checks the length and the maximum size of the
+   * body while it is read, and reports a violation to its exception handler. Bodies of other media types are read and
+   * validated as usual.
+   * <p></p>
+   * The body stream is paused, so that no data is lost until its handlers are set. It is resumed when it is piped,
+   * or by calling {@link io.vertx.core.streams.ReadStream#resume()}.
+   * <p></p>
+   * The default implementation reads and validates the body of all media types, like
+   * {@link #validate(HttpServerRequest, String)}.
+   *
+   * @param request     the request to validate
+   * @param operationId the id of the related operation.
+   * @return A succeeded Future with the parsed and validated request parameters, or a failed Future containing ValidationException.
+   */
+  default Future<ValidatedRequest> validateWithBodyStream(HttpServerRequest request, String operationId) {
+    return validate(request, operationId);
+  }
+
   /**
    * Validates the passed request parameters against the operation defined in the related OpenAPI contract.
    *
@@ -132,4 +170,55 @@ public interface RequestValidator {
    * @return A succeeded Future with the parsed and validated request parameters, or a failed Future containing ValidationException.
    */
   Future<ValidatedRequest> validate(ValidatableRequest params, String operationId);
+
+  /**
+   * Like {@link #validate(ValidatableRequest, String)}, but the request is validated synchronously on the calling
+   * thread. This method is intended for callers that already run on a worker or a virtual thread, and must not be
+   * called on an event loop, because the validation of a large body can block the thread.
+   * <p></p>
+   * The default implementation throws an {@link UnsupportedOperationException}.
+   *
+   * @param params      the request parameters to validate.
+   * @param operationId the id of the related operation.
+   * @return the parsed and validated request parameters.
+   * @throws ValidatorException if the contract doesn't contain an operation with the passed operationId, or the
+   *                            request is invalid.
+   */
+  default ValidatedRequest validateSync(ValidatableRequest params, String operationId) {
+    throw new UnsupportedOperationException("validateSync");
+  }
+
+  /**
+   * Returns the {@link ValidationPlan} of the request of the passed operation. The plan is compiled on first use and
+   * describes which checks are performed when a request of this operation is validated.
+   * <p></p>
+   * The default implementation throws an {@link UnsupportedOperationException}.
+   *
+   * @param operationId the id of the related operation.
+   * @return the {@link ValidationPlan} of the request.
+   * @throws ValidatorException if the contract doesn't contain an operation with the passed operationId.
+   */
+  default ValidationPlan getValidationPlan(String operationId) {
+    throw new UnsupportedOperationException("getValidationPlan");
+  }
+
+  /**
+   * @return the statistics about how the validations of this validator were executed, or null if the validator doesn't
+   * record them.
+   */
+  @Nullable
+  default ValidatorStats getStats() {
+    return null;
+  }
+
+  /**
+   * Closes this validator and its dedicated worker pool, if one was configured in the {@link ValidatorOptions}.
+   * <p></p>
+   * The default implementation has nothing to close.
+   *
+   * @return a Future that is completed when the validator is closed.
+   */
+  default Future<Void> close() {
+    return Future.succeededFuture();
+  }
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.validation;
+
+import io.vertx.codegen.annotations.Fluent;
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.openapi.contract.OpenAPIContract;
+import io.vertx.openapi.validation.impl.ResponseSamplerImpl;
+
+/**
+ * Detects responses that drift from the contract, without delaying them. A {@link ResponseSampler} sends a response
+ * right away and validates a sample of the sent responses afterward on a pool of low priority threads. Responses that
+ * turn out to be invalid are passed to the {@link #violationHandler(Handler) violation handler} and counted per
+ * operation and status code.
+ * <p>
+ * Which responses are validated, and how much CPU time the validations may use, is configured with the
+ * {@link ResponseSamplingOptions}. A {@link ResponseValidator} should be used instead, if invalid responses must not
+ * be sent at all.
+ */
+@VertxGen
+public interface ResponseSampler {
+
+  /**
+   * Create a new {@link ResponseSampler} with the default {@link ResponseSamplingOptions}.
+   *
+   * @param vertx    the related Vert.x instance
+   * @param contract the related {@link OpenAPIContract}
+   * @return an instance of {@link ResponseSampler}.
+   */
+  static ResponseSampler create(Vertx vertx, OpenAPIContract contract) {
+    return create(vertx, contract, new ResponseSamplingOptions());
+  }
+
+  /**
+   * Create a new {@link ResponseSampler}.
+   *
+   * @param vertx    the related Vert.x instance
+   * @param contract the related {@link OpenAPIContract}
+   * @param options  the options to configure which responses are validated
+   * @return an instance of {@link ResponseSampler}.
+   */
+  static ResponseSampler create(Vertx vertx, OpenAPIContract contract, ResponseSamplingOptions options) {
+    return new ResponseSamplerImpl(vertx, contract, options);
+  }
+
+  /**
+   * Sets the handler for invalid responses. The handler is called on the context that sent the response.
+   *
+   * @param handler the handler, which is called with every sampled response that is invalid.
+   * @return this sampler.
+   */
+  @Fluent
+  ResponseSampler violationHandler(Handler<ResponseViolation> handler);
+
+  /**
+   * Adds the status code, the headers, the content type and the body of the passed response to the
+   * {@link HttpServerResponse} and sends it without validating it first. If the response is sampled, it is validated
+   * after it was sent. The body of the passed response must not be modified afterward.
+   *
+   * @param params         the response to send.
+   * @param serverResponse the related response.
+   * @param operationId    the id of the related operation.
+   * @return A succeeded Future when the response was sent successfully, otherwise a failed one. The Future doesn't
+   * depend on the validation.
+   */
+  Future<Void> send(ValidatableResponse params, HttpServerResponse serverResponse, String operationId);
+
+  /**
+   * @param operationId the id of the related operation.
+   * @param statusCode  the status code of the responses.
+   * @return the number of responses of the passed operation and status code, which were validated.
+   */
+  long getSampledResponses(String operationId, int statusCode);
+
+  /**
+   * @param operationId the id of the related operation.
+   * @param statusCode  the status code of the responses.
+   * @return the number of responses of the passed operation and status code, which turned out to be invalid.
+   */
+  long getViolations(String operationId, int statusCode);
+
+  /**
+   * @return the number of sampled responses that were not validated, because the CPU time budget was used up or too
+   * many validations were pending.
+   */
+  long getSkippedValidations();
+
+  /**
+   * @return the total CPU time in nanoseconds that the validations used.
+   */
+  long getTotalValidationTime();
+
+  /**
+   * Closes the thread pool of this sampler. Validations that are already running are completed, pending validations
+   * are discarded.
+   *
+   * @return a Future that is completed when the sampler is closed.
+   */
+  Future<Void> close();
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.validation;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.core.json.JsonObject;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Options to configure which responses a {@link ResponseSampler} validates and how much CPU time it may spend on it.
+ * <p>
+ * A response is validated with the {@link #setOperationSampleRates(Map) sample rate of its operation}, or the
+ * {@link #setSampleRate(double) default sample rate} if its operation has none. Responses with an error status code
+ * are always validated, unless this is {@link #setAlwaysSampleErrors(boolean) disabled}.
+ * <p>
+ * Sampled responses are validated on a dedicated pool of low priority threads. A validation is skipped if the
+ * {@link #setMaxPendingValidations(int) queue} of the pool is full, or if the validations already used up their
+ * {@link #setValidationBudget(long) CPU time budget} of the current second.
+ */
+@DataObject
+public class ResponseSamplingOptions {
+
+  /**
+   * Default share of the responses that are validated = 0.01
+   */
+  public static final double DEFAULT_SAMPLE_RATE = 0.01;
+
+  /**
+   * Default value of whether responses with an error status code are always validated = true
+   */
+  public static final boolean DEFAULT_ALWAYS_SAMPLE_ERRORS = true;
+
+  /**
+   * Default CPU time in milliseconds that validations may use per second = 50
+   */
+  public static final long DEFAULT_VALIDATION_BUDGET = 50;
+
+  /**
+   * Default maximum number of validations that wait for a thread = 256
+   */
+  public static final int DEFAULT_MAX_PENDING_VALIDATIONS = 256;
+
+  /**
+   * Default number of threads that execute the validations = 1
+   */
+  public static final int DEFAULT_POOL_SIZE = 1;
+
+  private double sampleRate;
+  private Map<String, Double> operationSampleRates;
+  private boolean alwaysSampleErrors;
+  private long validationBudget;
+  private int maxPendingValidations;
+  private int poolSize;
+
+  public ResponseSamplingOptions() {
+    sampleRate = DEFAULT_SAMPLE_RATE;
+    operationSampleRates = new HashMap<>();
+    alwaysSampleErrors = DEFAULT_ALWAYS_SAMPLE_ERRORS;
+    validationBudget = DEFAULT_VALIDATION_BUDGET;
+    maxPendingValidations = DEFAULT_MAX_PENDING_VALIDATIONS;
+    poolSize = DEFAULT_POOL_SIZE;
+  }
+
+  public ResponseSamplingOptions(ResponseSamplingOptions other) {
+    sampleRate = other.sampleRate;
+    operationSampleRates = new HashMap<>(other.operationSampleRates);
+    alwaysSampleErrors = other.alwaysSampleErrors;
+    validationBudget = other.validationBudget;
+    maxPendingValidations = other.maxPendingValidations;
+    poolSize = other.poolSize;
+  }
+
+  public ResponseSamplingOptions(JsonObject json) {
+    this();
+    sampleRate = json.getDouble("sampleRate", sampleRate);
+    JsonObject rates = json.getJsonObject("operationSampleRates");
+    if (rates != null) {
+      rates.forEach(entry -> addOperationSampleRate(entry.getKey(), ((Number) entry.getValue()).doubleValue()));
+    }
+    alwaysSampleErrors = json.getBoolean("alwaysSampleErrors", alwaysSampleErrors);
+    validationBudget = json.getLong("validationBudget", validationBudget);
+    maxPendingValidations = json.getInteger("maxPendingValidations", maxPendingValidations);
+    poolSize = json.getInteger("poolSize", poolSize);
+  }
+
+  private static void checkRate(String name, double rate) {
+    if (rate < 0 || rate > 1) {
+      throw new IllegalArgumentException(name + " must be between 0 and 1");
+    }
+  }
+
+  /**
+   * @return the share of the responses that are validated, if their operation has no sample rate.
+   */
+  public double getSampleRate() {
+    return sampleRate;
+  }
+
+  /**
+   * Set the share of the responses that are validated, if their operation has no sample rate. A rate of 0 validates
+   * no responses, a rate of 1 validates all responses.
+   *
+   * @param sampleRate the sample rate between 0 and 1.
+   * @return a reference to this, so the API can be used fluently
+   */
+  public ResponseSamplingOptions setSampleRate(double sampleRate) {
+    checkRate("sampleRate", sampleRate);
+    this.sampleRate = sampleRate;
+    return this;
+  }
+
+  /**
+   * @return the sample rates keyed by the operationId of their operation.
+   */
+  public Map<String, Double> getOperationSampleRates() {
+    return operationSampleRates;
+  }
+
+  /**
+   * Set the sample rates of single operations, which override the {@link #setSampleRate(double) default sample rate}.
+   *
+   * @param operationSampleRates the sample rates between 0 and 1, keyed by the operationId of their operation.
+   * @return a reference to this, so the API can be used fluently
+   */
+  public ResponseSamplingOptions setOperationSampleRates(Map<String, Double> operationSampleRates) {
+    operationSampleRates.forEach((operationId, rate) -> checkRate("sample rate of " + operationId, rate));
+    this.operationSampleRates = new HashMap<>(operationSampleRates);
+    return this;
+  }
+
+  /**
+   * Set the sample rate of a single operation, which overrides the {@link #setSampleRate(double) default sample rate}.
+   *
+   * @param operationId the operationId of the operation.
+   * @param sampleRate  the sample rate between 0 and 1.
+   * @return a reference to this, so the API can be used fluently
+   */
+  public ResponseSamplingOptions addOperationSampleRate(String operationId, double sampleRate) {
+    checkRate("sample rate of " + operationId, sampleRate);
+    operationSampleRates.put(operationId, sampleRate);
+    return this;
+  }
+
+  /**
+   * @return true if responses with an error status code are always validated, otherwise false.
+   */
+  public boolean isAlwaysSampleErrors() {
+    return alwaysSampleErrors;
+  }
+
+  /**
+   * Set whether responses with a status code of 400 or higher are always validated, regardless of the sample rate.
+   * Error responses are often less tested than successful ones, so they are more likely to drift from the contract.
+   *
+   * @param alwaysSampleErrors true to always validate error responses.
+   * @return a reference to this, so the API can be used fluently
+   */
+  public ResponseSamplingOptions setAlwaysSampleErrors(boolean alwaysSampleErrors) {
+    this.alwaysSampleErrors = alwaysSampleErrors;
+    return this;
+  }
+
+  /**
+   * @return the CPU time in milliseconds that validations may use per second, or -1 if there is no limit.
+   */
+  public long getValidationBudget() {
+    return validationBudget;
+  }
+
+  /**
+   * Set the CPU time in milliseconds that validations may use per second. Once the budget of the current second is
+   * used up, sampled responses are not validated until the next second starts. With the default of 50 milliseconds,
+   * the validations use at most about 5% of a CPU core.
+   *
+   * @param validationBudget the CPU time in milliseconds per second, or -1 for no limit.
+   * @return a reference to this, so the API can be used fluently
+   */
+  public ResponseSamplingOptions setValidationBudget(long validationBudget) {
+    if (validationBudget < -1) {
+      throw new IllegalArgumentException("validationBudget must be >= 0 or -1");
+    }
+    this.validationBudget = validationBudget;
+    return this;
+  }
+
+  /**
+   * @return the maximum number of validations that wait for a thread.
+   */
+  public int getMaxPendingValidations() {
+    return maxPendingValidations;
+  }
+
+  /**
+   * Set the maximum number of validations that wait for a thread. Sampled responses are not validated while the queue
+   * is full, so that the responses that are kept for their validation don't pile up in memory.
+   *
+   * @param maxPendingValidations the maximum number of waiting validations.
+   * @return a reference to this, so the API can be used fluently
+   */
+  public ResponseSamplingOptions setMaxPendingValidations(int maxPendingValidations) {
+    if (maxPendingValidations < 1) {
+      throw new IllegalArgumentException("maxPendingValidations must be > 0");
+    }
+    this.maxPendingValidations = maxPendingValidations;
+    return this;
+  }
+
+  /**
+   * @return the number of threads that execute the validations.
+   */
+  public int getPoolSize() {
+    return poolSize;
+  }
+
+  /**
+   * Set the number of threads that execute the validations. The threads run with the lowest priority, so that they
+   * don't compete with the event loops for the CPU.
+   *
+   * @param poolSize the number of threads.
+   * @return a reference to this, so the API can be used fluently
+   */
+  public ResponseSamplingOptions setPoolSize(int poolSize) {
+    if (poolSize < 1) {
+      throw new IllegalArgumentException("poolSize must be > 0");
+    }
+    this.poolSize = poolSize;
+    return this;
+  }
+
+  public JsonObject toJson() {
+    JsonObject rates = new JsonObject();
+    operationSampleRates.forEach(rates::put);
+    return new JsonObject()
+      .put("sampleRate", sampleRate)
+      .put("operationSampleRates", rates)
+      .put("alwaysSampleErrors", alwaysSampleErrors)
+      .put("validationBudget", validationBudget)
+      .put("maxPendingValidations", maxPendingValidations)
+      .put("poolSize", poolSize);
+  }
+}
@@ -12,8 +12,13 @@
 
 package io.vertx.openapi.validation;
 
+import io.vertx.codegen.annotations.Nullable;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.core.streams.WriteStream;
 import io.vertx.openapi.contract.OpenAPIContract;
 import io.vertx.openapi.validation.impl.ResponseValidatorImpl;
 
@@ -53,6 +58,18 @@ public interface ResponseValidator {
     return new ResponseValidatorImpl(vertx, contract);
   }
 
+  /**
+   * Create a new {@link ResponseValidator}.
+   *
+   * @param vertx    the related Vert.x instance
+   * @param contract the related {@link OpenAPIContract}
+   * @param options  the options to configure how validations are executed
+   * @return an instance of {@link ResponseValidator}.
+   */
+  static ResponseValidator create(Vertx vertx, OpenAPIContract contract, ValidatorOptions options) {
+    return new ResponseValidatorImpl(vertx, contract, options);
+  }
+
   /**
    * Validates the passed response parameters against the operation defined in the related OpenAPI contract.
    *
@@ -61,4 +78,104 @@ public interface ResponseValidator {
    * @return A succeeded Future with the parsed and validated response parameters, or a failed Future containing ValidationException.
    */
   Future<ValidatedResponse> validate(ValidatableResponse params, String operationId);
+
+  /**
+   * Like {@link #validate(ValidatableResponse, String)}, but the body is passed as a stream. If the media type of the
+   * response has no schema, or a schema of type <i>string</i> and format <i>binary</i> without other constraints than
+   * <i>minLength</i> and <i>maxLength</i>, only the headers and the content type are validated, and the body is passed
+   * through when the response is {@link ValidatedResponse#send(io.vertx.core.http.HttpServerResponse) sent}. Its
+   * length is checked while it is sent, if it is violated the response is reset. Bodies of other media types are read
+   * and validated as usual.
+   * <p></p>
+   * The default implementation returns a failed Future with an {@link UnsupportedOperationException}.
+   *
+   * @param params      the response parameters to validate, without body.
+   * @param body        the body of the response.
+   * @param operationId the id of the related operation.
+   * @return A succeeded Future with the parsed and validated response parameters, or a failed Future containing ValidationException.
+   */
+  default Future<ValidatedResponse> validateWithBodyStream(ValidatableResponse params, ReadStream<Buffer> body,
+                                                           String operationId) {
+    return Future.failedFuture(new UnsupportedOperationException("validateWithBodyStream"));
+  }
+
+  /**
+   * Validates the status code, the headers and the content type of a response and sets them on the passed
+   * {@link HttpServerResponse}. The body is then written to the returned {@link WriteStream}, which validates it chunk
+   * by chunk while it is written to the response with chunked encoding, so that the body never has to be kept in
+   * memory. A JSON body is checked against the types, properties, items and size limits of its schema, which are the
+   * keywords that can be checked without aggregating the body. If none of them can be checked, e.g. because the schema
+   * is a reference, the JSON body is only checked to be well-formed. A binary body is checked against its length.
+   * <p></p>
+   * If invalid content is written, the response is reset, because the chunks that were written before have already
+   * been sent. The violation is reported to the exception handler of the stream, and fails the Future of the write or
+   * end operation.
+   * <p></p>
+   * The default implementation returns a failed Future with an {@link UnsupportedOperationException}.
+   *
+   * @param params         the response parameters to validate, without body.
+   * @param serverResponse the response to write the body to.
+   * @param operationId    the id of the related operation.
+   * @return A succeeded Future with the stream to write the body to, or a failed Future containing ValidationException,
+   * if the status code, headers or content type are invalid, or the body of the content type can't be validated while
+   * it is written.
+   */
+  default Future<WriteStream<Buffer>> validateWithWriteStream(ValidatableResponse params,
+                                                             HttpServerResponse serverResponse, String operationId) {
+    return Future.failedFuture(new UnsupportedOperationException("validateWithWriteStream"));
+  }
+
+  /**
+   * Like {@link #validate(ValidatableResponse, String)}, but the response is validated synchronously on the calling
+   * thread. This method is intended for callers that already run on a worker or a virtual thread, and must not be
+   * called on an event loop, because the validation of a large body can block the thread.
+   * <p></p>
+   * The default implementation throws an {@link UnsupportedOperationException}.
+   *
+   * @param params      the response parameters to validate.
+   * @param operationId the id of the related operation.
+   * @return the parsed and validated response parameters.
+   * @throws ValidatorException if the contract doesn't contain an operation with the passed operationId, the operation
+   *                            doesn't define a response for the status code, or the response is invalid.
+   */
+  default ValidatedResponse validateSync(ValidatableResponse params, String operationId) {
+    throw new UnsupportedOperationException("validateSync");
+  }
+
+  /**
+   * Returns the {@link ValidationPlan} of the response of the passed operation, which is used for the passed status
+   * code. The plan is compiled on first use and describes which checks are performed when such a response is
+   * validated.
+   * <p></p>
+   * The default implementation throws an {@link UnsupportedOperationException}.
+   *
+   * @param operationId the id of the related operation.
+   * @param statusCode  the status code of the response.
+   * @return the {@link ValidationPlan} of the response.
+   * @throws ValidatorException if the contract doesn't contain an operation with the passed operationId, or the
+   *                            operation doesn't define a response for the passed status code.
+   */
+  default ValidationPlan getValidationPlan(String operationId, int statusCode) {
+    throw new UnsupportedOperationException("getValidationPlan");
+  }
+
+  /**
+   * @return the statistics about how the validations of this validator were executed, or null if the validator doesn't
+   * record them.
+   */
+  @Nullable
+  default ValidatorStats getStats() {
+    return null;
+  }
+
+  /**
+   * Closes this validator and its dedicated worker pool, if one was configured in the {@link ValidatorOptions}.
+   * <p></p>
+   * The default implementation has nothing to close.
+   *
+   * @return a Future that is completed when the validator is closed.
+   */
+  default Future<Void> close() {
+    return Future.succeededFuture();
+  }
 }
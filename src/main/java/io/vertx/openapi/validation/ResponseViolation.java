@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.validation;
+
+import io.vertx.codegen.annotations.VertxGen;
+
+/**
+ * A response that was sent by a {@link ResponseSampler} and turned out to be invalid when it was validated afterward.
+ */
+@VertxGen
+public interface ResponseViolation {
+
+  /**
+   * @return the id of the operation the response was sent for.
+   */
+  String getOperationId();
+
+  /**
+   * @return the status code of the response.
+   */
+  int getStatusCode();
+
+  /**
+   * @return the response that was sent.
+   */
+  ValidatableResponse getResponse();
+
+  /**
+   * @return the cause why the response is invalid, usually a {@link ValidatorException}.
+   */
+  Throwable getFailure();
+}
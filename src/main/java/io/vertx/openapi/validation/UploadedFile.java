@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.validation;
+
+import io.vertx.codegen.annotations.VertxGen;
+
+/**
+ * A part of a multipart/form-data request body that exceeded the
+ * {@link ValidatorOptions#setMultipartSpillThreshold(long) spill threshold} and was therefore streamed to a temporary
+ * file instead of being kept in memory. In the validated body, the value of the related property is an UploadedFile.
+ * <p>
+ * The file is deleted automatically when the response of the request has been sent, or when its connection is closed
+ * before. For this, the body end handler and the close handler of the response are used, which therefore must not be
+ * replaced.
+ */
+@VertxGen
+public interface UploadedFile {
+
+  /**
+   * @return the name of the part.
+   */
+  String getName();
+
+  /**
+   * @return the content type of the part.
+   */
+  String getContentType();
+
+  /**
+   * @return the path of the temporary file that contains the body of the part.
+   */
+  String getPath();
+
+  /**
+   * @return the size of the body of the part in bytes.
+   */
+  long getSize();
+}
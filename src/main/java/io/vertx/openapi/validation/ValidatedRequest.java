@@ -12,8 +12,12 @@
 
 package io.vertx.openapi.validation;
 
+import io.vertx.codegen.annotations.Nullable;
 import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
 
+import java.util.Collections;
 import java.util.Map;
 
 @VertxGen
@@ -43,4 +47,23 @@ public interface ValidatedRequest {
    * @return the body.
    */
   RequestParameter getBody();
+
+  /**
+   * @return the body as a stream, if the request was validated with
+   * {@link RequestValidator#validateWithBodyStream(io.vertx.core.http.HttpServerRequest, String)} and its body is
+   * binary. In this case {@link #getBody()} is empty, otherwise null.
+   */
+  @Nullable
+  default ReadStream<Buffer> getBodyStream() {
+    return null;
+  }
+
+  /**
+   * @return the values of the server variables, which are part of the base path of the matched server. In case that
+   * the request was not matched against the servers of the contract, e.g. because it was validated for a passed
+   * operationId, the map is empty.
+   */
+  default Map<String, String> getServerVariables() {
+    return Collections.emptyMap();
+  }
 }
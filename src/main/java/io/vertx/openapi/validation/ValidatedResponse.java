@@ -12,9 +12,12 @@
 
 package io.vertx.openapi.validation;
 
+import io.vertx.codegen.annotations.Nullable;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.streams.ReadStream;
 
 import java.util.Map;
 
@@ -32,7 +35,18 @@ public interface ValidatedResponse {
   ResponseParameter getBody();
 
   /**
-   * Add all parameters from the validated response to the passed {@link HttpServerResponse} and send it.
+   * @return the body as a stream, if the response was validated with
+   * {@link ResponseValidator#validateWithBodyStream(ValidatableResponse, ReadStream, String)} and its body is binary.
+   * In this case {@link #getBody()} is empty, otherwise null.
+   */
+  @Nullable
+  default ReadStream<Buffer> getBodyStream() {
+    return null;
+  }
+
+  /**
+   * Add all parameters from the validated response to the passed {@link HttpServerResponse} and send it. A
+   * {@link #getBodyStream() body stream} is piped to the response, which is reset if the body turns out to be invalid.
    *
    * @param serverResponse The related response
    * @return A succeeded Future when the response was sent successfully, otherwise a failed one.
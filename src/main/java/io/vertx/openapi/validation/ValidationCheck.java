@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.validation;
+
+import io.vertx.codegen.annotations.Nullable;
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.openapi.contract.Location;
+import io.vertx.openapi.contract.Style;
+
+/**
+ * A single check of a {@link ValidationPlan}, which either validates a parameter or the body in a specific media type.
+ */
+@VertxGen
+public interface ValidationCheck {
+
+  /**
+   * @return the name of the parameter, or the identifier of the media type in case of a body check.
+   */
+  String getName();
+
+  /**
+   * @return true if this check validates the body, otherwise false.
+   */
+  boolean isBody();
+
+  /**
+   * @return the location of the parameter, or null in case of a body check.
+   */
+  @Nullable
+  Location getLocation();
+
+  /**
+   * @return the style of the parameter, or null in case of a body check.
+   */
+  @Nullable
+  Style getStyle();
+
+  /**
+   * @return true if the value is required, otherwise false.
+   */
+  boolean isRequired();
+
+  /**
+   * @return true if the raw value can be transformed before it is validated, false if the format of the value is not
+   * supported and the check will fail for any value.
+   */
+  boolean isTransformable();
+
+  /**
+   * @return true if the transformed value is validated against a schema, otherwise false.
+   */
+  boolean isSchemaValidated();
+
+  /**
+   * @return the estimated cost of the schema validation, which is the number of keywords of the schema including the
+   * keywords of nested schemas, or 0 if the value is not validated against a schema.
+   */
+  int getEstimatedCost();
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.validation;
+
+import io.vertx.codegen.annotations.VertxGen;
+
+import java.util.List;
+
+/**
+ * A {@link ValidationPlan} describes the checks that are performed to validate the request or a response of an
+ * operation. The plan is compiled once per operation, or per response of an operation, and is immutable afterwards.
+ */
+@VertxGen
+public interface ValidationPlan {
+
+  /**
+   * @return the operationId of the related operation.
+   */
+  String getOperationId();
+
+  /**
+   * @return the checks of the parameters in the order in which they are performed.
+   */
+  List<ValidationCheck> getParameterChecks();
+
+  /**
+   * @return the checks of the body, one per declared media type.
+   */
+  List<ValidationCheck> getBodyChecks();
+
+  /**
+   * @return true if a body is required, otherwise false.
+   */
+  boolean isBodyRequired();
+
+  /**
+   * @return the estimated cost of a validation, which is the sum of the estimated costs of all parameter checks and
+   * the estimated cost of the most expensive body check.
+   */
+  int getEstimatedCost();
+}
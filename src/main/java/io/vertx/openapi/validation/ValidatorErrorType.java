@@ -49,5 +49,10 @@ public enum ValidatorErrorType {
   /**
    * The response can't get validated due to missing response definition for the related status code information.
    */
-  MISSING_RESPONSE
+  MISSING_RESPONSE,
+
+  /**
+   * The body of the request exceeds a size or structure limit of the related operation.
+   */
+  BODY_TOO_LARGE
 }
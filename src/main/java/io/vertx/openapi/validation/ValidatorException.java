@@ -15,6 +15,7 @@ package io.vertx.openapi.validation;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.openapi.contract.Parameter;
 
+import static io.vertx.openapi.validation.ValidatorErrorType.BODY_TOO_LARGE;
 import static io.vertx.openapi.validation.ValidatorErrorType.ILLEGAL_VALUE;
 import static io.vertx.openapi.validation.ValidatorErrorType.INVALID_VALUE_FORMAT;
 import static io.vertx.openapi.validation.ValidatorErrorType.MISSING_OPERATION;
@@ -81,6 +82,16 @@ public class ValidatorException extends RuntimeException {
     return new ValidatorException(msg, MISSING_RESPONSE);
   }
 
+  public static ValidatorException createUnsupportedBodyFormat(ValidationContext requestOrResponse) {
+    String msg = String.format("The format of the %s body is not supported", requestOrResponse);
+    return new ValidatorException(msg, UNSUPPORTED_VALUE_FORMAT);
+  }
+
+  public static ValidatorException createBodyTooLarge(ValidationContext requestOrResponse, String limit) {
+    String msg = String.format("The %s body exceeds the limit: %s", requestOrResponse, limit);
+    return new ValidatorException(msg, BODY_TOO_LARGE);
+  }
+
   public ValidatorErrorType type() {
     return type;
   }
@@ -0,0 +1,623 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.validation;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Options to configure how a {@link RequestValidator} or a {@link ResponseValidator} executes validations.
+ * <p>
+ * By default, every validation is executed on a worker thread. If <i>inline validation</i> is enabled, cheap
+ * validations are executed directly on the calling thread, which is usually an event loop. A validation is considered
+ * cheap if the body doesn't exceed {@link #getInlineMaxBodySize()} and the estimated cost of the schemas to validate
+ * doesn't exceed {@link #getInlineMaxSchemaCost()}.
+ * <p>
+ * Validations that are not executed inline are executed on the default worker pool of Vert.x, unless a
+ * {@link #setWorkerPoolName(String) worker pool name} is set. In this case the validations are executed on a dedicated
+ * worker pool, so that they don't compete with other blocking code like JDBC calls or file I/O. Alternatively,
+ * validations can be executed on {@link #setVirtualThreads(boolean) virtual threads}, which requires Java 21 or later.
+ * <p>
+ * If {@link #setBatchMaxSize(int) batching} is enabled, small validations that are started from the same event loop
+ * are collected and executed together in a single worker task. A validation is considered small if the body doesn't
+ * exceed {@link #getBatchMaxBodySize()} and the estimated cost of the schemas to validate doesn't exceed
+ * {@link #getBatchMaxSchemaCost()}, all others are executed in their own worker task.
+ * <p>
+ * If {@link #setStreamingJsonValidation(boolean) streaming JSON validation} is enabled, a JSON request body is checked
+ * while it is read, so that an invalid body is rejected before it is read completely. This is an opt-in for early
+ * rejection only, a valid body is still aggregated in memory and parsed again for the full validation.
+ * <p>
+ * The size of a request body, the nesting depth of a JSON request body and the length of its arrays and strings can be
+ * limited. These limits can be overridden per operation with extensions of the request body in the contract, and are
+ * enforced while the body is read.
+ * <p>
+ * If a {@link #setMultipartSpillThreshold(long) spill threshold} is set, large binary parts of a multipart/form-data
+ * request body are streamed to temporary files instead of being kept in memory.
+ */
+@DataObject
+public class ValidatorOptions {
+
+  /**
+   * Default value of whether cheap validations are executed inline = false
+   */
+  public static final boolean DEFAULT_INLINE_VALIDATION = false;
+
+  /**
+   * Default maximum size in bytes of a body that is validated inline = 1024
+   */
+  public static final int DEFAULT_INLINE_MAX_BODY_SIZE = 1024;
+
+  /**
+   * Default maximum estimated schema cost of a validation that is executed inline = 64
+   */
+  public static final int DEFAULT_INLINE_MAX_SCHEMA_COST = 64;
+
+  /**
+   * Default name of the dedicated worker pool = null, which means the default worker pool of Vert.x is used
+   */
+  public static final String DEFAULT_WORKER_POOL_NAME = null;
+
+  /**
+   * Default size of the dedicated worker pool = 20
+   */
+  public static final int DEFAULT_WORKER_POOL_SIZE = VertxOptions.DEFAULT_WORKER_POOL_SIZE;
+
+  /**
+   * Default value of whether validations are executed on virtual threads = false
+   */
+  public static final boolean DEFAULT_VIRTUAL_THREADS = false;
+
+  /**
+   * Default maximum number of validations per batch = 1, which means batching is disabled
+   */
+  public static final int DEFAULT_BATCH_MAX_SIZE = 1;
+
+  /**
+   * Default maximum delay in milliseconds of a batch = 0, which means a batch is executed as soon as the event loop has
+   * processed its pending events
+   */
+  public static final long DEFAULT_BATCH_MAX_DELAY = 0;
+
+  /**
+   * Default maximum size in bytes of a body that is validated in a batch = 8192
+   */
+  public static final int DEFAULT_BATCH_MAX_BODY_SIZE = 8192;
+
+  /**
+   * Default maximum estimated schema cost of a validation that is executed in a batch = 512
+   */
+  public static final int DEFAULT_BATCH_MAX_SCHEMA_COST = 512;
+
+  /**
+   * Default value of streaming JSON validation = false
+   */
+  public static final boolean DEFAULT_STREAMING_JSON_VALIDATION = false;
+
+  /**
+   * Default maximum size in bytes of a request body = -1, which means no limit
+   */
+  public static final long DEFAULT_MAX_BODY_SIZE = -1;
+
+  /**
+   * Default maximum nesting depth of a JSON request body = -1, which means no limit
+   */
+  public static final int DEFAULT_MAX_BODY_DEPTH = -1;
+
+  /**
+   * Default maximum length of the arrays of a JSON request body = -1, which means no limit
+   */
+  public static final int DEFAULT_MAX_ARRAY_LENGTH = -1;
+
+  /**
+   * Default maximum length of the strings of a JSON request body = -1, which means no limit
+   */
+  public static final int DEFAULT_MAX_STRING_LENGTH = -1;
+
+  /**
+   * Default size in bytes above which a binary part of a multipart request body is streamed to a temporary file = -1,
+   * which means that parts are never streamed to temporary files
+   */
+  public static final long DEFAULT_MULTIPART_SPILL_THRESHOLD = -1;
+
+  /**
+   * Default directory of the temporary files of multipart request bodies = file-uploads
+   */
+  public static final String DEFAULT_UPLOADS_DIRECTORY = "file-uploads";
+
+  private boolean inlineValidation;
+  private int inlineMaxBodySize;
+  private int inlineMaxSchemaCost;
+  private String workerPoolName;
+  private int workerPoolSize;
+  private boolean virtualThreads;
+  private int batchMaxSize;
+  private long batchMaxDelay;
+  private int batchMaxBodySize;
+  private int batchMaxSchemaCost;
+  private boolean streamingJsonValidation;
+  private long maxBodySize;
+  private int maxBodyDepth;
+  private int maxArrayLength;
+  private int maxStringLength;
+  private long multipartSpillThreshold;
+  private String uploadsDirectory;
+
+  public ValidatorOptions() {
+    inlineValidation = DEFAULT_INLINE_VALIDATION;
+    inlineMaxBodySize = DEFAULT_INLINE_MAX_BODY_SIZE;
+    inlineMaxSchemaCost = DEFAULT_INLINE_MAX_SCHEMA_COST;
+    workerPoolName = DEFAULT_WORKER_POOL_NAME;
+    workerPoolSize = DEFAULT_WORKER_POOL_SIZE;
+    virtualThreads = DEFAULT_VIRTUAL_THREADS;
+    batchMaxSize = DEFAULT_BATCH_MAX_SIZE;
+    batchMaxDelay = DEFAULT_BATCH_MAX_DELAY;
+    batchMaxBodySize = DEFAULT_BATCH_MAX_BODY_SIZE;
+    batchMaxSchemaCost = DEFAULT_BATCH_MAX_SCHEMA_COST;
+    streamingJsonValidation = DEFAULT_STREAMING_JSON_VALIDATION;
+    maxBodySize = DEFAULT_MAX_BODY_SIZE;
+    maxBodyDepth = DEFAULT_MAX_BODY_DEPTH;
+    maxArrayLength = DEFAULT_MAX_ARRAY_LENGTH;
+    maxStringLength = DEFAULT_MAX_STRING_LENGTH;
+    multipartSpillThreshold = DEFAULT_MULTIPART_SPILL_THRESHOLD;
+    uploadsDirectory = DEFAULT_UPLOADS_DIRECTORY;
+  }
+
+  public ValidatorOptions(ValidatorOptions other) {
+    inlineValidation = other.inlineValidation;
+    inlineMaxBodySize = other.inlineMaxBodySize;
+    inlineMaxSchemaCost = other.inlineMaxSchemaCost;
+    workerPoolName = other.workerPoolName;
+    workerPoolSize = other.workerPoolSize;
+    virtualThreads = other.virtualThreads;
+    batchMaxSize = other.batchMaxSize;
+    batchMaxDelay = other.batchMaxDelay;
+    batchMaxBodySize = other.batchMaxBodySize;
+    batchMaxSchemaCost = other.batchMaxSchemaCost;
+    streamingJsonValidation = other.streamingJsonValidation;
+    maxBodySize = other.maxBodySize;
+    maxBodyDepth = other.maxBodyDepth;
+    maxArrayLength = other.maxArrayLength;
+    maxStringLength = other.maxStringLength;
+    multipartSpillThreshold = other.multipartSpillThreshold;
+    uploadsDirectory = other.uploadsDirectory;
+  }
+
+  public ValidatorOptions(JsonObject json) {
+    this();
+    inlineValidation = json.getBoolean("inlineValidation", inlineValidation);
+    inlineMaxBodySize = json.getInteger("inlineMaxBodySize", inlineMaxBodySize);
+    inlineMaxSchemaCost = json.getInteger("inlineMaxSchemaCost", inlineMaxSchemaCost);
+    workerPoolName = json.getString("workerPoolName", workerPoolName);
+    workerPoolSize = json.getInteger("workerPoolSize", workerPoolSize);
+    virtualThreads = json.getBoolean("virtualThreads", virtualThreads);
+    batchMaxSize = json.getInteger("batchMaxSize", batchMaxSize);
+    batchMaxDelay = json.getLong("batchMaxDelay", batchMaxDelay);
+    batchMaxBodySize = json.getInteger("batchMaxBodySize", batchMaxBodySize);
+    batchMaxSchemaCost = json.getInteger("batchMaxSchemaCost", batchMaxSchemaCost);
+    streamingJsonValidation = json.getBoolean("streamingJsonValidation", streamingJsonValidation);
+    maxBodySize = json.getLong("maxBodySize", maxBodySize);
+    maxBodyDepth = json.getInteger("maxBodyDepth", maxBodyDepth);
+    maxArrayLength = json.getInteger("maxArrayLength", maxArrayLength);
+    maxStringLength = json.getInteger("maxStringLength", maxStringLength);
+    multipartSpillThreshold = json.getLong("multipartSpillThreshold", multipartSpillThreshold);
+    uploadsDirectory = json.getString("uploadsDirectory", uploadsDirectory);
+  }
+
+  /**
+   * @return true if cheap validations are executed inline, otherwise false.
+   */
+  public boolean isInlineValidation() {
+    return inlineValidation;
+  }
+
+  /**
+   * Set whether cheap validations are executed inline on the calling thread, instead of on a worker thread.
+   *
+   * @param inlineValidation true to execute cheap validations inline.
+   * @return a reference to this, so the API can be used fluently
+   */
+  public ValidatorOptions setInlineValidation(boolean inlineValidation) {
+    this.inlineValidation = inlineValidation;
+    return this;
+  }
+
+  /**
+   * @return the maximum size in bytes of a body that is validated inline.
+   */
+  public int getInlineMaxBodySize() {
+    return inlineMaxBodySize;
+  }
+
+  /**
+   * Set the maximum size in bytes of a body that is validated inline. Requests or responses with a larger body are
+   * always validated on a worker thread.
+   *
+   * @param inlineMaxBodySize the maximum body size in bytes.
+   * @return a reference to this, so the API can be used fluently
+   */
+  public ValidatorOptions setInlineMaxBodySize(int inlineMaxBodySize) {
+    if (inlineMaxBodySize < 0) {
+      throw new IllegalArgumentException("inlineMaxBodySize must be >= 0");
+    }
+    this.inlineMaxBodySize = inlineMaxBodySize;
+    return this;
+  }
+
+  /**
+   * @return the maximum estimated schema cost of a validation that is executed inline.
+   */
+  public int getInlineMaxSchemaCost() {
+    return inlineMaxSchemaCost;
+  }
+
+  /**
+   * Set the maximum estimated schema cost of a validation that is executed inline. The cost of a schema is estimated
+   * by the number of its keywords, including the keywords of nested schemas. The cost of a validation is the sum of
+   * the costs of all parameter schemas and the cost of the most expensive body schema, see
+   * {@link ValidationPlan#getEstimatedCost()}.
+   *
+   * @param inlineMaxSchemaCost the maximum estimated schema cost.
+   * @return a reference to this, so the API can be used fluently
+   */
+  public ValidatorOptions setInlineMaxSchemaCost(int inlineMaxSchemaCost) {
+    if (inlineMaxSchemaCost < 0) {
+      throw new IllegalArgumentException("inlineMaxSchemaCost must be >= 0");
+    }
+    this.inlineMaxSchemaCost = inlineMaxSchemaCost;
+    return this;
+  }
+
+  /**
+   * @return the name of the dedicated worker pool, or null if the default worker pool of Vert.x is used.
+   */
+  public String getWorkerPoolName() {
+    return workerPoolName;
+  }
+
+  /**
+   * Set the name of a dedicated worker pool for validations. Worker pools with the same name are shared, e.g. between
+   * a {@link RequestValidator} and a {@link ResponseValidator}.
+   *
+   * @param workerPoolName the name of the worker pool, or null to use the default worker pool of Vert.x.
+   * @return a reference to this, so the API can be used fluently
+   */
+  public ValidatorOptions setWorkerPoolName(String workerPoolName) {
+    this.workerPoolName = workerPoolName;
+    return this;
+  }
+
+  /**
+   * @return the size of the dedicated worker pool.
+   */
+  public int getWorkerPoolSize() {
+    return workerPoolSize;
+  }
+
+  /**
+   * Set the size of the dedicated worker pool. Only applies if a {@link #setWorkerPoolName(String) worker pool name}
+   * is set.
+   *
+   * @param workerPoolSize the number of threads of the worker pool.
+   * @return a reference to this, so the API can be used fluently
+   */
+  public ValidatorOptions setWorkerPoolSize(int workerPoolSize) {
+    if (workerPoolSize < 1) {
+      throw new IllegalArgumentException("workerPoolSize must be > 0");
+    }
+    this.workerPoolSize = workerPoolSize;
+    return this;
+  }
+
+  /**
+   * @return true if validations that are not executed inline are executed on virtual threads, otherwise false.
+   */
+  public boolean isVirtualThreads() {
+    return virtualThreads;
+  }
+
+  /**
+   * Set whether validations that are not executed inline are executed on virtual threads instead of a worker pool.
+   * This allows many concurrent validations of large bodies without sizing a worker pool. If enabled, the
+   * {@link #setWorkerPoolName(String) worker pool} options are ignored.
+   * <p>
+   * Virtual threads require Java 21 or later, creating a validator with this option on an older Java version fails
+   * with an {@link IllegalStateException}.
+   *
+   * @param virtualThreads true to execute validations on virtual threads.
+   * @return a reference to this, so the API can be used fluently
+   */
+  public ValidatorOptions setVirtualThreads(boolean virtualThreads) {
+    this.virtualThreads = virtualThreads;
+    return this;
+  }
+
+  /**
+   * @return the maximum number of validations per batch.
+   */
+  public int getBatchMaxSize() {
+    return batchMaxSize;
+  }
+
+  /**
+   * Set the maximum number of validations that are executed together in a single worker task. Batching reduces the
+   * overhead of scheduling a worker task for each validation, at the cost of additional latency. A value of 1
+   * disables batching.
+   *
+   * @param batchMaxSize the maximum number of validations per batch.
+   * @return a reference to this, so the API can be used fluently
+   */
+  public ValidatorOptions setBatchMaxSize(int batchMaxSize) {
+    if (batchMaxSize < 1) {
+      throw new IllegalArgumentException("batchMaxSize must be > 0");
+    }
+    this.batchMaxSize = batchMaxSize;
+    return this;
+  }
+
+  /**
+   * @return the maximum delay in milliseconds of a batch.
+   */
+  public long getBatchMaxDelay() {
+    return batchMaxDelay;
+  }
+
+  /**
+   * Set the maximum delay in milliseconds between the first validation of a batch and the execution of the batch. A
+   * batch is executed earlier if it reaches the {@link #setBatchMaxSize(int) maximum size}. With a delay of 0 a batch
+   * is executed as soon as the event loop has processed its pending events.
+   *
+   * @param batchMaxDelay the maximum delay in milliseconds.
+   * @return a reference to this, so the API can be used fluently
+   */
+  public ValidatorOptions setBatchMaxDelay(long batchMaxDelay) {
+    if (batchMaxDelay < 0) {
+      throw new IllegalArgumentException("batchMaxDelay must be >= 0");
+    }
+    this.batchMaxDelay = batchMaxDelay;
+    return this;
+  }
+
+  /**
+   * @return the maximum size in bytes of a body that is validated in a batch.
+   */
+  public int getBatchMaxBodySize() {
+    return batchMaxBodySize;
+  }
+
+  /**
+   * Set the maximum size in bytes of a body that is validated in a batch. Requests or responses with a larger body are
+   * validated in their own worker task, so that they don't delay the other validations of a batch.
+   *
+   * @param batchMaxBodySize the maximum body size in bytes.
+   * @return a reference to this, so the API can be used fluently
+   */
+  public ValidatorOptions setBatchMaxBodySize(int batchMaxBodySize) {
+    if (batchMaxBodySize < 0) {
+      throw new IllegalArgumentException("batchMaxBodySize must be >= 0");
+    }
+    this.batchMaxBodySize = batchMaxBodySize;
+    return this;
+  }
+
+  /**
+   * @return the maximum estimated schema cost of a validation that is executed in a batch.
+   */
+  public int getBatchMaxSchemaCost() {
+    return batchMaxSchemaCost;
+  }
+
+  /**
+   * Set the maximum estimated schema cost of a validation that is executed in a batch. More expensive validations are
+   * executed in their own worker task, see {@link #setInlineMaxSchemaCost(int)} for how the cost is estimated.
+   *
+   * @param batchMaxSchemaCost the maximum estimated schema cost.
+   * @return a reference to this, so the API can be used fluently
+   */
+  public ValidatorOptions setBatchMaxSchemaCost(int batchMaxSchemaCost) {
+    if (batchMaxSchemaCost < 0) {
+      throw new IllegalArgumentException("batchMaxSchemaCost must be >= 0");
+    }
+    this.batchMaxSchemaCost = batchMaxSchemaCost;
+    return this;
+  }
+
+  /**
+   * @return true if JSON request bodies are checked while they are read.
+   */
+  public boolean isStreamingJsonValidation() {
+    return streamingJsonValidation;
+  }
+
+  /**
+   * Set whether a JSON request body is checked while it is read. The chunks of the body are parsed on the event loop
+   * as they arrive and checked against the types, properties, items and size limits of the schema, so that the request
+   * fails as soon as a violation is read. A body that passes these checks is validated against the full schema
+   * afterward. This only applies to requests that are validated from a {@link io.vertx.core.http.HttpServerRequest}.
+   * <p>
+   * Streaming JSON validation only rejects invalid bodies early, it doesn't reduce memory usage: the body is still
+   * aggregated in memory and a valid body is parsed a second time for the full validation, which adds CPU cost on the
+   * event loop. Use the {@link #setMaxBodySize(long) size} and structure limits to bound the memory of a request body.
+   *
+   * @param streamingJsonValidation true to check JSON request bodies while they are read.
+   * @return a reference to this, so the API can be used fluently
+   */
+  public ValidatorOptions setStreamingJsonValidation(boolean streamingJsonValidation) {
+    this.streamingJsonValidation = streamingJsonValidation;
+    return this;
+  }
+
+  /**
+   * @return the maximum size in bytes of a request body, or -1 if there is no limit.
+   */
+  public long getMaxBodySize() {
+    return maxBodySize;
+  }
+
+  /**
+   * Set the maximum size in bytes of a request body. A request with a larger body is rejected as soon as the
+   * <i>Content-Length</i> header or the read part of the body exceeds the limit. Can be overridden per operation with
+   * the extension <i>x-max-body-size</i> of the request body.
+   *
+   * @param maxBodySize the maximum size in bytes, or -1 for no limit.
+   * @return a reference to this, so the API can be used fluently
+   */
+  public ValidatorOptions setMaxBodySize(long maxBodySize) {
+    if (maxBodySize < -1) {
+      throw new IllegalArgumentException("maxBodySize must be >= 0 or -1");
+    }
+    this.maxBodySize = maxBodySize;
+    return this;
+  }
+
+  /**
+   * @return the maximum nesting depth of a JSON request body, or -1 if there is no limit.
+   */
+  public int getMaxBodyDepth() {
+    return maxBodyDepth;
+  }
+
+  /**
+   * Set the maximum nesting depth of the objects and arrays of a JSON request body. If the schema of the body limits
+   * the depth, the lower limit applies. Can be overridden per operation with the extension <i>x-max-body-depth</i> of
+   * the request body.
+   *
+   * @param maxBodyDepth the maximum nesting depth, or -1 for no limit.
+   * @return a reference to this, so the API can be used fluently
+   */
+  public ValidatorOptions setMaxBodyDepth(int maxBodyDepth) {
+    if (maxBodyDepth < -1) {
+      throw new IllegalArgumentException("maxBodyDepth must be >= 0 or -1");
+    }
+    this.maxBodyDepth = maxBodyDepth;
+    return this;
+  }
+
+  /**
+   * @return the maximum length of the arrays of a JSON request body, or -1 if there is no limit.
+   */
+  public int getMaxArrayLength() {
+    return maxArrayLength;
+  }
+
+  /**
+   * Set the maximum length of the arrays of a JSON request body. This limit applies to all arrays, in addition to the
+   * <i>maxItems</i> keywords of the schema. Can be overridden per operation with the extension
+   * <i>x-max-array-length</i> of the request body.
+   *
+   * @param maxArrayLength the maximum length, or -1 for no limit.
+   * @return a reference to this, so the API can be used fluently
+   */
+  public ValidatorOptions setMaxArrayLength(int maxArrayLength) {
+    if (maxArrayLength < -1) {
+      throw new IllegalArgumentException("maxArrayLength must be >= 0 or -1");
+    }
+    this.maxArrayLength = maxArrayLength;
+    return this;
+  }
+
+  /**
+   * @return the maximum length of the strings of a JSON request body, or -1 if there is no limit.
+   */
+  public int getMaxStringLength() {
+    return maxStringLength;
+  }
+
+  /**
+   * Set the maximum length of the strings of a JSON request body. This limit applies to all strings, in addition to
+   * the <i>maxLength</i> keywords of the schema. Can be overridden per operation with the extension
+   * <i>x-max-string-length</i> of the request body.
+   *
+   * @param maxStringLength the maximum length, or -1 for no limit.
+   * @return a reference to this, so the API can be used fluently
+   */
+  public ValidatorOptions setMaxStringLength(int maxStringLength) {
+    if (maxStringLength < -1) {
+      throw new IllegalArgumentException("maxStringLength must be >= 0 or -1");
+    }
+    this.maxStringLength = maxStringLength;
+    return this;
+  }
+
+  /**
+   * @return the size in bytes above which a binary part of a multipart request body is streamed to a temporary file,
+   * or -1 if parts are never streamed to temporary files.
+   */
+  public long getMultipartSpillThreshold() {
+    return multipartSpillThreshold;
+  }
+
+  /**
+   * Set the size in bytes above which a part of a multipart/form-data request body with content type
+   * <i>application/octet-stream</i> is streamed to a temporary file. In the validated body, the value of such a part is
+   * an {@link UploadedFile}, whose size is checked against the <i>type</i>, <i>minLength</i> and <i>maxLength</i> of
+   * the related property. The temporary files are deleted when the response of the request has been sent, or when its
+   * connection is closed before.
+   *
+   * @param multipartSpillThreshold the threshold in bytes, or -1 to never stream parts to temporary files.
+   * @return a reference to this, so the API can be used fluently
+   */
+  public ValidatorOptions setMultipartSpillThreshold(long multipartSpillThreshold) {
+    if (multipartSpillThreshold < -1) {
+      throw new IllegalArgumentException("multipartSpillThreshold must be >= 0 or -1");
+    }
+    this.multipartSpillThreshold = multipartSpillThreshold;
+    return this;
+  }
+
+  /**
+   * @return the directory of the temporary files of multipart request bodies.
+   */
+  public String getUploadsDirectory() {
+    return uploadsDirectory;
+  }
+
+  /**
+   * Set the directory of the temporary files of multipart request bodies. The directory is created if it doesn't
+   * exist.
+   *
+   * @param uploadsDirectory the directory.
+   * @return a reference to this, so the API can be used fluently
+   */
+  public ValidatorOptions setUploadsDirectory(String uploadsDirectory) {
+    if (uploadsDirectory == null || uploadsDirectory.isEmpty()) {
+      throw new IllegalArgumentException("uploadsDirectory must not be empty");
+    }
+    this.uploadsDirectory = uploadsDirectory;
+    return this;
+  }
+
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject()
+      .put("inlineValidation", inlineValidation)
+      .put("inlineMaxBodySize", inlineMaxBodySize)
+      .put("inlineMaxSchemaCost", inlineMaxSchemaCost)
+      .put("workerPoolSize", workerPoolSize)
+      .put("virtualThreads", virtualThreads)
+      .put("batchMaxSize", batchMaxSize)
+      .put("batchMaxDelay", batchMaxDelay)
+      .put("batchMaxBodySize", batchMaxBodySize)
+      .put("batchMaxSchemaCost", batchMaxSchemaCost)
+      .put("streamingJsonValidation", streamingJsonValidation)
+      .put("maxBodySize", maxBodySize)
+      .put("maxBodyDepth", maxBodyDepth)
+      .put("maxArrayLength", maxArrayLength)
+      .put("maxStringLength", maxStringLength)
+      .put("multipartSpillThreshold", multipartSpillThreshold)
+      .put("uploadsDirectory", uploadsDirectory);
+    if (workerPoolName != null) {
+      json.put("workerPoolName", workerPoolName);
+    }
+    return json;
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.validation;
+
+import io.vertx.codegen.annotations.VertxGen;
+
+/**
+ * Statistics about how the validations of a {@link RequestValidator} or a {@link ResponseValidator} were executed.
+ * <p>
+ * The metrics of the worker pool only cover the validations of the related validator, even if the worker pool is
+ * shared with others. Together with {@link #getWorkerValidations()}, the total times allow to compute the average wait
+ * and execution time of a validation, as long as batching is disabled.
+ */
+@VertxGen
+public interface ValidatorStats {
+
+  /**
+   * @return the number of validations that were executed inline on the calling thread.
+   */
+  long getInlineValidations();
+
+  /**
+   * @return the number of validations that were executed on a worker thread.
+   */
+  long getWorkerValidations();
+
+  /**
+   * @return the number of worker tasks that are currently waiting for a worker thread. A batch of validations is a
+   * single worker task.
+   */
+  int getQueueDepth();
+
+  /**
+   * @return the number of worker tasks that are currently executed on a worker thread.
+   */
+  int getActiveTasks();
+
+  /**
+   * @return the total time in nanoseconds that worker tasks waited for a worker thread.
+   */
+  long getTotalWaitTime();
+
+  /**
+   * @return the total time in nanoseconds that worker tasks were executed on a worker thread.
+   */
+  long getTotalExecutionTime();
+
+  /**
+   * @return the number of batches that were executed.
+   */
+  long getBatches();
+
+  /**
+   * @return the number of validations that were executed as part of a batch. Divided by {@link #getBatches()} this is
+   * the average batch size.
+   */
+  long getBatchedValidations();
+
+  /**
+   * @return the total time in nanoseconds that validations waited in a batch, before the batch was passed to a worker
+   * thread. This is the latency that is added by batching.
+   */
+  long getTotalBatchDelay();
+}
@@ -15,28 +15,33 @@ package io.vertx.openapi.validation.impl;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
-import io.vertx.json.schema.JsonSchemaValidationException;
-import io.vertx.json.schema.OutputUnit;
+import io.vertx.json.schema.Validator;
 import io.vertx.openapi.contract.MediaType;
 import io.vertx.openapi.contract.OpenAPIContract;
 import io.vertx.openapi.contract.Operation;
-import io.vertx.openapi.mediatype.ContentAnalyser;
 import io.vertx.openapi.validation.ValidationContext;
-import io.vertx.openapi.validation.ValidatorException;
+import io.vertx.openapi.validation.ValidatorOptions;
 
 import static io.vertx.core.Future.failedFuture;
 import static io.vertx.core.Future.succeededFuture;
-import static io.vertx.openapi.validation.SchemaValidationException.createInvalidValueBody;
-import static io.vertx.openapi.validation.ValidatorErrorType.UNSUPPORTED_VALUE_FORMAT;
 import static io.vertx.openapi.validation.ValidatorException.createOperationIdInvalid;
+import static io.vertx.openapi.validation.ValidatorException.createUnsupportedBodyFormat;
 
 public class BaseValidator {
   protected final Vertx vertx;
   protected final OpenAPIContract contract;
+  protected final ValidatorOptions options;
+  protected final ValidationExecutor executor;
 
   public BaseValidator(Vertx vertx, OpenAPIContract contract) {
+    this(vertx, contract, new ValidatorOptions());
+  }
+
+  public BaseValidator(Vertx vertx, OpenAPIContract contract, ValidatorOptions options) {
     this.vertx = vertx;
     this.contract = contract;
+    this.options = new ValidatorOptions(options);
+    this.executor = new ValidationExecutor(vertx, options);
   }
 
   protected Future<Operation> getOperation(String operationId) {
@@ -65,30 +70,16 @@ public class BaseValidator {
     }
   }
 
+  protected MediaTypeCheck compileMediaTypeCheck(MediaType mediaType, boolean required) {
+    Validator validator = isSchemaValidationRequired(mediaType) ? contract.getMediaTypeValidator(mediaType) : null;
+    return new MediaTypeCheck(mediaType, required, contract.mediaTypes(), validator, contract.getSchemaRepository());
+  }
+
   protected RequestParameterImpl validate(MediaType mediaType, String contentType, Buffer rawContent,
                                           ValidationContext requestOrResponse) {
-    ContentAnalyser contentAnalyser = mediaType == null ? null :
-      contract.mediaTypes().createContentAnalyser(contentType, rawContent, requestOrResponse);
-
-    if (contentAnalyser == null) {
-      throw new ValidatorException("The format of the " + requestOrResponse + " body is not supported",
-        UNSUPPORTED_VALUE_FORMAT);
+    if (mediaType == null) {
+      throw createUnsupportedBodyFormat(requestOrResponse);
     }
-
-    // Throws an exception if the content is not syntactically correct
-    contentAnalyser.checkSyntacticalCorrectness();
-
-    if (isSchemaValidationRequired(mediaType)) {
-      Object transformedValue = contentAnalyser.transform();
-      OutputUnit result = contract.getSchemaRepository().validator(mediaType.getSchema()).validate(transformedValue);
-      try {
-        result.checkValidity();
-        return new RequestParameterImpl(transformedValue);
-      } catch (JsonSchemaValidationException e) {
-        throw createInvalidValueBody(result, requestOrResponse, e);
-      }
-    }
-
-    return new RequestParameterImpl(rawContent);
+    return compileMediaTypeCheck(mediaType, false).validate(contentType, rawContent, requestOrResponse);
   }
 }
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.validation.impl;
+
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.openapi.validation.ValidationContext;
+import io.vertx.openapi.validation.ValidatorException;
+
+import static io.vertx.openapi.validation.ValidatorErrorType.MISSING_REQUIRED_PARAMETER;
+import static io.vertx.openapi.validation.ValidatorException.createBodyTooLarge;
+
+/**
+ * Passes a binary body through and counts its bytes, to check the minimum and maximum length of its schema and the
+ * maximum size of the body without aggregating it. A violation is passed to the exception handler instead of the chunk
+ * or the end of the body that caused it, the remaining chunks of the body are discarded.
+ */
+public class BinaryBodyStream implements ReadStream<Buffer> {
+
+  private final ReadStream<Buffer> delegate;
+  private final long minLength;
+  private final long maxLength;
+  private final long maxSize;
+  private final boolean required;
+  private final ValidationContext requestOrResponse;
+
+  private Handler<Buffer> handler;
+  private Handler<Void> endHandler;
+  private Handler<Throwable> exceptionHandler;
+  private long bytes;
+  private boolean failed;
+
+  BinaryBodyStream(ReadStream<Buffer> delegate, long minLength, long maxLength, long maxSize, boolean required,
+                   ValidationContext requestOrResponse) {
+    this.delegate = delegate;
+    this.minLength = minLength;
+    this.maxLength = maxLength;
+    this.maxSize = maxSize;
+    this.required = required;
+    this.requestOrResponse = requestOrResponse;
+  }
+
+  /**
+   * @param body              the binary body.
+   * @param check             the check of the media type of the body.
+   * @param maxSize           the maximum size of the body in bytes.
+   * @param required          whether the body is required.
+   * @param requestOrResponse whether the body belongs to a request or a response.
+   * @return the passed body if there is nothing to check, otherwise a stream that checks the passed body while it is
+   * read.
+   */
+  public static ReadStream<Buffer> wrap(ReadStream<Buffer> body, MediaTypeCheck check, long maxSize, boolean required,
+                                        ValidationContext requestOrResponse) {
+    if (!required && check.getMinLength() == 0 && check.getMaxLength() == Long.MAX_VALUE
+      && maxSize == Long.MAX_VALUE) {
+      return body;
+    }
+    return new BinaryBodyStream(body, check.getMinLength(), check.getMaxLength(), maxSize, required,
+      requestOrResponse);
+  }
+
+  /**
+   * @return the number of bytes that were read so far.
+   */
+  public long getBytesRead() {
+    return bytes;
+  }
+
+  @Override
+  public BinaryBodyStream exceptionHandler(Handler<Throwable> handler) {
+    exceptionHandler = handler;
+    delegate.exceptionHandler(handler);
+    return this;
+  }
+
+  @Override
+  public BinaryBodyStream handler(Handler<Buffer> handler) {
+    this.handler = handler;
+    delegate.handler(handler == null ? null : this::onChunk);
+    return this;
+  }
+
+  @Override
+  public BinaryBodyStream endHandler(Handler<Void> endHandler) {
+    this.endHandler = endHandler;
+    delegate.endHandler(endHandler == null ? null : v -> onEnd());
+    return this;
+  }
+
+  @Override
+  public BinaryBodyStream pause() {
+    if (!failed) {
+      delegate.pause();
+    }
+    return this;
+  }
+
+  @Override
+  public BinaryBodyStream resume() {
+    delegate.resume();
+    return this;
+  }
+
+  @Override
+  public BinaryBodyStream fetch(long amount) {
+    delegate.fetch(amount);
+    return this;
+  }
+
+  private void onChunk(Buffer chunk) {
+    if (failed) {
+      return;
+    }
+    bytes += chunk.length();
+    if (bytes > maxSize) {
+      fail(createBodyTooLarge(requestOrResponse, "size of " + maxSize + " bytes"));
+    } else if (bytes > maxLength) {
+      fail(MediaTypeCheck.schemaViolation("", "maxLength", "String is too long. Expected at most " + maxLength,
+        requestOrResponse));
+    } else {
+      handler.handle(chunk);
+    }
+  }
+
+  private void onEnd() {
+    if (failed) {
+      return;
+    }
+    if (bytes == 0 && required) {
+      fail(new ValidatorException("The related " + requestOrResponse + " does not contain the required body.",
+        MISSING_REQUIRED_PARAMETER));
+    } else if (bytes < minLength) {
+      fail(MediaTypeCheck.schemaViolation("", "minLength", "String is too short. Expected at least " + minLength,
+        requestOrResponse));
+    } else {
+      endHandler.handle(null);
+    }
+  }
+
+  private void fail(ValidatorException e) {
+    failed = true;
+    Handler<Throwable> h = exceptionHandler;
+    if (h != null) {
+      h.handle(e);
+    }
+    // The remaining chunks are discarded
+    delegate.resume();
+  }
+}
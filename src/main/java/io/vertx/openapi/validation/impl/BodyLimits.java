@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.validation.impl;
+
+import io.vertx.openapi.contract.RequestBody;
+import io.vertx.openapi.mediatype.impl.StreamingJsonLimits;
+import io.vertx.openapi.validation.ValidatorOptions;
+
+import java.util.Map;
+
+/**
+ * The limits of a request body, which are enforced while the body is read. A limit is taken from an extension of the
+ * request body if it is set, otherwise from the {@link ValidatorOptions}.
+ */
+public final class BodyLimits {
+
+  public static final String EXTENSION_MAX_BODY_SIZE = "x-max-body-size";
+  public static final String EXTENSION_MAX_BODY_DEPTH = "x-max-body-depth";
+  public static final String EXTENSION_MAX_ARRAY_LENGTH = "x-max-array-length";
+  public static final String EXTENSION_MAX_STRING_LENGTH = "x-max-string-length";
+
+  /**
+   * No limits.
+   */
+  public static final BodyLimits NONE = new BodyLimits(-1, StreamingJsonLimits.NONE);
+
+  private final long maxSize;
+  private final StreamingJsonLimits jsonLimits;
+
+  /**
+   * @param maxSize    the maximum size of the body in bytes, or -1 for no limit.
+   * @param jsonLimits the limits of the structure of a JSON body.
+   */
+  public BodyLimits(long maxSize, StreamingJsonLimits jsonLimits) {
+    this.maxSize = maxSize < 0 ? Long.MAX_VALUE : maxSize;
+    this.jsonLimits = jsonLimits;
+  }
+
+  /**
+   * @param requestBody the request body.
+   * @param options     the options of the validator.
+   * @return the limits of the passed request body.
+   * @throws IllegalArgumentException if an extension of the request body is not a number.
+   */
+  public static BodyLimits of(RequestBody requestBody, ValidatorOptions options) {
+    Map<String, Object> extensions = requestBody.getExtensions();
+    long maxSize = getLimit(extensions, EXTENSION_MAX_BODY_SIZE, options.getMaxBodySize());
+    long maxDepth = getLimit(extensions, EXTENSION_MAX_BODY_DEPTH, options.getMaxBodyDepth());
+    long maxArrayLength = getLimit(extensions, EXTENSION_MAX_ARRAY_LENGTH, options.getMaxArrayLength());
+    long maxStringLength = getLimit(extensions, EXTENSION_MAX_STRING_LENGTH, options.getMaxStringLength());
+
+    StreamingJsonLimits jsonLimits = maxDepth < 0 && maxArrayLength < 0 && maxStringLength < 0
+      ? StreamingJsonLimits.NONE : new StreamingJsonLimits(maxDepth, maxArrayLength, maxStringLength);
+    return maxSize < 0 && jsonLimits == StreamingJsonLimits.NONE ? NONE : new BodyLimits(maxSize, jsonLimits);
+  }
+
+  private static long getLimit(Map<String, Object> extensions, String name, long defaultLimit) {
+    Object value = extensions == null ? null : extensions.get(name);
+    if (value == null) {
+      return defaultLimit;
+    }
+    if (!(value instanceof Number)) {
+      throw new IllegalArgumentException("The value of extension " + name + " must be a number");
+    }
+    return ((Number) value).longValue();
+  }
+
+  /**
+   * @return true if the size of the body is limited.
+   */
+  public boolean isSizeLimited() {
+    return maxSize != Long.MAX_VALUE;
+  }
+
+  /**
+   * @return the maximum size of the body in bytes, or {@link Long#MAX_VALUE} if there is no limit.
+   */
+  public long getMaxSize() {
+    return maxSize;
+  }
+
+  public StreamingJsonLimits getJsonLimits() {
+    return jsonLimits;
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.validation.impl;
+
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.openapi.contract.Operation;
+import io.vertx.openapi.contract.RouteMatch;
+import io.vertx.openapi.validation.DispatchedRequest;
+import io.vertx.openapi.validation.ValidatedRequest;
+
+public class DispatchedRequestImpl implements DispatchedRequest {
+
+  private final HttpServerRequest request;
+  private final RouteMatch route;
+  private final ValidatedRequest validatedRequest;
+  private final Throwable failure;
+
+  public DispatchedRequestImpl(HttpServerRequest request, RouteMatch route, ValidatedRequest validatedRequest,
+                               Throwable failure) {
+    this.request = request;
+    this.route = route;
+    this.validatedRequest = validatedRequest;
+    this.failure = failure;
+  }
+
+  @Override
+  public HttpServerRequest getRequest() {
+    return request;
+  }
+
+  @Override
+  public RouteMatch getRoute() {
+    return route;
+  }
+
+  @Override
+  public Operation getOperation() {
+    return route == null ? null : route.getOperation();
+  }
+
+  @Override
+  public ValidatedRequest getValidatedRequest() {
+    return validatedRequest;
+  }
+
+  @Override
+  public Throwable getFailure() {
+    return failure;
+  }
+}
@@ -0,0 +1,408 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.validation.impl;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.json.schema.JsonSchema;
+import io.vertx.json.schema.JsonSchemaValidationException;
+import io.vertx.json.schema.OutputErrorType;
+import io.vertx.json.schema.OutputUnit;
+import io.vertx.json.schema.SchemaRepository;
+import io.vertx.json.schema.Validator;
+import io.vertx.openapi.contract.Location;
+import io.vertx.openapi.contract.MediaType;
+import io.vertx.openapi.contract.Style;
+import io.vertx.openapi.mediatype.ContentAnalyser;
+import io.vertx.openapi.mediatype.MediaTypeRegistry;
+import io.vertx.openapi.mediatype.impl.StreamingJsonAnalyser;
+import io.vertx.openapi.mediatype.impl.StreamingJsonLimits;
+import io.vertx.openapi.mediatype.impl.StreamingJsonSchema;
+import io.vertx.openapi.validation.UploadedFile;
+import io.vertx.openapi.validation.ValidationCheck;
+import io.vertx.openapi.validation.ValidationContext;
+import io.vertx.openapi.validation.ValidatorException;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.vertx.openapi.validation.SchemaValidationException.createInvalidValueBody;
+import static io.vertx.openapi.validation.ValidatorException.createUnsupportedBodyFormat;
+import static io.vertx.openapi.validation.ValidatorErrorType.UNSUPPORTED_VALUE_FORMAT;
+import static java.util.Collections.emptyMap;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The compiled check of a body in a specific media type. Whether the body must be validated against a schema is
+ * decided once, when the related {@link io.vertx.openapi.validation.ValidationPlan} is compiled.
+ */
+public class MediaTypeCheck implements ValidationCheck {
+
+  private static final Set<String> BINARY_KEYWORDS = Set.of("type", "format", "minLength", "maxLength");
+  private static final List<String> COMPOSITION_KEYWORDS = List.of("allOf", "anyOf", "oneOf");
+  private static final List<String> REFERENCE_KEYWORDS = List.of("$ref", "$dynamicRef", "$recursiveRef");
+
+  private final MediaType mediaType;
+  private final boolean required;
+  private final MediaTypeRegistry mediaTypes;
+  private final Validator validator;
+  private final SchemaRepository schemaRepository;
+  // the validators of the schema without the properties of uploaded files, keyed by the names of these properties
+  private final Map<Set<String>, Validator> validatorsWithout = new ConcurrentHashMap<>();
+  private final int estimatedCost;
+  private final boolean json;
+  // whether the content is binary, so that it can be passed through without being aggregated
+  private final boolean binary;
+  private final long minLength;
+  private final long maxLength;
+  // compiled on first use, because only bodies that are checked while they are read, or that contain uploaded files,
+  // need it
+  private volatile StreamingJsonSchema streamingSchema;
+
+  /**
+   * Creates a check of a media type whose content is not validated against a schema.
+   *
+   * @param mediaType  the media type to check.
+   * @param required   whether the body is required.
+   * @param mediaTypes the registry to create the content analysers.
+   */
+  public MediaTypeCheck(MediaType mediaType, boolean required, MediaTypeRegistry mediaTypes) {
+    this(mediaType, required, mediaTypes, null, null);
+  }
+
+  /**
+   * @param mediaType        the media type to check.
+   * @param required         whether the body is required.
+   * @param mediaTypes       the registry to create the content analysers.
+   * @param validator        the validator of the media type schema, or null if the content is not validated against
+   *                         a schema.
+   * @param schemaRepository the repository to create validators of the schema without the properties of uploaded
+   *                         files, only null if the content is not validated against a schema.
+   */
+  public MediaTypeCheck(MediaType mediaType, boolean required, MediaTypeRegistry mediaTypes, Validator validator,
+                        SchemaRepository schemaRepository) {
+    if (validator != null) {
+      requireNonNull(schemaRepository, "A schema repository is required to validate the media type schema");
+    }
+    this.mediaType = mediaType;
+    this.schemaRepository = schemaRepository;
+    this.required = required;
+    this.mediaTypes = mediaTypes;
+    this.validator = validator;
+    this.estimatedCost = validator == null ? 0 : SchemaCost.estimate(mediaType.getSchema());
+    this.json = isJson(mediaType.getIdentifier());
+
+    JsonSchema schema = mediaType.getSchema();
+    this.binary = isBinary(schema);
+    this.minLength = binary ? getLength(schema, "minLength", 0) : 0;
+    this.maxLength = binary ? getLength(schema, "maxLength", Long.MAX_VALUE) : Long.MAX_VALUE;
+  }
+
+  private static boolean isBinary(JsonSchema schema) {
+    if (schema == null) {
+      // content should be treated as binary, because no media model is defined (OpenAPI 3.1)
+      return true;
+    }
+    if (!"string".equals(schema.get("type")) || !"binary".equals(schema.get("format"))) {
+      return false;
+    }
+    for (String keyword : schema.fieldNames()) {
+      // internal json-schema annotations start and end with "__"
+      boolean annotation = keyword.startsWith("__") && keyword.endsWith("__");
+      if (!annotation && !BINARY_KEYWORDS.contains(keyword)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static long getLength(JsonSchema schema, String keyword, long defaultValue) {
+    Object value = schema.get(keyword);
+    return value instanceof Number ? ((Number) value).longValue() : defaultValue;
+  }
+
+  private static boolean isJson(String identifier) {
+    switch (identifier) {
+      case MediaType.APPLICATION_JSON:
+      case MediaType.APPLICATION_JSON_UTF8:
+      case MediaType.APPLICATION_HAL_JSON:
+        return true;
+      default:
+        return MediaType.isVendorSpecificJson(identifier);
+    }
+  }
+
+  /**
+   * Creates an analyser, which checks a JSON body against the schema of this media type and the passed limits while
+   * the body is read. If the body is checked against the schema or its structure is limited, the nesting depth is also
+   * limited by the schema, if the schema doesn't allow arbitrarily nested values.
+   *
+   * @param requestOrResponse whether the body belongs to a request or a response.
+   * @param checkSchema       whether the body is checked against the schema, or only against the limits.
+   * @param limits            the limits of the structure of the body.
+   * @return the analyser, or null if the body is not JSON or there is nothing to check.
+   */
+  public StreamingJsonAnalyser createStreamingAnalyser(ValidationContext requestOrResponse, boolean checkSchema,
+                                                       StreamingJsonLimits limits) {
+    if (!json || (!checkSchema && !limits.isLimited())) {
+      return null;
+    }
+    StreamingJsonSchema schema = validator == null ? StreamingJsonSchema.ANY : getStreamingSchema();
+    StreamingJsonLimits effectiveLimits = limits.withMaxDepth(schema.getMaxDepth());
+    if (!checkSchema) {
+      schema = StreamingJsonSchema.ANY;
+    }
+    if (schema == StreamingJsonSchema.ANY && !effectiveLimits.isLimited()) {
+      return null;
+    }
+    return new StreamingJsonAnalyser(schema, effectiveLimits, requestOrResponse);
+  }
+
+  private StreamingJsonSchema getStreamingSchema() {
+    StreamingJsonSchema schema = streamingSchema;
+    if (schema == null) {
+      schema = StreamingJsonSchema.compile(mediaType.getSchema());
+      streamingSchema = schema;
+    }
+    return schema;
+  }
+
+  public RequestParameterImpl validate(String contentType, Buffer rawContent, ValidationContext requestOrResponse) {
+    return validate(contentType, rawContent, emptyMap(), requestOrResponse);
+  }
+
+  /**
+   * Validates a body, whose uploaded files were not aggregated. Instead of their content, the size of the uploaded
+   * files is checked against the type, minLength and maxLength of the related properties.
+   *
+   * @param contentType       the content type of the body.
+   * @param rawContent        the aggregated body.
+   * @param uploadedFiles     the parts of a multipart body that were streamed to temporary files, by their name.
+   * @param requestOrResponse whether the body belongs to a request or a response.
+   * @return the validated body, which contains the uploaded files as values of the related properties.
+   */
+  public RequestParameterImpl validate(String contentType, Buffer rawContent, Map<String, UploadedFile> uploadedFiles,
+                                       ValidationContext requestOrResponse) {
+    ContentAnalyser contentAnalyser = mediaTypes.createContentAnalyser(contentType, rawContent, requestOrResponse);
+    if (contentAnalyser == null) {
+      throw createUnsupportedBodyFormat(requestOrResponse);
+    }
+
+    // Throws an exception if the content is not syntactically correct
+    contentAnalyser.checkSyntacticalCorrectness();
+
+    if (validator != null) {
+      Object transformedValue = contentAnalyser.transform();
+      boolean withFiles = !uploadedFiles.isEmpty() && transformedValue instanceof JsonObject;
+      Validator bodyValidator = validator;
+      if (withFiles) {
+        for (UploadedFile file : uploadedFiles.values()) {
+          validateUploadedFile(file, requestOrResponse);
+          ((JsonObject) transformedValue).remove(file.getName());
+        }
+        // The size of the uploaded files was checked above, the rest of the body is validated without their properties
+        bodyValidator = getValidatorWithout(uploadedFiles.keySet(), requestOrResponse);
+      }
+      OutputUnit result = bodyValidator.validate(transformedValue);
+      try {
+        result.checkValidity();
+      } catch (JsonSchemaValidationException e) {
+        throw createInvalidValueBody(result, requestOrResponse, e);
+      }
+      if (withFiles) {
+        for (UploadedFile file : uploadedFiles.values()) {
+          ((JsonObject) transformedValue).put(file.getName(), file);
+        }
+      }
+      return new RequestParameterImpl(transformedValue);
+    }
+
+    return new RequestParameterImpl(rawContent);
+  }
+
+  /**
+   * @return a validator of the schema without the passed properties, which are neither allowed nor required anymore.
+   * The properties are also removed from the subschemas of <i>allOf</i>, <i>anyOf</i> and <i>oneOf</i>.
+   * @throws ValidatorException if one of these subschemas is a reference, which can't be reduced.
+   */
+  private Validator getValidatorWithout(Set<String> properties, ValidationContext requestOrResponse) {
+    Validator reduced = validatorsWithout.get(properties);
+    if (reduced == null) {
+      Set<String> key = Set.copyOf(properties);
+      JsonSchema schema = mediaType.getSchema();
+      JsonObject copy = new JsonObject();
+      for (String keyword : schema.fieldNames()) {
+        copy.put(keyword, schema.get(keyword));
+      }
+      reduced = schemaRepository.validator(JsonSchema.of(without(copy, key, requestOrResponse)));
+      validatorsWithout.putIfAbsent(key, reduced);
+    }
+    return reduced;
+  }
+
+  private static JsonObject without(JsonObject schema, Set<String> properties, ValidationContext requestOrResponse) {
+    JsonObject reduced = new JsonObject();
+    for (String keyword : schema.fieldNames()) {
+      reduced.put(keyword, schema.getValue(keyword));
+    }
+    for (String keyword : REFERENCE_KEYWORDS) {
+      if (reduced.containsKey(keyword)) {
+        throw new ValidatorException("The " + requestOrResponse + " body contains uploaded files, which can't be " +
+          "removed from a referenced schema", UNSUPPORTED_VALUE_FORMAT);
+      }
+    }
+
+    JsonObject schemaProperties = reduced.getJsonObject("properties");
+    if (schemaProperties != null) {
+      JsonObject remaining = schemaProperties.copy();
+      properties.forEach(remaining::remove);
+      reduced.put("properties", remaining);
+    }
+    JsonArray requiredProperties = reduced.getJsonArray("required");
+    if (requiredProperties != null) {
+      JsonArray remaining = new JsonArray();
+      requiredProperties.forEach(name -> {
+        if (!properties.contains(name)) {
+          remaining.add(name);
+        }
+      });
+      reduced.put("required", remaining);
+    }
+    for (String keyword : COMPOSITION_KEYWORDS) {
+      JsonArray subschemas = reduced.getJsonArray(keyword);
+      if (subschemas != null) {
+        JsonArray remaining = new JsonArray();
+        for (Object subschema : subschemas) {
+          remaining.add(subschema instanceof JsonObject
+            ? without((JsonObject) subschema, properties, requestOrResponse) : subschema);
+        }
+        reduced.put(keyword, remaining);
+      }
+    }
+    return reduced;
+  }
+
+  /**
+   * Checks the size of an uploaded file against the type, minLength and maxLength of the related property. Other
+   * keywords of the property, like <i>pattern</i> or <i>enum</i>, don't apply to the content of a file.
+   */
+  private void validateUploadedFile(UploadedFile file, ValidationContext requestOrResponse) {
+    StreamingJsonSchema property = getStreamingSchema().getPropertySchema(file.getName());
+    if (property == null) {
+      throw uploadedFileViolation(file, "additionalProperties",
+        "Property \"" + file.getName() + "\" is not allowed", requestOrResponse);
+    }
+    if (!property.allowsType(StreamingJsonSchema.STRING)) {
+      throw uploadedFileViolation(file, "type", "Instance type string is invalid", requestOrResponse);
+    }
+    if (file.getSize() > property.getMaxLength()) {
+      throw uploadedFileViolation(file, "maxLength", "String is too long. Expected at most " + property.getMaxLength(),
+        requestOrResponse);
+    }
+    if (file.getSize() < property.getMinLength()) {
+      throw uploadedFileViolation(file, "minLength",
+        "String is too short. Expected at least " + property.getMinLength(), requestOrResponse);
+    }
+  }
+
+  private static ValidatorException uploadedFileViolation(UploadedFile file, String keyword, String error,
+                                                          ValidationContext requestOrResponse) {
+    String location = "/" + file.getName().replace("~", "~0").replace("/", "~1");
+    return schemaViolation(location, keyword, error, requestOrResponse);
+  }
+
+  /**
+   * @return an exception for a violation of the schema, that was detected without validating the body against the
+   * schema.
+   */
+  static ValidatorException schemaViolation(String location, String keyword, String error,
+                                            ValidationContext requestOrResponse) {
+    OutputUnit unit = new OutputUnit(location, keyword, keyword, error, OutputErrorType.INVALID_VALUE);
+    OutputUnit result = new OutputUnit(location, keyword, keyword, error, OutputErrorType.INVALID_VALUE);
+    result.setErrors(Collections.singletonList(unit));
+    return createInvalidValueBody(result, requestOrResponse, null);
+  }
+
+  @Override
+  public String getName() {
+    return mediaType.getIdentifier();
+  }
+
+  @Override
+  public boolean isBody() {
+    return true;
+  }
+
+  @Override
+  public Location getLocation() {
+    return null;
+  }
+
+  @Override
+  public Style getStyle() {
+    return null;
+  }
+
+  @Override
+  public boolean isRequired() {
+    return required;
+  }
+
+  @Override
+  public boolean isTransformable() {
+    return true;
+  }
+
+  @Override
+  public boolean isSchemaValidated() {
+    return validator != null;
+  }
+
+  /**
+   * @return true if the content is JSON.
+   */
+  public boolean isJson() {
+    return json;
+  }
+
+  /**
+   * @return true if the content is binary and its schema has no other constraints than a minimum or maximum length,
+   * so that it can be passed through as a stream instead of being aggregated.
+   */
+  public boolean isBinary() {
+    return binary;
+  }
+
+  /**
+   * @return the minimum length of binary content in bytes.
+   */
+  public long getMinLength() {
+    return minLength;
+  }
+
+  /**
+   * @return the maximum length of binary content in bytes.
+   */
+  public long getMaxLength() {
+    return maxLength;
+  }
+
+  @Override
+  public int getEstimatedCost() {
+    return estimatedCost;
+  }
+}
@@ -0,0 +1,406 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.validation.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.AsyncFile;
+import io.vertx.core.file.FileSystem;
+import io.vertx.core.file.OpenOptions;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.openapi.mediatype.impl.MultipartPart;
+import io.vertx.openapi.validation.UploadedFile;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static io.vertx.core.Future.succeededFuture;
+import static io.vertx.openapi.validation.ValidationContext.REQUEST;
+import static io.vertx.openapi.validation.ValidatorException.createBodyTooLarge;
+
+/**
+ * Reads a multipart/form-data body chunk by chunk. The body of a part with content type application/octet-stream is
+ * streamed to a temporary file as soon as it exceeds the spill threshold, instead of being aggregated in memory. The
+ * aggregated body still contains the headers of these parts, but not their bodies, which are available as
+ * {@link UploadedFile UploadedFiles} instead.
+ * <p>
+ * The structure of the body is only tracked as far as needed to find the bodies of the parts, it is checked when the
+ * aggregated body is validated.
+ */
+public class MultipartSpillReader {
+
+  private static final String SPILLABLE_CONTENT_TYPE = "application/octet-stream";
+  private static final OpenOptions OPEN_OPTIONS = new OpenOptions().setCreateNew(true).setWrite(true);
+
+  private enum State {
+    PREAMBLE, DELIMITER, HEADERS, BODY, EPILOGUE
+  }
+
+  private final Vertx vertx;
+  private final MultipartPart.Delimiter delimiter;
+  private final long threshold;
+  private final String uploadsDirectory;
+  private final long maxSize;
+
+  private final Promise<Buffer> promise = Promise.promise();
+  private final Buffer aggregated = Buffer.buffer();
+  private final Map<String, UploadedFile> uploadedFiles = new LinkedHashMap<>();
+  private final List<String> paths = new ArrayList<>();
+  private final List<Future<Void>> closings = new ArrayList<>();
+
+  private ReadStream<Buffer> body;
+  // The bytes that were read, but not yet processed, because they might be the beginning of a delimiter
+  private Buffer pending = Buffer.buffer();
+  private State state = State.PREAMBLE;
+  private Part part;
+  private long size;
+  private Future<Void> deletion;
+
+  /**
+   * @param vertx            the Vert.x instance.
+   * @param boundary         the boundary of the multipart body.
+   * @param threshold        the size in bytes above which the body of a part is streamed to a temporary file.
+   * @param uploadsDirectory the directory of the temporary files.
+   * @param maxSize          the maximum size of the body in bytes.
+   */
+  public MultipartSpillReader(Vertx vertx, String boundary, long threshold, String uploadsDirectory, long maxSize) {
+    this.vertx = vertx;
+    this.delimiter = MultipartPart.Delimiter.of(boundary);
+    this.threshold = threshold;
+    this.uploadsDirectory = uploadsDirectory;
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * @param body the body to read.
+   * @return a Future that is completed with the aggregated body once all temporary files are written, or fails as
+   * soon as the body exceeds its maximum size or a temporary file can't be written.
+   */
+  public Future<Buffer> read(ReadStream<Buffer> body) {
+    this.body = body;
+    body.exceptionHandler(this::fail);
+    body.handler(this::onChunk);
+    body.endHandler(v -> onEnd());
+    return promise.future();
+  }
+
+  /**
+   * @return the parts that were streamed to temporary files, by their name.
+   */
+  public Map<String, UploadedFile> getUploadedFiles() {
+    return uploadedFiles;
+  }
+
+  /**
+   * @return true if temporary files were created.
+   */
+  public boolean hasFiles() {
+    return !paths.isEmpty();
+  }
+
+  /**
+   * Deletes the temporary files, after they were closed. The files are only deleted once, further calls return the
+   * Future of the first call.
+   *
+   * @return a Future that is completed when the files are deleted.
+   */
+  public synchronized Future<Void> delete() {
+    if (deletion == null) {
+      deletion = deleteFiles();
+    }
+    return deletion;
+  }
+
+  private Future<Void> deleteFiles() {
+    FileSystem fileSystem = vertx.fileSystem();
+    return Future.join(closings).transform(ar -> {
+      List<Future<Void>> deletions = new ArrayList<>(paths.size());
+      for (String path : paths) {
+        // The file doesn't exist, if it couldn't be created
+        deletions.add(fileSystem.delete(path).recover(t -> succeededFuture()));
+      }
+      return Future.join(deletions).mapEmpty();
+    });
+  }
+
+  private void onChunk(Buffer chunk) {
+    if (promise.future().isComplete()) {
+      return;
+    }
+    size += chunk.length();
+    if (size > maxSize) {
+      fail(createBodyTooLarge(REQUEST, "size of " + maxSize + " bytes"));
+      return;
+    }
+    pending.appendBuffer(chunk);
+    try {
+      boolean progress = true;
+      while (progress && !promise.future().isComplete()) {
+        switch (state) {
+          case PREAMBLE:
+            progress = processPreamble();
+            break;
+          case DELIMITER:
+            progress = processDelimiter();
+            break;
+          case HEADERS:
+            progress = processHeaders();
+            break;
+          case BODY:
+            progress = processBody();
+            break;
+          default:
+            aggregated.appendBuffer(pending);
+            pending = Buffer.buffer();
+            progress = false;
+        }
+      }
+    } catch (RuntimeException e) {
+      fail(e);
+    }
+  }
+
+  private boolean processPreamble() {
+    int dashBoundaryLength = delimiter.length() - 2;
+    if (pending.length() < dashBoundaryLength) {
+      return false;
+    }
+    int end;
+    if (delimiter.matches(pending, 0, 2)) {
+      end = dashBoundaryLength;
+    } else {
+      int found = delimiter.indexOf(pending, 0);
+      if (found < 0) {
+        return false;
+      }
+      end = found + delimiter.length();
+    }
+    aggregate(end);
+    state = State.DELIMITER;
+    return true;
+  }
+
+  private boolean processDelimiter() {
+    if (pending.length() < 2) {
+      return false;
+    }
+    if (pending.getByte(0) == '-' && pending.getByte(1) == '-') {
+      state = State.EPILOGUE;
+      return true;
+    }
+    int lineEnd = indexOf(pending, 0, '\n');
+    if (lineEnd < 0) {
+      return false;
+    }
+    aggregate(lineEnd + 1);
+    state = State.HEADERS;
+    return true;
+  }
+
+  private boolean processHeaders() {
+    int headerEnd = indexOfEmptyLine(pending);
+    int delimiterStart = delimiter.indexOf(pending, 0);
+    if (delimiterStart >= 0 && (headerEnd < 0 || delimiterStart < headerEnd)) {
+      // a part without body
+      aggregate(delimiterStart + delimiter.length());
+      state = State.DELIMITER;
+      return true;
+    }
+    if (headerEnd < 0) {
+      return false;
+    }
+    MultipartPart headers = MultipartPart.parsePart(pending.getBuffer(0, headerEnd));
+    part = new Part(headers.getName(), headers.getContentType());
+    aggregate(headerEnd + 4);
+    state = State.BODY;
+    return true;
+  }
+
+  private boolean processBody() {
+    int end = delimiter.indexOf(pending, 0);
+    if (end < 0) {
+      // The end of the pending bytes might be the beginning of a delimiter
+      int safe = pending.length() - delimiter.length() + 1;
+      if (safe > 0) {
+        writeBody(pending.slice(0, safe));
+        consume(safe);
+      }
+      return false;
+    }
+    writeBody(pending.slice(0, end));
+    consume(end);
+    finishPart();
+    aggregate(delimiter.length());
+    state = State.DELIMITER;
+    return true;
+  }
+
+  private void onEnd() {
+    if (promise.future().isComplete()) {
+      return;
+    }
+    // An incomplete body is aggregated as it is, so that it is rejected when the aggregated body is validated
+    if (state == State.BODY) {
+      writeBody(pending);
+      finishPart();
+    } else {
+      aggregated.appendBuffer(pending);
+    }
+    pending = Buffer.buffer();
+    Future.all(closings).onComplete(ar -> {
+      if (ar.succeeded()) {
+        promise.tryComplete(aggregated);
+      } else {
+        fail(ar.cause());
+      }
+    });
+  }
+
+  private void writeBody(Buffer data) {
+    if (data.length() == 0) {
+      return;
+    }
+    part.size += data.length();
+    if (part.file != null) {
+      writeToFile(data);
+    } else if (!part.spillable) {
+      aggregated.appendBuffer(data);
+    } else {
+      part.memory.appendBuffer(data);
+      if (part.memory.length() > threshold) {
+        spill(part);
+      }
+    }
+  }
+
+  private void spill(Part spilled) {
+    String path = uploadsDirectory + File.separator + UUID.randomUUID();
+    spilled.path = path;
+    paths.add(path);
+
+    // The body is paused until the file is opened, bytes that were already read are kept in memory meanwhile
+    body.pause();
+    FileSystem fileSystem = vertx.fileSystem();
+    spilled.file = fileSystem.mkdirs(uploadsDirectory).compose(v -> fileSystem.open(path, OPEN_OPTIONS))
+      .onComplete(ar -> {
+        if (ar.failed()) {
+          fail(ar.cause());
+          return;
+        }
+        AsyncFile file = ar.result();
+        file.exceptionHandler(this::fail);
+        spilled.asyncFile = file;
+        file.write(spilled.memory);
+        spilled.memory = null;
+        resume();
+      });
+  }
+
+  private void writeToFile(Buffer data) {
+    AsyncFile file = part.asyncFile;
+    if (file == null) {
+      // the file is still opened
+      part.memory.appendBuffer(data);
+      return;
+    }
+    file.write(data);
+    if (file.writeQueueFull()) {
+      body.pause();
+      file.drainHandler(v -> resume());
+    }
+  }
+
+  private void finishPart() {
+    if (part.file != null) {
+      // The file is closed after the bytes that were kept in memory while it was opened have been written
+      closings.add(part.file.compose(AsyncFile::end));
+      part.closed = true;
+      uploadedFiles.put(part.name, new UploadedFileImpl(part.name, part.contentType, part.path, part.size));
+    } else if (part.spillable) {
+      aggregated.appendBuffer(part.memory);
+    }
+    part = null;
+  }
+
+  private void resume() {
+    if (!promise.future().isComplete()) {
+      body.resume();
+    }
+  }
+
+  private void fail(Throwable t) {
+    if (!promise.tryFail(t)) {
+      return;
+    }
+    if (part != null && part.file != null && !part.closed) {
+      closings.add(part.file.compose(AsyncFile::close));
+      part.closed = true;
+    }
+    // The rest of the body is discarded
+    body.resume();
+  }
+
+  private void aggregate(int length) {
+    aggregated.appendBuffer(pending, 0, length);
+    consume(length);
+  }
+
+  private void consume(int length) {
+    // The consumed bytes are not modified afterward, because they might still be written to a file
+    pending = pending.getBuffer(length, pending.length());
+  }
+
+  private static int indexOf(Buffer buffer, int from, char c) {
+    for (int i = from; i < buffer.length(); i++) {
+      if (buffer.getByte(i) == c) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static int indexOfEmptyLine(Buffer buffer) {
+    for (int i = 0; i + 3 < buffer.length(); i++) {
+      if (buffer.getByte(i) == '\r' && buffer.getByte(i + 1) == '\n' && buffer.getByte(i + 2) == '\r'
+        && buffer.getByte(i + 3) == '\n') {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static final class Part {
+    private final String name;
+    private final String contentType;
+    private final boolean spillable;
+    // The bytes of a spillable part, until they are written to the file
+    private Buffer memory = Buffer.buffer();
+    private long size;
+    private String path;
+    private Future<AsyncFile> file;
+    private AsyncFile asyncFile;
+    private boolean closed;
+
+    private Part(String name, String contentType) {
+      this.name = name;
+      this.contentType = contentType;
+      this.spillable = contentType.startsWith(SPILLABLE_CONTENT_TYPE);
+    }
+  }
+}
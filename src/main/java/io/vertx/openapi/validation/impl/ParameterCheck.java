@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.validation.impl;
+
+import io.vertx.json.schema.JsonSchemaValidationException;
+import io.vertx.json.schema.OutputUnit;
+import io.vertx.json.schema.Validator;
+import io.vertx.openapi.contract.Location;
+import io.vertx.openapi.contract.Parameter;
+import io.vertx.openapi.contract.Style;
+import io.vertx.openapi.validation.ValidationCheck;
+import io.vertx.openapi.validation.ValidationContext;
+import io.vertx.openapi.validation.ValidatorException;
+import io.vertx.openapi.validation.transformer.ParameterTransformer;
+
+import static io.vertx.openapi.validation.SchemaValidationException.createErrorFromOutputUnitType;
+import static io.vertx.openapi.validation.SchemaValidationException.createInvalidValueParameter;
+import static io.vertx.openapi.validation.ValidationContext.REQUEST;
+import static io.vertx.openapi.validation.ValidatorException.createMissingRequiredParameter;
+import static io.vertx.openapi.validation.ValidatorException.createUnsupportedValueFormat;
+
+/**
+ * The compiled check of a single parameter. The transformer and the schema validator are resolved once, when the
+ * related {@link io.vertx.openapi.validation.ValidationPlan} is compiled.
+ */
+public class ParameterCheck implements ValidationCheck {
+
+  private final Parameter parameter;
+  private final String name;
+  private final Location location;
+  private final boolean required;
+  private final ParameterTransformer transformer;
+  private final Validator validator;
+  private final ValidationContext requestOrResponse;
+  private final int estimatedCost;
+
+  /**
+   * @param parameter         the parameter to check.
+   * @param transformer       the transformer for the style of the parameter, or null if the style is not supported.
+   * @param validator         the validator of the parameter schema.
+   * @param requestOrResponse whether the parameter belongs to a request or a response.
+   */
+  public ParameterCheck(Parameter parameter, ParameterTransformer transformer, Validator validator,
+                        ValidationContext requestOrResponse) {
+    this.parameter = parameter;
+    this.name = parameter.getName();
+    this.location = parameter.getIn();
+    this.required = parameter.isRequired();
+    this.transformer = transformer;
+    this.validator = validator;
+    this.requestOrResponse = requestOrResponse;
+    this.estimatedCost = SchemaCost.estimate(parameter.getSchema());
+  }
+
+  public RequestParameterImpl validate(io.vertx.openapi.validation.Parameter value) throws ValidatorException {
+    if (value == null || value.isNull()) {
+      if (required) {
+        throw createMissingRequiredParameter(parameter);
+      } else {
+        return new RequestParameterImpl(null);
+      }
+    }
+
+    if (transformer == null) {
+      throw createUnsupportedValueFormat(parameter);
+    }
+    Object transformedValue = transformer.transform(parameter, String.valueOf(value.get()));
+
+    OutputUnit result = validator.validate(transformedValue);
+
+    try {
+      result.checkValidity();
+      return new RequestParameterImpl(transformedValue);
+    } catch (JsonSchemaValidationException e) {
+      throw requestOrResponse == REQUEST ? createErrorFromOutputUnitType(parameter, result, e) :
+        createInvalidValueParameter(parameter, result, e);
+    }
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public boolean isBody() {
+    return false;
+  }
+
+  @Override
+  public Location getLocation() {
+    return location;
+  }
+
+  @Override
+  public Style getStyle() {
+    return parameter.getStyle();
+  }
+
+  @Override
+  public boolean isRequired() {
+    return required;
+  }
+
+  @Override
+  public boolean isTransformable() {
+    return transformer != null;
+  }
+
+  @Override
+  public boolean isSchemaValidated() {
+    return true;
+  }
+
+  @Override
+  public int getEstimatedCost() {
+    return estimatedCost;
+  }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.validation.impl;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.openapi.contract.MediaType;
+import io.vertx.openapi.contract.RequestBody;
+import io.vertx.openapi.validation.RequestParameter;
+import io.vertx.openapi.validation.UploadedFile;
+import io.vertx.openapi.validation.ValidatableRequest;
+import io.vertx.openapi.validation.ValidationCheck;
+import io.vertx.openapi.validation.ValidatorException;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static io.vertx.openapi.validation.ValidationContext.REQUEST;
+import static io.vertx.openapi.validation.ValidatorErrorType.MISSING_REQUIRED_PARAMETER;
+import static io.vertx.openapi.validation.ValidatorException.createUnsupportedBodyFormat;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * The compiled checks of a request body. The media type of a request is still determined per request, because it
+ * depends on the content type of the request, but the checks of the declared media types are compiled upfront.
+ */
+public class RequestBodyCheck {
+
+  private final RequestBody requestBody;
+  private final boolean required;
+  private final Map<MediaType, MediaTypeCheck> mediaTypes = new IdentityHashMap<>();
+  private final Function<MediaType, MediaTypeCheck> compiler;
+  private final List<ValidationCheck> checks;
+  private final BodyLimits limits;
+
+  /**
+   * @param requestBody the request body to check.
+   * @param compiler    compiles the check of a media type of the request body.
+   */
+  public RequestBodyCheck(RequestBody requestBody, Function<MediaType, MediaTypeCheck> compiler) {
+    this(requestBody, compiler, BodyLimits.NONE);
+  }
+
+  /**
+   * @param requestBody the request body to check.
+   * @param compiler    compiles the check of a media type of the request body.
+   * @param limits      the limits of the request body, which are enforced while it is read.
+   */
+  public RequestBodyCheck(RequestBody requestBody, Function<MediaType, MediaTypeCheck> compiler, BodyLimits limits) {
+    this.requestBody = requestBody;
+    this.required = requestBody.isRequired();
+    this.compiler = compiler;
+    this.limits = limits;
+
+    List<ValidationCheck> checks = new ArrayList<>(requestBody.getContent().size());
+    for (MediaType mediaType : requestBody.getContent().values()) {
+      MediaTypeCheck check = compiler.apply(mediaType);
+      mediaTypes.put(mediaType, check);
+      checks.add(check);
+    }
+    this.checks = unmodifiableList(checks);
+  }
+
+  public RequestParameter validate(ValidatableRequest request) {
+    return validate(request, emptyMap());
+  }
+
+  /**
+   * @param request       the request to validate.
+   * @param uploadedFiles the parts of a multipart body that were streamed to temporary files, by their name.
+   * @return the validated body.
+   */
+  public RequestParameter validate(ValidatableRequest request, Map<String, UploadedFile> uploadedFiles) {
+    if (request.getBody() == null || request.getBody().isEmpty()) {
+      if (required) {
+        throw new ValidatorException("The related request does not contain the required body.",
+          MISSING_REQUIRED_PARAMETER);
+      } else {
+        return new RequestParameterImpl(null);
+      }
+    }
+
+    MediaTypeCheck check = getCheck(request.getContentType());
+    if (check == null) {
+      throw createUnsupportedBodyFormat(REQUEST);
+    }
+    Buffer content = request.getBody().getBuffer(Buffer.buffer());
+
+    return check.validate(request.getContentType(), content, uploadedFiles, REQUEST);
+  }
+
+  /**
+   * @param contentType the content type of a request.
+   * @return the check of the media type that matches the content type, or null if the request body doesn't declare a
+   * media type for the content type.
+   */
+  public MediaTypeCheck getCheck(String contentType) {
+    MediaType mediaType = requestBody.determineContentType(contentType);
+    if (mediaType == null) {
+      return null;
+    }
+    MediaTypeCheck check = mediaTypes.get(mediaType);
+    if (check == null) {
+      // Only happens for request bodies that determine media types which are not part of their content.
+      check = compiler.apply(mediaType);
+    }
+    return check;
+  }
+
+  /**
+   * Checks the content type of a request, before its body is read. A missing content type is accepted, because the
+   * request might not have a body.
+   *
+   * @param contentType the content type of the request.
+   * @throws ValidatorException if the request body doesn't declare a media type for the content type.
+   */
+  public void validateContentType(String contentType) {
+    if (contentType != null && requestBody.determineContentType(contentType) == null) {
+      throw createUnsupportedBodyFormat(REQUEST);
+    }
+  }
+
+  public BodyLimits getLimits() {
+    return limits;
+  }
+
+  public boolean isRequired() {
+    return required;
+  }
+
+  public List<ValidationCheck> getChecks() {
+    return checks;
+  }
+}
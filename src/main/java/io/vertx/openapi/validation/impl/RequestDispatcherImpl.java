@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.validation.impl;
+
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.openapi.contract.OpenAPIContract;
+import io.vertx.openapi.contract.Operation;
+import io.vertx.openapi.contract.RouteMatch;
+import io.vertx.openapi.validation.DispatchedRequest;
+import io.vertx.openapi.validation.RequestDispatcher;
+import io.vertx.openapi.validation.ValidatedRequest;
+import io.vertx.openapi.validation.ValidatorErrorType;
+import io.vertx.openapi.validation.ValidatorException;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.vertx.openapi.validation.ValidatorErrorType.BODY_TOO_LARGE;
+import static io.vertx.openapi.validation.ValidatorException.createOperationNotFound;
+
+public class RequestDispatcherImpl implements RequestDispatcher {
+
+  private final OpenAPIContract contract;
+  private final RequestValidatorImpl requestValidator;
+  private final Map<String, Handler<DispatchedRequest>> handlers = new ConcurrentHashMap<>();
+  private Handler<DispatchedRequest> failureHandler = this::handleFailure;
+
+  public RequestDispatcherImpl(Vertx vertx, OpenAPIContract contract) {
+    this.contract = contract;
+    this.requestValidator = new RequestValidatorImpl(vertx, contract);
+  }
+
+  @Override
+  public RequestDispatcher operation(String operationId, Handler<DispatchedRequest> handler) {
+    if (contract.operation(operationId) == null) {
+      throw new IllegalArgumentException("The contract doesn't contain an operation with operationId: " + operationId);
+    }
+    handlers.put(operationId, handler);
+    return this;
+  }
+
+  @Override
+  public RequestDispatcher failureHandler(Handler<DispatchedRequest> handler) {
+    this.failureHandler = handler;
+    return this;
+  }
+
+  @Override
+  public void handle(HttpServerRequest request) {
+    RouteMatch route = contract.findRoute(request.path(), request.method());
+    if (route == null || !route.isMethodAllowed()) {
+      fail(request, route, null, createOperationNotFound(request.method(), request.path()));
+      return;
+    }
+
+    Operation operation = route.getOperation();
+    Handler<DispatchedRequest> handler = handlers.get(operation.getOperationId());
+    if (handler == null) {
+      fail(request, route, null,
+        new IllegalStateException("No handler registered for operation: " + operation.getOperationId()));
+      return;
+    }
+
+    requestValidator.validate(request, route)
+      .onSuccess(validatedRequest -> {
+        try {
+          handler.handle(new DispatchedRequestImpl(request, route, validatedRequest, null));
+        } catch (RuntimeException e) {
+          fail(request, route, validatedRequest, e);
+        }
+      })
+      .onFailure(t -> fail(request, route, null, t));
+  }
+
+  private void fail(HttpServerRequest request, RouteMatch route, ValidatedRequest validatedRequest, Throwable t) {
+    failureHandler.handle(new DispatchedRequestImpl(request, route, validatedRequest, t));
+  }
+
+  private void handleFailure(DispatchedRequest dispatchedRequest) {
+    HttpServerResponse response = dispatchedRequest.getRequest().response();
+    if (response.headWritten()) {
+      // The handler already started to send a response, the status code can't be changed anymore.
+      response.reset();
+      return;
+    }
+
+    RouteMatch route = dispatchedRequest.getRoute();
+    if (route == null) {
+      response.setStatusCode(404);
+    } else if (!route.isMethodAllowed()) {
+      response.setStatusCode(405).putHeader(HttpHeaders.ALLOW, route.getAllowedMethods());
+    } else if (!handlers.containsKey(route.getOperation().getOperationId())) {
+      response.setStatusCode(501);
+    } else if (dispatchedRequest.getFailure() instanceof ValidatorException) {
+      ValidatorErrorType type = ((ValidatorException) dispatchedRequest.getFailure()).type();
+      response.setStatusCode(type == BODY_TOO_LARGE ? 413 : 400);
+    } else {
+      response.setStatusCode(500);
+    }
+    response.end();
+  }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.validation.impl;
+
+import io.vertx.openapi.mediatype.impl.StreamingJsonAnalyser;
+import io.vertx.openapi.validation.RequestParameter;
+import io.vertx.openapi.validation.UploadedFile;
+import io.vertx.openapi.validation.ValidatableRequest;
+import io.vertx.openapi.validation.ValidatedRequest;
+import io.vertx.openapi.validation.ValidationCheck;
+import io.vertx.openapi.validation.ValidationPlan;
+import io.vertx.openapi.validation.ValidatorException;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.vertx.openapi.validation.ValidationContext.REQUEST;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * The compiled {@link ValidationPlan} of the request of an operation. Validating a request only runs the compiled
+ * checks, all lookups that only depend on the contract are done once, when the plan is compiled.
+ * <p>
+ * A request can be validated in two phases: The parameters and the content type are validated as soon as the headers
+ * of the request have arrived, the body is only read and validated if the first phase succeeded.
+ */
+public class RequestValidationPlan implements ValidationPlan {
+
+  private final String operationId;
+  private final ParameterCheck[] parameters;
+  private final RequestBodyCheck body;
+  private final int estimatedCost;
+
+  // The number of parameters per location, to size the maps of the validated request upfront.
+  private final int cookieSlots;
+  private final int headerSlots;
+  private final int pathSlots;
+  private final int querySlots;
+
+  /**
+   * @param operationId the operationId of the related operation.
+   * @param parameters  the checks of the parameters in the order in which they are performed.
+   * @param body        the checks of the request body, or null if the operation doesn't define a request body.
+   */
+  public RequestValidationPlan(String operationId, List<ParameterCheck> parameters, RequestBodyCheck body) {
+    this.operationId = operationId;
+    this.parameters = parameters.toArray(new ParameterCheck[0]);
+    this.body = body;
+
+    int cost = 0;
+    int cookies = 0, headers = 0, path = 0, query = 0;
+    for (ParameterCheck parameter : this.parameters) {
+      cost = SchemaCost.add(cost, parameter.getEstimatedCost());
+      switch (parameter.getLocation()) {
+        case COOKIE:
+          cookies++;
+          break;
+        case HEADER:
+          headers++;
+          break;
+        case PATH:
+          path++;
+          break;
+        case QUERY:
+          query++;
+      }
+    }
+    this.cookieSlots = cookies;
+    this.headerSlots = headers;
+    this.pathSlots = path;
+    this.querySlots = query;
+    this.estimatedCost = SchemaCost.add(cost, maxEstimatedCost(getBodyChecks()));
+  }
+
+  public ValidatedRequest validate(ValidatableRequest request) {
+    return validateBody(validateParameters(request), request);
+  }
+
+  /**
+   * Validates the cookie, header, path and query parameters of the passed request, but not its body.
+   *
+   * @param request the request to validate.
+   * @return the validated parameters with an empty body.
+   */
+  public ValidatedRequest validateParameters(ValidatableRequest request) {
+    Map<String, RequestParameter> cookies = new HashMap<>(capacity(cookieSlots));
+    Map<String, RequestParameter> headers = new HashMap<>(capacity(headerSlots));
+    Map<String, RequestParameter> path = new HashMap<>(capacity(pathSlots));
+    Map<String, RequestParameter> query = new HashMap<>(capacity(querySlots));
+
+    for (ParameterCheck param : parameters) {
+      String name = param.getName();
+      switch (param.getLocation()) {
+        case COOKIE:
+          cookies.put(name, param.validate(request.getCookies().get(name)));
+          break;
+        case HEADER:
+          headers.put(name, param.validate(request.getHeaders().get(name)));
+          break;
+        case PATH:
+          path.put(name, param.validate(request.getPathParameters().get(name)));
+          break;
+        case QUERY:
+          query.put(name, param.validate(request.getQuery().get(name)));
+      }
+    }
+
+    return new ValidatedRequestImpl(cookies, headers, path, query, null, request.getServerVariables());
+  }
+
+  /**
+   * Checks if the passed content type is supported by the request body, before the body is read.
+   *
+   * @param contentType the content type of the request.
+   * @throws ValidatorException if the content type is not supported.
+   */
+  public void validateContentType(String contentType) {
+    if (body != null) {
+      body.validateContentType(contentType);
+    }
+  }
+
+  /**
+   * Validates the body of the passed request.
+   *
+   * @param parameters the result of {@link #validateParameters(ValidatableRequest)}.
+   * @param request    the request to validate.
+   * @return the validated parameters together with the validated body.
+   */
+  public ValidatedRequest validateBody(ValidatedRequest parameters, ValidatableRequest request) {
+    return validateBody(parameters, request, emptyMap());
+  }
+
+  /**
+   * Validates the body of the passed request, whose uploaded files were not aggregated.
+   *
+   * @param parameters    the result of {@link #validateParameters(ValidatableRequest)}.
+   * @param request       the request to validate.
+   * @param uploadedFiles the parts of a multipart body that were streamed to temporary files, by their name.
+   * @return the validated parameters together with the validated body.
+   */
+  public ValidatedRequest validateBody(ValidatedRequest parameters, ValidatableRequest request,
+                                       Map<String, UploadedFile> uploadedFiles) {
+    if (body == null) {
+      return parameters;
+    }
+    return new ValidatedRequestImpl(parameters.getCookies(), parameters.getHeaders(), parameters.getPathParameters(),
+      parameters.getQuery(), body.validate(request, uploadedFiles), parameters.getServerVariables());
+  }
+
+  /**
+   * @param contentType the content type of the request.
+   * @return the check of the media type that matches the content type, or null if the operation has no request body
+   * or the request body doesn't declare a media type for the content type.
+   */
+  public MediaTypeCheck getBodyCheck(String contentType) {
+    return body == null ? null : body.getCheck(contentType);
+  }
+
+  /**
+   * Creates an analyser, which checks a JSON body while it is read.
+   *
+   * @param contentType the content type of the request.
+   * @param checkSchema whether the body is checked against its schema, or only against the limits of the body.
+   * @return the analyser, or null if the body of the request can't be analysed while it is read.
+   */
+  public StreamingJsonAnalyser createStreamingAnalyser(String contentType, boolean checkSchema) {
+    if (body == null || (!checkSchema && !body.getLimits().getJsonLimits().isLimited())) {
+      return null;
+    }
+    MediaTypeCheck check = body.getCheck(contentType);
+    if (check == null) {
+      return null;
+    }
+    return check.createStreamingAnalyser(REQUEST, checkSchema, body.getLimits().getJsonLimits());
+  }
+
+  /**
+   * @return the limits of the request body, which are enforced while it is read.
+   */
+  public BodyLimits getBodyLimits() {
+    return body == null ? BodyLimits.NONE : body.getLimits();
+  }
+
+  /**
+   * @return true if the operation defines a request body, which has to be read before it can be validated.
+   */
+  public boolean hasBody() {
+    return body != null;
+  }
+
+  @Override
+  public String getOperationId() {
+    return operationId;
+  }
+
+  @Override
+  public List<ValidationCheck> getParameterChecks() {
+    return unmodifiableList(List.of(parameters));
+  }
+
+  @Override
+  public List<ValidationCheck> getBodyChecks() {
+    return body == null ? Collections.emptyList() : body.getChecks();
+  }
+
+  @Override
+  public boolean isBodyRequired() {
+    return body != null && body.isRequired();
+  }
+
+  @Override
+  public int getEstimatedCost() {
+    return estimatedCost;
+  }
+
+  static int maxEstimatedCost(List<ValidationCheck> checks) {
+    int max = 0;
+    for (ValidationCheck check : checks) {
+      max = Math.max(max, check.getEstimatedCost());
+    }
+    return max;
+  }
+
+  static int capacity(int expectedSize) {
+    // Avoids a resize of the map, if it is filled up to the expected size.
+    return (int) (expectedSize / 0.75f) + 1;
+  }
+}
@@ -15,47 +15,61 @@ package io.vertx.openapi.validation.impl;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerRequest;
-import io.vertx.json.schema.JsonSchemaValidationException;
-import io.vertx.json.schema.OutputUnit;
-import io.vertx.openapi.contract.MediaType;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.streams.ReadStream;
 import io.vertx.openapi.contract.OpenAPIContract;
 import io.vertx.openapi.contract.Operation;
 import io.vertx.openapi.contract.Parameter;
 import io.vertx.openapi.contract.RequestBody;
+import io.vertx.openapi.contract.RouteMatch;
 import io.vertx.openapi.contract.Style;
+import io.vertx.openapi.mediatype.impl.MultipartFormAnalyser;
+import io.vertx.openapi.mediatype.impl.StreamingJsonAnalyser;
 import io.vertx.openapi.validation.RequestParameter;
+import io.vertx.openapi.validation.RequestUtils;
 import io.vertx.openapi.validation.RequestValidator;
 import io.vertx.openapi.validation.ValidatableRequest;
 import io.vertx.openapi.validation.ValidatedRequest;
 import io.vertx.openapi.validation.ValidatorException;
+import io.vertx.openapi.validation.ValidatorOptions;
+import io.vertx.openapi.validation.ValidatorStats;
 import io.vertx.openapi.validation.transformer.FormTransformer;
 import io.vertx.openapi.validation.transformer.LabelTransformer;
 import io.vertx.openapi.validation.transformer.MatrixTransformer;
 import io.vertx.openapi.validation.transformer.ParameterTransformer;
 import io.vertx.openapi.validation.transformer.SimpleTransformer;
 
+import java.util.ArrayList;
 import java.util.EnumMap;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import static io.vertx.core.Future.failedFuture;
+import static io.vertx.core.Future.succeededFuture;
+import static io.vertx.openapi.contract.MediaType.MULTIPART_FORM_DATA;
 import static io.vertx.openapi.contract.Style.FORM;
 import static io.vertx.openapi.contract.Style.LABEL;
 import static io.vertx.openapi.contract.Style.MATRIX;
 import static io.vertx.openapi.contract.Style.SIMPLE;
-import static io.vertx.openapi.validation.SchemaValidationException.createErrorFromOutputUnitType;
 import static io.vertx.openapi.validation.ValidationContext.REQUEST;
-import static io.vertx.openapi.validation.ValidatorErrorType.MISSING_REQUIRED_PARAMETER;
-import static io.vertx.openapi.validation.ValidatorException.createMissingRequiredParameter;
+import static io.vertx.openapi.validation.ValidatorException.createBodyTooLarge;
+import static io.vertx.openapi.validation.ValidatorException.createOperationIdInvalid;
 import static io.vertx.openapi.validation.ValidatorException.createOperationNotFound;
-import static io.vertx.openapi.validation.ValidatorException.createUnsupportedValueFormat;
 
 public class RequestValidatorImpl extends BaseValidator implements RequestValidator {
   private final Map<Style, ParameterTransformer> parameterTransformers;
+  private final Map<Operation, RequestValidationPlan> plans = new ConcurrentHashMap<>();
 
   public RequestValidatorImpl(Vertx vertx, OpenAPIContract contract) {
-    super(vertx, contract);
+    this(vertx, contract, new ValidatorOptions());
+  }
+
+  public RequestValidatorImpl(Vertx vertx, OpenAPIContract contract, ValidatorOptions options) {
+    super(vertx, contract, options);
     parameterTransformers = new EnumMap<>(Style.class);
     parameterTransformers.put(SIMPLE, new SimpleTransformer());
     parameterTransformers.put(LABEL, new LabelTransformer());
@@ -65,94 +79,243 @@ public class RequestValidatorImpl extends BaseValidator implements RequestValida
 
   @Override
   public Future<ValidatedRequest> validate(HttpServerRequest request) {
-    Operation operation = contract.findOperation(request.path(), request.method());
-    if (operation == null) {
+    RouteMatch route = contract.findRoute(request.path(), request.method());
+    if (route == null || !route.isMethodAllowed()) {
       return failedFuture(createOperationNotFound(request.method(), request.path()));
     }
-    return validate(request, operation.getOperationId());
+    return validate(request, route);
   }
 
   @Override
   public Future<ValidatedRequest> validate(HttpServerRequest request, String operationId) {
-    return getOperation(operationId).compose(op -> ValidatableRequest.of(request, op))
-      .compose(params -> validate(params, operationId));
+    return getOperation(operationId).compose(operation -> {
+      RequestValidationPlan plan = getValidationPlan(operation);
+      return validate(request, plan, () -> RequestUtils.extractParameters(request, operation), false);
+    });
   }
 
   @Override
-  public Future<ValidatedRequest> validate(ValidatableRequest request, String operationId) {
-    return getOperation(operationId).compose(operation -> vertx.executeBlocking(() -> {
-      Map<String, RequestParameter> cookies = new HashMap<>(request.getCookies().size());
-      Map<String, RequestParameter> headers = new HashMap<>(request.getHeaders().size());
-      Map<String, RequestParameter> path = new HashMap<>(request.getPathParameters().size());
-      Map<String, RequestParameter> query = new HashMap<>(request.getQuery().size());
-
-      for (Parameter param : operation.getParameters()) {
-        switch (param.getIn()) {
-          case COOKIE:
-            cookies.put(param.getName(), validateParameter(param, request.getCookies().get(param.getName())));
-            break;
-          case HEADER:
-            headers.put(param.getName(), validateParameter(param, request.getHeaders().get(param.getName())));
-            break;
-          case PATH:
-            path.put(param.getName(), validateParameter(param, request.getPathParameters().get(param.getName())));
-            break;
-          case QUERY:
-            query.put(param.getName(), validateParameter(param, request.getQuery().get(param.getName())));
-        }
+  public Future<ValidatedRequest> validateWithBodyStream(HttpServerRequest request, String operationId) {
+    return getOperation(operationId).compose(operation -> {
+      RequestValidationPlan plan = getValidationPlan(operation);
+      return validate(request, plan, () -> RequestUtils.extractParameters(request, operation), true);
+    });
+  }
+
+  /**
+   * Like {@link #validate(HttpServerRequest)}, but with the already matched route of the request.
+   *
+   * @param request the request to validate
+   * @param route   the route of the request.
+   * @return A succeeded Future with the parsed and validated request parameters, or a failed Future containing
+   * ValidationException.
+   */
+  public Future<ValidatedRequest> validate(HttpServerRequest request, RouteMatch route) {
+    RequestValidationPlan plan = getValidationPlan(route.getOperation());
+    // Reuse the path parameters that were captured while matching the request path.
+    return validate(request, plan, () -> RequestUtils.extractParameters(request, route), false);
+  }
+
+  private Future<ValidatedRequest> validate(HttpServerRequest request, RequestValidationPlan plan,
+                                            Supplier<ValidatableRequest> parameterExtractor, boolean streamBinary) {
+    // The content type and the announced content length are checked as soon as the headers have arrived, so that an
+    // invalid request is rejected before its body is read.
+    ValidatableRequest params;
+    String contentType = null;
+    try {
+      params = parameterExtractor.get();
+      if (plan.hasBody()) {
+        contentType = request.headers().get(HttpHeaders.CONTENT_TYPE);
+        plan.validateContentType(contentType);
+        validateContentLength(request, plan.getBodyLimits());
       }
+    } catch (RuntimeException e) {
+      return failedFuture(e);
+    }
 
-      RequestParameter body = validateBody(operation.getRequestBody(), request);
-      return new ValidatedRequestImpl(cookies, headers, path, query, body);
-    }));
+    Future<ValidatedRequest> validatedParams = executor.execute(plan, null, () -> plan.validateParameters(params));
+    if (!plan.hasBody()) {
+      return validatedParams;
+    }
+    String bodyContentType = contentType;
+    if (validatedParams.isComplete()) {
+      return validatedParams.compose(validated ->
+        validateBody(request, plan, params, validated, bodyContentType, streamBinary, false));
+    }
+    // The parameters are validated on another thread, the body is read only once they are valid. Otherwise, the body
+    // is discarded, so that the connection doesn't stall.
+    request.pause();
+    return validatedParams.onFailure(t -> request.resume()).compose(validated ->
+      validateBody(request, plan, params, validated, bodyContentType, streamBinary, true));
   }
 
-  // VisibleForTesting
-  public RequestParameter validateParameter(Parameter parameter, RequestParameter value) throws ValidatorException {
-    if (value == null || value.isNull()) {
-      if (parameter.isRequired()) {
-        throw createMissingRequiredParameter(parameter);
-      } else {
-        return new RequestParameterImpl(null);
+  private Future<ValidatedRequest> validateBody(HttpServerRequest request, RequestValidationPlan plan,
+                                                ValidatableRequest params, ValidatedRequest validatedParams,
+                                                String contentType, boolean streamBinary, boolean paused) {
+    BodyLimits limits = plan.getBodyLimits();
+    if (streamBinary) {
+      MediaTypeCheck check = plan.getBodyCheck(contentType);
+      if (check != null && check.isBinary()) {
+        // The body is passed through untouched, only its length is checked while it is read by the caller
+        request.pause();
+        ReadStream<Buffer> bodyStream =
+          BinaryBodyStream.wrap(request, check, limits.getMaxSize(), plan.isBodyRequired(), REQUEST);
+        return succeededFuture(new ValidatedRequestImpl(validatedParams.getCookies(), validatedParams.getHeaders(),
+          validatedParams.getPathParameters(), validatedParams.getQuery(), null, validatedParams.getServerVariables(),
+          bodyStream));
       }
     }
+    MultipartSpillReader spillReader = createSpillReader(plan, contentType, limits);
+    if (spillReader != null) {
+      Future<Buffer> rawBody = spillReader.read(request);
+      if (paused) {
+        request.resume();
+      }
+      return rawBody.compose(buffer -> {
+        RequestParameter body = new RequestParameterImpl(buffer);
+        ValidatableRequest withBody = new ValidatableRequestImpl(params.getCookies(), params.getHeaders(),
+          params.getPathParameters(), params.getQuery(), body, contentType, params.getServerVariables());
+        return executor.execute(plan, body,
+          () -> plan.validateBody(validatedParams, withBody, spillReader.getUploadedFiles()));
+      }).onComplete(ar -> {
+        if (ar.failed()) {
+          spillReader.delete();
+        } else if (spillReader.hasFiles()) {
+          deleteWithResponse(request.response(), spillReader);
+        }
+      });
+    }
+    StreamingJsonAnalyser analyser = plan.createStreamingAnalyser(contentType, options.isStreamingJsonValidation());
+    Future<Buffer> rawBody = analyser == null && !limits.isSizeLimited() ? request.body() :
+      StreamingBodyReader.read(request, limits.getMaxSize(), analyser);
+    if (paused) {
+      request.resume();
+    }
+    return rawBody.compose(buffer -> {
+      RequestParameter body = new RequestParameterImpl(buffer);
+      ValidatableRequest withBody = new ValidatableRequestImpl(params.getCookies(), params.getHeaders(),
+        params.getPathParameters(), params.getQuery(), body, contentType, params.getServerVariables());
+      return executor.execute(plan, body, () -> plan.validateBody(validatedParams, withBody));
+    });
+  }
 
-    ParameterTransformer transformer = parameterTransformers.get(parameter.getStyle());
-    if (transformer == null) {
-      throw createUnsupportedValueFormat(parameter);
+  /**
+   * Deletes the uploaded files once the response has been sent, or once its connection or stream has been closed
+   * before, so that the files of a reset request don't remain on disk. The end handler of the response is left to the
+   * application.
+   */
+  private static void deleteWithResponse(HttpServerResponse response, MultipartSpillReader spillReader) {
+    if (response.ended() || response.closed()) {
+      spillReader.delete();
+      return;
     }
-    Object transformedValue = transformer.transform(parameter, String.valueOf(value.get()));
+    response.bodyEndHandler(v -> spillReader.delete());
+    response.closeHandler(v -> spillReader.delete());
+  }
 
-    OutputUnit result = contract
-      .getSchemaRepository()
-      .validator(parameter.getSchema())
-      .validate(transformedValue);
+  /**
+   * @return a reader that streams large binary parts of a multipart body to temporary files, or null if the body isn't
+   * a multipart body with a schema, or if spilling is disabled.
+   */
+  private MultipartSpillReader createSpillReader(RequestValidationPlan plan, String contentType, BodyLimits limits) {
+    if (options.getMultipartSpillThreshold() < 0 || contentType == null
+      || !contentType.startsWith(MULTIPART_FORM_DATA)) {
+      return null;
+    }
+    String boundary = MultipartFormAnalyser.extractBoundary(contentType);
+    MediaTypeCheck check = plan.getBodyCheck(contentType);
+    if (boundary == null || check == null || !check.isSchemaValidated()) {
+      return null;
+    }
+    return new MultipartSpillReader(vertx, boundary, options.getMultipartSpillThreshold(),
+      options.getUploadsDirectory(), limits.getMaxSize());
+  }
 
+  private static void validateContentLength(HttpServerRequest request, BodyLimits limits) {
+    if (!limits.isSizeLimited()) {
+      return;
+    }
+    String contentLength = request.headers().get(HttpHeaders.CONTENT_LENGTH);
+    if (contentLength == null) {
+      return;
+    }
     try {
-      result.checkValidity();
-      return new RequestParameterImpl(transformedValue);
-    } catch (JsonSchemaValidationException e) {
-      throw createErrorFromOutputUnitType(parameter, result, e);
+      if (Long.parseLong(contentLength.trim()) > limits.getMaxSize()) {
+        throw createBodyTooLarge(REQUEST, "size of " + limits.getMaxSize() + " bytes");
+      }
+    } catch (NumberFormatException e) {
+      // An invalid content length is rejected by the server, otherwise the size is checked while the body is read
     }
   }
 
+  @Override
+  public Future<ValidatedRequest> validate(ValidatableRequest request, String operationId) {
+    return getOperation(operationId).compose(operation -> {
+      RequestValidationPlan plan = getValidationPlan(operation);
+      return executor.execute(plan, request.getBody(), () -> plan.validate(request));
+    });
+  }
+
+  @Override
+  public ValidatedRequest validateSync(ValidatableRequest request, String operationId) {
+    return getValidationPlan(operationId).validate(request);
+  }
+
+  @Override
+  public ValidatorStats getStats() {
+    return executor;
+  }
+
+  @Override
+  public Future<Void> close() {
+    return executor.close();
+  }
+
+  @Override
+  public RequestValidationPlan getValidationPlan(String operationId) {
+    Operation operation = contract.operation(operationId);
+    if (operation == null) {
+      throw createOperationIdInvalid(operationId);
+    }
+    return getValidationPlan(operation);
+  }
+
+  // VisibleForTesting
+  public RequestValidationPlan getValidationPlan(Operation operation) {
+    return plans.computeIfAbsent(operation, this::compileValidationPlan);
+  }
+
+  private RequestValidationPlan compileValidationPlan(Operation operation) {
+    List<ParameterCheck> parameters = new ArrayList<>(operation.getParameters().size());
+    for (Parameter parameter : operation.getParameters()) {
+      parameters.add(compileParameterCheck(parameter));
+    }
+    RequestBody requestBody = operation.getRequestBody();
+    RequestBodyCheck body = requestBody == null ? null : compileRequestBodyCheck(requestBody);
+    return new RequestValidationPlan(operation.getOperationId(), parameters, body);
+  }
+
+  private ParameterCheck compileParameterCheck(Parameter parameter) {
+    ParameterTransformer transformer = parameterTransformers.get(parameter.getStyle());
+    return new ParameterCheck(parameter, transformer, contract.getParameterValidator(parameter), REQUEST);
+  }
+
+  private RequestBodyCheck compileRequestBodyCheck(RequestBody requestBody) {
+    boolean required = requestBody.isRequired();
+    return new RequestBodyCheck(requestBody, mediaType -> compileMediaTypeCheck(mediaType, required),
+      BodyLimits.of(requestBody, options));
+  }
+
+  // VisibleForTesting
+  public RequestParameter validateParameter(Parameter parameter, RequestParameter value) throws ValidatorException {
+    return compileParameterCheck(parameter).validate(value);
+  }
+
   // VisibleForTesting
   public RequestParameter validateBody(RequestBody requestBody, ValidatableRequest request) {
     if (requestBody == null) {
       return new RequestParameterImpl(null);
     }
-    if (request.getBody() == null || request.getBody().isEmpty()) {
-      if (requestBody.isRequired()) {
-        throw new ValidatorException("The related request does not contain the required body.",
-          MISSING_REQUIRED_PARAMETER);
-      } else {
-        return new RequestParameterImpl(null);
-      }
-    }
-
-    MediaType mediaType = requestBody.determineContentType(request.getContentType());
-    Buffer content = request.getBody().getBuffer(Buffer.buffer());
-
-    return validate(mediaType, request.getContentType(), content, REQUEST);
+    return compileRequestBodyCheck(requestBody).validate(request);
   }
 }
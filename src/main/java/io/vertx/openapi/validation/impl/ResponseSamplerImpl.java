@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+
+package io.vertx.openapi.validation.impl;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.openapi.contract.OpenAPIContract;
+import io.vertx.openapi.validation.ResponseSampler;
+import io.vertx.openapi.validation.ResponseSamplingOptions;
+import io.vertx.openapi.validation.ResponseViolation;
+import io.vertx.openapi.validation.ValidatableResponse;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sends responses without validating them first, and validates a sample of them afterward on a dedicated pool of low
+ * priority threads. The thread priority is only a hint to the operating system, the CPU time that the validations
+ * actually use is limited by the budget of the {@link ResponseSamplingOptions}, which is tracked in windows of one
+ * second.
+ */
+public class ResponseSamplerImpl implements ResponseSampler {
+
+  private static final long WINDOW = TimeUnit.SECONDS.toNanos(1);
+  private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+  private static final boolean CPU_TIME = THREADS.isCurrentThreadCpuTimeSupported() && THREADS.isThreadCpuTimeEnabled();
+  private static final AtomicInteger POOLS = new AtomicInteger();
+
+  private final Vertx vertx;
+  private final ResponseSamplingOptions options;
+  private final ResponseValidatorImpl validator;
+  private final ThreadPoolExecutor executor;
+  // -1 if the CPU time of the validations is not limited
+  private final long budget;
+
+  private final Map<String, Map<Integer, LongAdder>> sampledResponses = new ConcurrentHashMap<>();
+  private final Map<String, Map<Integer, LongAdder>> violations = new ConcurrentHashMap<>();
+  private final LongAdder skippedValidations = new LongAdder();
+  private final LongAdder totalValidationTime = new LongAdder();
+  private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+  private final AtomicLong windowTime = new AtomicLong();
+
+  private volatile Handler<ResponseViolation> violationHandler;
+
+  public ResponseSamplerImpl(Vertx vertx, OpenAPIContract contract, ResponseSamplingOptions options) {
+    this.vertx = vertx;
+    this.options = new ResponseSamplingOptions(options);
+    this.validator = new ResponseValidatorImpl(vertx, contract);
+    this.budget = options.getValidationBudget() < 0 ? -1 : TimeUnit.MILLISECONDS.toNanos(options.getValidationBudget());
+
+    String prefix = "vertx-openapi-response-sampler-" + POOLS.incrementAndGet() + "-";
+    AtomicInteger threads = new AtomicInteger();
+    ThreadFactory threadFactory = task -> {
+      Thread thread = new Thread(task, prefix + threads.incrementAndGet());
+      thread.setDaemon(true);
+      thread.setPriority(Thread.MIN_PRIORITY);
+      return thread;
+    };
+    this.executor = new ThreadPoolExecutor(options.getPoolSize(), options.getPoolSize(), 0, TimeUnit.MILLISECONDS,
+      new ArrayBlockingQueue<>(options.getMaxPendingValidations()), threadFactory);
+  }
+
+  @Override
+  public ResponseSampler violationHandler(Handler<ResponseViolation> handler) {
+    this.violationHandler = handler;
+    return this;
+  }
+
+  @Override
+  public Future<Void> send(ValidatableResponse params, HttpServerResponse serverResponse, String operationId) {
+    Future<Void> sent = new ValidatedResponseImpl(params.getHeaders(), params.getBody(), params).send(serverResponse);
+    if (isSampled(operationId, params.getStatusCode())) {
+      submit(params, operationId);
+    }
+    return sent;
+  }
+
+  // VisibleForTesting
+  public boolean isSampled(String operationId, int statusCode) {
+    if (statusCode >= 400 && options.isAlwaysSampleErrors()) {
+      return true;
+    }
+    double rate = options.getOperationSampleRates().getOrDefault(operationId, options.getSampleRate());
+    return ThreadLocalRandom.current().nextDouble() < rate;
+  }
+
+  private void submit(ValidatableResponse params, String operationId) {
+    if (!hasBudget()) {
+      skippedValidations.increment();
+      return;
+    }
+    Context context = vertx.getOrCreateContext();
+    try {
+      executor.execute(() -> validate(params, operationId, context));
+    } catch (RejectedExecutionException e) {
+      // Too many validations are pending, or the sampler is closed
+      skippedValidations.increment();
+    }
+  }
+
+  private boolean hasBudget() {
+    if (budget < 0) {
+      return true;
+    }
+    long now = System.nanoTime();
+    long start = windowStart.get();
+    if (now - start >= WINDOW && windowStart.compareAndSet(start, now)) {
+      windowTime.set(0);
+    }
+    return windowTime.get() < budget;
+  }
+
+  private void validate(ValidatableResponse params, String operationId, Context context) {
+    // The budget is checked again, because it may have been used up while the validation was pending
+    if (!hasBudget()) {
+      skippedValidations.increment();
+      return;
+    }
+
+    Throwable failure = null;
+    long started = cpuTime();
+    try {
+      validator.validateSync(params, operationId);
+    } catch (RuntimeException e) {
+      failure = e;
+    } finally {
+      long elapsed = cpuTime() - started;
+      totalValidationTime.add(elapsed);
+      windowTime.addAndGet(elapsed);
+    }
+
+    counter(sampledResponses, operationId, params.getStatusCode()).increment();
+    if (failure != null) {
+      counter(violations, operationId, params.getStatusCode()).increment();
+      Handler<ResponseViolation> handler = violationHandler;
+      if (handler != null) {
+        ResponseViolation violation = new ResponseViolationImpl(operationId, params, failure);
+        context.runOnContext(v -> handler.handle(violation));
+      }
+    }
+  }
+
+  private static long cpuTime() {
+    return CPU_TIME ? THREADS.getCurrentThreadCpuTime() : System.nanoTime();
+  }
+
+  private static LongAdder counter(Map<String, Map<Integer, LongAdder>> counters, String operationId,
+                                   int statusCode) {
+    return counters.computeIfAbsent(operationId, key -> new ConcurrentHashMap<>())
+      .computeIfAbsent(statusCode, key -> new LongAdder());
+  }
+
+  private static long count(Map<String, Map<Integer, LongAdder>> counters, String operationId, int statusCode) {
+    Map<Integer, LongAdder> byStatusCode = counters.get(operationId);
+    LongAdder counter = byStatusCode == null ? null : byStatusCode.get(statusCode);
+    return counter == null ? 0 : counter.sum();
+  }
+
+  @Override
+  public long getSampledResponses(String operationId, int statusCode) {
+    return count(sampledResponses, operationId, statusCode);
+  }
+
+  @Override
+  public long getViolations(String operationId, int statusCode) {
+    return count(violations, operationId, statusCode);
+  }
+
+  @Override
+  public long getSkippedValidations() {
+    return skippedValidations.sum();
+  }
+
+  @Override
+  public long getTotalValidationTime() {
+    return totalValidationTime.sum();
+  }
+
+  @Override
+  public Future<Void> close() {
+    executor.shutdownNow();
+    return validator.close();
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.validation.impl;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.openapi.validation.ResponseParameter;
+import io.vertx.openapi.validation.ValidatableResponse;
+import io.vertx.openapi.validation.ValidatedResponse;
+import io.vertx.openapi.validation.ValidationCheck;
+import io.vertx.openapi.validation.ValidationPlan;
+import io.vertx.openapi.validation.ValidatorException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.vertx.openapi.validation.ValidationContext.RESPONSE;
+import static io.vertx.openapi.validation.ValidatorErrorType.MISSING_REQUIRED_PARAMETER;
+import static io.vertx.openapi.validation.ValidatorException.createUnsupportedBodyFormat;
+import static io.vertx.openapi.validation.impl.RequestValidationPlan.capacity;
+import static io.vertx.openapi.validation.impl.RequestValidationPlan.maxEstimatedCost;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * The compiled {@link ValidationPlan} of a response of an operation. Validating a response only runs the compiled
+ * checks, all lookups that only depend on the contract are done once, when the plan is compiled.
+ */
+public class ResponseValidationPlan implements ValidationPlan {
+
+  private final String operationId;
+  private final ParameterCheck[] headers;
+  private final Map<String, MediaTypeCheck> content;
+  private final int estimatedCost;
+
+  /**
+   * @param operationId the operationId of the related operation.
+   * @param headers     the checks of the headers in the order in which they are performed.
+   * @param content     the checks of the body keyed by the content type.
+   */
+  public ResponseValidationPlan(String operationId, List<ParameterCheck> headers, Map<String, MediaTypeCheck> content) {
+    this.operationId = operationId;
+    this.headers = headers.toArray(new ParameterCheck[0]);
+    // LinkedHashMap keeps the declaration order and permits the lookup of a missing (null) content type
+    this.content = new LinkedHashMap<>(content);
+
+    int cost = 0;
+    for (ParameterCheck header : this.headers) {
+      cost = SchemaCost.add(cost, header.getEstimatedCost());
+    }
+    this.estimatedCost = SchemaCost.add(cost, maxEstimatedCost(getBodyChecks()));
+  }
+
+  public ValidatedResponse validate(ValidatableResponse params) {
+    return new ValidatedResponseImpl(validateHeaders(params), validateBody(params), params);
+  }
+
+  /**
+   * Validates the headers of the passed response, but not its body.
+   *
+   * @param params the response to validate.
+   * @return the validated headers.
+   */
+  public Map<String, ResponseParameter> validateHeaders(ValidatableResponse params) {
+    Map<String, ResponseParameter> validatedHeaders = new HashMap<>(capacity(headers.length));
+    for (ParameterCheck header : headers) {
+      validatedHeaders.put(header.getName(), header.validate(params.getHeaders().get(header.getName())));
+    }
+    return validatedHeaders;
+  }
+
+  public ResponseParameter validateBody(ValidatableResponse params) {
+    if (content.isEmpty()) {
+      return new RequestParameterImpl(null);
+    }
+    if (params.getBody() == null || params.getBody().isEmpty()) {
+      throw new ValidatorException("The related response does not contain the required body.",
+        MISSING_REQUIRED_PARAMETER);
+    }
+
+    MediaTypeCheck check = content.get(params.getContentType());
+    if (check == null) {
+      throw createUnsupportedBodyFormat(RESPONSE);
+    }
+    Buffer rawContent = params.getBody().getBuffer(Buffer.buffer());
+
+    return check.validate(params.getContentType(), rawContent, RESPONSE);
+  }
+
+  /**
+   * @param contentType the content type of the response.
+   * @return the check of the body in the passed content type, or null if the response has no body or doesn't declare
+   * the content type.
+   */
+  public MediaTypeCheck getBodyCheck(String contentType) {
+    return content.get(contentType);
+  }
+
+  @Override
+  public String getOperationId() {
+    return operationId;
+  }
+
+  @Override
+  public List<ValidationCheck> getParameterChecks() {
+    return unmodifiableList(List.of(headers));
+  }
+
+  @Override
+  public List<ValidationCheck> getBodyChecks() {
+    return unmodifiableList(new ArrayList<>(content.values()));
+  }
+
+  @Override
+  public boolean isBodyRequired() {
+    return !content.isEmpty();
+  }
+
+  @Override
+  public int getEstimatedCost() {
+    return estimatedCost;
+  }
+}
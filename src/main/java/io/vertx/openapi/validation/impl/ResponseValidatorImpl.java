@@ -15,43 +15,57 @@ package io.vertx.openapi.validation.impl;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
-import io.vertx.json.schema.JsonSchemaValidationException;
-import io.vertx.json.schema.OutputUnit;
-import io.vertx.openapi.contract.MediaType;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.core.streams.WriteStream;
 import io.vertx.openapi.contract.OpenAPIContract;
+import io.vertx.openapi.contract.Operation;
 import io.vertx.openapi.contract.Parameter;
 import io.vertx.openapi.contract.Response;
+import io.vertx.openapi.mediatype.impl.StreamingJsonAnalyser;
+import io.vertx.openapi.mediatype.impl.StreamingJsonLimits;
+import io.vertx.openapi.mediatype.impl.StreamingJsonSchema;
 import io.vertx.openapi.validation.ResponseParameter;
 import io.vertx.openapi.validation.ResponseValidator;
 import io.vertx.openapi.validation.ValidatableResponse;
 import io.vertx.openapi.validation.ValidatedResponse;
 import io.vertx.openapi.validation.ValidatorException;
+import io.vertx.openapi.validation.ValidatorOptions;
+import io.vertx.openapi.validation.ValidatorStats;
 import io.vertx.openapi.validation.transformer.ParameterTransformer;
 import io.vertx.openapi.validation.transformer.SimpleTransformer;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static io.vertx.core.Future.failedFuture;
 import static io.vertx.core.Future.succeededFuture;
-import static io.vertx.openapi.validation.SchemaValidationException.createInvalidValueParameter;
 import static io.vertx.openapi.validation.ValidationContext.RESPONSE;
-import static io.vertx.openapi.validation.ValidatorErrorType.MISSING_REQUIRED_PARAMETER;
-import static io.vertx.openapi.validation.ValidatorException.createMissingRequiredParameter;
+import static io.vertx.openapi.validation.ValidatorException.createOperationIdInvalid;
 import static io.vertx.openapi.validation.ValidatorException.createResponseNotFound;
+import static io.vertx.openapi.validation.ValidatorException.createUnsupportedBodyFormat;
 
 public class ResponseValidatorImpl extends BaseValidator implements ResponseValidator {
   private static final ParameterTransformer TRANSFORMER = new SimpleTransformer();
 
+  private final Map<Response, ResponseValidationPlan> plans = new ConcurrentHashMap<>();
+
   public ResponseValidatorImpl(Vertx vertx, OpenAPIContract contract) {
-    super(vertx, contract);
+    this(vertx, contract, new ValidatorOptions());
+  }
+
+  public ResponseValidatorImpl(Vertx vertx, OpenAPIContract contract, ValidatorOptions options) {
+    super(vertx, contract, options);
   }
 
   // VisibleForTesting
   public Future<Response> getResponse(ValidatableResponse params, String operationId) {
     return getOperation(operationId).compose(op -> {
-      Response response = Optional.ofNullable(op.getResponse(params.getStatusCode())).orElse(op.getDefaultResponse());
+      Response response = getResponse(op, params.getStatusCode());
       if (response == null) {
         return failedFuture(createResponseNotFound(params.getStatusCode(), operationId));
       }
@@ -59,53 +73,139 @@ public class ResponseValidatorImpl extends BaseValidator implements ResponseVali
     });
   }
 
+  private static Response getResponse(Operation operation, int statusCode) {
+    return Optional.ofNullable(operation.getResponse(statusCode)).orElse(operation.getDefaultResponse());
+  }
+
   @Override
   public Future<ValidatedResponse> validate(ValidatableResponse params, String operationId) {
-    return getResponse(params, operationId).compose(response -> vertx.executeBlocking(() -> {
-      Map<String, ResponseParameter> headers = new HashMap<>(params.getHeaders().size());
-      for (Parameter header : response.getHeaders()) {
-        headers.put(header.getName(), validateParameter(header, params.getHeaders().get(header.getName())));
+    return getResponse(params, operationId).compose(response -> {
+      ResponseValidationPlan plan = getValidationPlan(operationId, response);
+      return executor.execute(plan, params.getBody(), () -> plan.validate(params));
+    });
+  }
+
+  @Override
+  public Future<ValidatedResponse> validateWithBodyStream(ValidatableResponse params, ReadStream<Buffer> body,
+                                                          String operationId) {
+    return getResponse(params, operationId).compose(response -> {
+      ResponseValidationPlan plan = getValidationPlan(operationId, response);
+      MediaTypeCheck check = plan.getBodyCheck(params.getContentType());
+      if (check != null && check.isBinary()) {
+        // The body is passed through untouched, only its length is checked while it is sent
+        try {
+          Map<String, ResponseParameter> headers = plan.validateHeaders(params);
+          ReadStream<Buffer> bodyStream = BinaryBodyStream.wrap(body, check, Long.MAX_VALUE, true, RESPONSE);
+          return succeededFuture(new ValidatedResponseImpl(headers, null, params, bodyStream));
+        } catch (RuntimeException e) {
+          return failedFuture(e);
+        }
       }
+      return StreamingBodyReader.read(body, Long.MAX_VALUE, null).compose(buffer -> {
+        ValidatableResponse withBody = new ValidatableResponseImpl(params.getStatusCode(), params.getHeaders(),
+          new RequestParameterImpl(buffer), params.getContentType());
+        return executor.execute(plan, withBody.getBody(), () -> plan.validate(withBody));
+      });
+    });
+  }
 
-      ResponseParameter body = validateBody(response, params);
-      return new ValidatedResponseImpl(headers, body, params);
-    }));
+  @Override
+  public Future<WriteStream<Buffer>> validateWithWriteStream(ValidatableResponse params,
+                                                            HttpServerResponse serverResponse, String operationId) {
+    return getResponse(params, operationId).compose(response -> {
+      ResponseValidationPlan plan = getValidationPlan(operationId, response);
+      try {
+        WriteStream<Buffer> bodyStream = createValidatingStream(plan, params.getContentType(), serverResponse);
+        ValidatedResponseImpl validated = new ValidatedResponseImpl(plan.validateHeaders(params), null, params);
+        validated.prepareStreaming(serverResponse);
+        return succeededFuture(bodyStream);
+      } catch (RuntimeException e) {
+        return failedFuture(e);
+      }
+    });
   }
 
-  // VisibleForTesting
-  public ResponseParameter validateParameter(Parameter parameter, ResponseParameter value) throws ValidatorException {
-    if (value == null || value.isNull()) {
-      if (parameter.isRequired()) {
-        throw createMissingRequiredParameter(parameter);
-      } else {
-        return new RequestParameterImpl(null);
+  private static WriteStream<Buffer> createValidatingStream(ResponseValidationPlan plan, String contentType,
+                                                            HttpServerResponse serverResponse) {
+    if (!plan.isBodyRequired()) {
+      // The response doesn't define a body, so there is nothing to validate
+      return serverResponse;
+    }
+    MediaTypeCheck check = plan.getBodyCheck(contentType);
+    if (check == null) {
+      throw createUnsupportedBodyFormat(RESPONSE);
+    }
+    if (check.isBinary()) {
+      return new ValidatingResponseStream(serverResponse, null, check.getMinLength(), check.getMaxLength(), true);
+    }
+    StreamingJsonAnalyser analyser = check.createStreamingAnalyser(RESPONSE, true, StreamingJsonLimits.NONE);
+    if (analyser == null) {
+      if (!check.isJson()) {
+        // Only JSON and binary bodies can be validated without aggregating them
+        throw createUnsupportedBodyFormat(RESPONSE);
       }
+      // None of the keywords of the schema can be checked while streaming, e.g. because the root of the schema is a
+      // $ref, so the body is only checked to be well-formed JSON
+      analyser = new StreamingJsonAnalyser(StreamingJsonSchema.ANY, RESPONSE);
     }
-    Object transformedValue = TRANSFORMER.transform(parameter, String.valueOf(value.get()));
+    return new ValidatingResponseStream(serverResponse, analyser, 0, Long.MAX_VALUE, true);
+  }
+
+  @Override
+  public ValidatedResponse validateSync(ValidatableResponse params, String operationId) {
+    return getValidationPlan(operationId, params.getStatusCode()).validate(params);
+  }
 
-    OutputUnit result = contract.getSchemaRepository().validator(parameter.getSchema()).validate(transformedValue);
+  @Override
+  public ValidatorStats getStats() {
+    return executor;
+  }
 
-    try {
-      result.checkValidity();
-      return new RequestParameterImpl(transformedValue);
-    } catch (JsonSchemaValidationException e) {
-      throw createInvalidValueParameter(parameter, result, e);
+  @Override
+  public Future<Void> close() {
+    return executor.close();
+  }
+
+  @Override
+  public ResponseValidationPlan getValidationPlan(String operationId, int statusCode) {
+    Operation operation = contract.operation(operationId);
+    if (operation == null) {
+      throw createOperationIdInvalid(operationId);
+    }
+    Response response = getResponse(operation, statusCode);
+    if (response == null) {
+      throw createResponseNotFound(statusCode, operationId);
     }
+    return getValidationPlan(operationId, response);
   }
 
   // VisibleForTesting
-  public ResponseParameter validateBody(Response response, ValidatableResponse params) {
-    if (response.getContent().isEmpty()) {
-      return new RequestParameterImpl(null);
-    }
-    if (params.getBody() == null || params.getBody().isEmpty()) {
-      throw new ValidatorException("The related response does not contain the required body.",
-        MISSING_REQUIRED_PARAMETER);
+  public ResponseValidationPlan getValidationPlan(String operationId, Response response) {
+    return plans.computeIfAbsent(response, key -> compileValidationPlan(operationId, key));
+  }
+
+  private ResponseValidationPlan compileValidationPlan(String operationId, Response response) {
+    List<ParameterCheck> headers = new ArrayList<>(response.getHeaders().size());
+    for (Parameter header : response.getHeaders()) {
+      headers.add(compileParameterCheck(header));
     }
+    Map<String, MediaTypeCheck> content = new LinkedHashMap<>();
+    response.getContent().forEach((contentType, mediaType) ->
+      content.put(contentType, compileMediaTypeCheck(mediaType, true)));
+    return new ResponseValidationPlan(operationId, headers, content);
+  }
+
+  private ParameterCheck compileParameterCheck(Parameter parameter) {
+    return new ParameterCheck(parameter, TRANSFORMER, contract.getParameterValidator(parameter), RESPONSE);
+  }
 
-    MediaType mediaType = response.getContent().get(params.getContentType());
-    Buffer content = params.getBody().getBuffer(Buffer.buffer());
+  // VisibleForTesting
+  public ResponseParameter validateParameter(Parameter parameter, ResponseParameter value) throws ValidatorException {
+    return compileParameterCheck(parameter).validate(value);
+  }
 
-    return validate(mediaType, params.getContentType(), content, RESPONSE);
+  // VisibleForTesting
+  public ResponseParameter validateBody(Response response, ValidatableResponse params) {
+    return compileValidationPlan(null, response).validateBody(params);
   }
 }
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+
+package io.vertx.openapi.validation.impl;
+
+import io.vertx.openapi.validation.ResponseViolation;
+import io.vertx.openapi.validation.ValidatableResponse;
+
+public class ResponseViolationImpl implements ResponseViolation {
+
+  private final String operationId;
+  private final ValidatableResponse response;
+  private final Throwable failure;
+
+  public ResponseViolationImpl(String operationId, ValidatableResponse response, Throwable failure) {
+    this.operationId = operationId;
+    this.response = response;
+    this.failure = failure;
+  }
+
+  @Override
+  public String getOperationId() {
+    return operationId;
+  }
+
+  @Override
+  public int getStatusCode() {
+    return response.getStatusCode();
+  }
+
+  @Override
+  public ValidatableResponse getResponse() {
+    return response;
+  }
+
+  @Override
+  public Throwable getFailure() {
+    return failure;
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.validation.impl;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.json.schema.JsonSchema;
+
+import java.util.Map;
+
+/**
+ * Estimates the cost to validate a value against a schema by the number of keywords of the schema, including the
+ * keywords of nested schemas. The estimation is capped at {@link #MAX_COST}, which also ensures that the estimation
+ * terminates for schemas with circular references.
+ */
+public final class SchemaCost {
+
+  public static final int MAX_COST = 10_000;
+
+  private SchemaCost() {
+
+  }
+
+  public static int estimate(JsonSchema schema) {
+    if (schema == null) {
+      return 0;
+    }
+    int cost = 0;
+    for (String keyword : schema.fieldNames()) {
+      cost = estimate(schema.get(keyword), cost + 1);
+      if (cost >= MAX_COST) {
+        return MAX_COST;
+      }
+    }
+    return cost;
+  }
+
+  public static int add(int cost, int other) {
+    return Math.min(MAX_COST, cost + other);
+  }
+
+  private static int estimate(Object value, int cost) {
+    if (value instanceof JsonObject) {
+      for (Map.Entry<String, Object> entry : (JsonObject) value) {
+        cost = estimate(entry.getValue(), cost + 1);
+        if (cost >= MAX_COST) {
+          return MAX_COST;
+        }
+      }
+    } else if (value instanceof JsonArray) {
+      for (Object item : (JsonArray) value) {
+        cost = estimate(item, cost);
+        if (cost >= MAX_COST) {
+          return MAX_COST;
+        }
+      }
+    }
+    return cost;
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.validation.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.openapi.mediatype.impl.StreamingJsonAnalyser;
+
+import static io.vertx.openapi.validation.ValidationContext.REQUEST;
+import static io.vertx.openapi.validation.ValidatorException.createBodyTooLarge;
+
+/**
+ * Reads a body chunk by chunk, checks its size and passes each chunk to a {@link StreamingJsonAnalyser}. If the body
+ * exceeds its maximum size or the analyser rejects a chunk, the returned Future fails immediately and the remaining
+ * chunks are discarded instead of aggregated.
+ */
+public final class StreamingBodyReader {
+
+  private StreamingBodyReader() {
+
+  }
+
+  /**
+   * @param body     the body to read.
+   * @param analyser the analyser to check the chunks of the body.
+   * @return a Future that is completed with the aggregated body, or fails as soon as the analyser rejects the body.
+   */
+  public static Future<Buffer> read(ReadStream<Buffer> body, StreamingJsonAnalyser analyser) {
+    return read(body, Long.MAX_VALUE, analyser);
+  }
+
+  /**
+   * @param body     the body to read.
+   * @param maxSize  the maximum size of the body in bytes.
+   * @param analyser the analyser to check the chunks of the body, or null if the chunks are not analysed.
+   * @return a Future that is completed with the aggregated body, or fails as soon as the body exceeds its maximum size
+   * or the analyser rejects the body.
+   */
+  public static Future<Buffer> read(ReadStream<Buffer> body, long maxSize, StreamingJsonAnalyser analyser) {
+    Promise<Buffer> promise = Promise.promise();
+    Buffer aggregated = Buffer.buffer();
+    body.exceptionHandler(promise::tryFail);
+    body.handler(chunk -> {
+      if (promise.future().isComplete()) {
+        return;
+      }
+      if ((long) aggregated.length() + chunk.length() > maxSize) {
+        promise.tryFail(createBodyTooLarge(REQUEST, "size of " + maxSize + " bytes"));
+        return;
+      }
+      try {
+        if (analyser != null) {
+          analyser.analyse(chunk);
+        }
+        aggregated.appendBuffer(chunk);
+      } catch (RuntimeException e) {
+        promise.tryFail(e);
+      }
+    });
+    body.endHandler(v -> {
+      if (promise.future().isComplete()) {
+        return;
+      }
+      try {
+        if (analyser != null) {
+          analyser.end();
+        }
+        promise.tryComplete(aggregated);
+      } catch (RuntimeException e) {
+        promise.tryFail(e);
+      }
+    });
+    return promise.future();
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.validation.impl;
+
+import io.vertx.openapi.validation.UploadedFile;
+
+public class UploadedFileImpl implements UploadedFile {
+
+  private final String name;
+  private final String contentType;
+  private final String path;
+  private final long size;
+
+  public UploadedFileImpl(String name, String contentType, String path, long size) {
+    this.name = name;
+    this.contentType = contentType;
+    this.path = path;
+    this.size = size;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public String getContentType() {
+    return contentType;
+  }
+
+  @Override
+  public String getPath() {
+    return path;
+  }
+
+  @Override
+  public long getSize() {
+    return size;
+  }
+}
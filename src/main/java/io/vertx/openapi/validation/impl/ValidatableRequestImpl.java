@@ -28,7 +28,13 @@ public class ValidatableRequestImpl extends ValidatedRequestImpl implements Vali
   public ValidatableRequestImpl(Map<String, RequestParameter> cookies, Map<String, RequestParameter> headers,
     Map<String, RequestParameter> path, Map<String, RequestParameter> query, RequestParameter body,
     String contentType) {
-    super(cookies, headers, path, query, body);
+    this(cookies, headers, path, query, body, contentType, null);
+  }
+
+  public ValidatableRequestImpl(Map<String, RequestParameter> cookies, Map<String, RequestParameter> headers,
+    Map<String, RequestParameter> path, Map<String, RequestParameter> query, RequestParameter body,
+    String contentType, Map<String, String> serverVariables) {
+    super(cookies, headers, path, query, body, serverVariables);
     this.contentType = contentType;
   }
 
@@ -12,6 +12,8 @@
 
 package io.vertx.openapi.validation.impl;
 
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
 import io.vertx.openapi.validation.RequestParameter;
 import io.vertx.openapi.validation.ValidatedRequest;
 
@@ -24,6 +26,8 @@ public class ValidatedRequestImpl implements ValidatedRequest {
   private final Map<String, RequestParameter> path;
   private final Map<String, RequestParameter> query;
   private final RequestParameter body;
+  private final Map<String, String> serverVariables;
+  private final ReadStream<Buffer> bodyStream;
 
   public ValidatedRequestImpl(Map<String, RequestParameter> cookies, Map<String, RequestParameter> headers,
     Map<String, RequestParameter> path, Map<String, RequestParameter> query) {
@@ -32,11 +36,25 @@ public class ValidatedRequestImpl implements ValidatedRequest {
 
   public ValidatedRequestImpl(Map<String, RequestParameter> cookies, Map<String, RequestParameter> headers,
     Map<String, RequestParameter> path, Map<String, RequestParameter> query, RequestParameter body) {
+    this(cookies, headers, path, query, body, null);
+  }
+
+  public ValidatedRequestImpl(Map<String, RequestParameter> cookies, Map<String, RequestParameter> headers,
+    Map<String, RequestParameter> path, Map<String, RequestParameter> query, RequestParameter body,
+    Map<String, String> serverVariables) {
+    this(cookies, headers, path, query, body, serverVariables, null);
+  }
+
+  public ValidatedRequestImpl(Map<String, RequestParameter> cookies, Map<String, RequestParameter> headers,
+    Map<String, RequestParameter> path, Map<String, RequestParameter> query, RequestParameter body,
+    Map<String, String> serverVariables, ReadStream<Buffer> bodyStream) {
     this.cookies = safeUnmodifiableMap(cookies);
     this.headers = safeUnmodifiableMap(headers);
     this.path = safeUnmodifiableMap(path);
     this.query = safeUnmodifiableMap(query);
     this.body = body == null ? new RequestParameterImpl(null) : body;
+    this.serverVariables = serverVariables == null ? Collections.emptyMap() : serverVariables;
+    this.bodyStream = bodyStream;
   }
 
   private static Map<String, RequestParameter> safeUnmodifiableMap(Map<String, RequestParameter> map) {
@@ -67,4 +85,14 @@ public class ValidatedRequestImpl implements ValidatedRequest {
   public RequestParameter getBody() {
     return body;
   }
+
+  @Override
+  public ReadStream<Buffer> getBodyStream() {
+    return bodyStream;
+  }
+
+  @Override
+  public Map<String, String> getServerVariables() {
+    return serverVariables;
+  }
 }
@@ -13,7 +13,9 @@
 package io.vertx.openapi.validation.impl;
 
 import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.streams.ReadStream;
 import io.vertx.openapi.validation.ResponseParameter;
 import io.vertx.openapi.validation.ValidatableResponse;
 import io.vertx.openapi.validation.ValidatedResponse;
@@ -24,6 +26,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 
+import static io.vertx.core.http.HttpHeaders.CONTENT_LENGTH;
 import static io.vertx.core.http.HttpHeaders.CONTENT_TYPE;
 import static java.util.Collections.emptyMap;
 import static java.util.stream.Collectors.toMap;
@@ -32,12 +35,19 @@ public class ValidatedResponseImpl implements ValidatedResponse {
   private final Map<String, ResponseParameter> headers;
   private final ResponseParameter body;
   private final ValidatableResponse unvalidated;
+  private final ReadStream<Buffer> bodyStream;
 
   public ValidatedResponseImpl(Map<String, ResponseParameter> headers, ResponseParameter body,
                                ValidatableResponse unvalidated) {
+    this(headers, body, unvalidated, null);
+  }
+
+  public ValidatedResponseImpl(Map<String, ResponseParameter> headers, ResponseParameter body,
+                               ValidatableResponse unvalidated, ReadStream<Buffer> bodyStream) {
     this.headers = safeUnmodifiableMap(headers);
     this.body = body == null ? new RequestParameterImpl(null) : body;
     this.unvalidated = unvalidated;
+    this.bodyStream = bodyStream;
   }
 
   protected static Map<String, ResponseParameter> safeUnmodifiableMap(Map<String, ResponseParameter> map) {
@@ -70,16 +80,20 @@ public class ValidatedResponseImpl implements ValidatedResponse {
   }
 
   @Override
-  public Future<Void> send(HttpServerResponse serverResponse) {
-    serverResponse.setStatusCode(unvalidated.getStatusCode());
+  public ReadStream<Buffer> getBodyStream() {
+    return bodyStream;
+  }
 
-    for (String header : headers.keySet()) {
-      ResponseParameter headerValue = unvalidated.getHeaders().get(header);
-      if (headerValue != null) {
-        serverResponse.headers().add(header, headerValue.getString());
-      }
+  @Override
+  public Future<Void> send(HttpServerResponse serverResponse) {
+    if (bodyStream != null) {
+      prepareStreaming(serverResponse);
+      // The response must not be ended regularly if the body is invalid, otherwise the client receives a truncated
+      // body
+      return bodyStream.pipe().endOnFailure(false).to(serverResponse).onFailure(t -> serverResponse.reset());
     }
 
+    setStatusAndHeaders(serverResponse);
     if (body.isNull() || (body.isString() && body.getString().isEmpty()) || (body.isBuffer() && body.getBuffer().length() == 0)) {
       return serverResponse.send();
     } else {
@@ -87,4 +101,31 @@ public class ValidatedResponseImpl implements ValidatedResponse {
       return serverResponse.send(unvalidated.getBody().getBuffer());
     }
   }
+
+  /**
+   * Sets the status code, the validated headers and the content type of a response, whose body is streamed. Unless a
+   * content length is set, the body is sent with chunked encoding.
+   *
+   * @param serverResponse the related response.
+   */
+  public void prepareStreaming(HttpServerResponse serverResponse) {
+    setStatusAndHeaders(serverResponse);
+    if (unvalidated.getContentType() != null) {
+      serverResponse.headers().add(CONTENT_TYPE.toString(), unvalidated.getContentType());
+    }
+    if (!serverResponse.headers().contains(CONTENT_LENGTH)) {
+      serverResponse.setChunked(true);
+    }
+  }
+
+  private void setStatusAndHeaders(HttpServerResponse serverResponse) {
+    serverResponse.setStatusCode(unvalidated.getStatusCode());
+
+    for (String header : headers.keySet()) {
+      ResponseParameter headerValue = unvalidated.getHeaders().get(header);
+      if (headerValue != null) {
+        serverResponse.headers().add(header, headerValue.getString());
+      }
+    }
+  }
 }
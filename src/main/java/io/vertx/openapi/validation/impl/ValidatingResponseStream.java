@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.validation.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.streams.WriteStream;
+import io.vertx.openapi.mediatype.impl.StreamingJsonAnalyser;
+import io.vertx.openapi.validation.ValidatorException;
+
+import static io.vertx.core.Future.failedFuture;
+import static io.vertx.openapi.validation.ValidationContext.RESPONSE;
+import static io.vertx.openapi.validation.ValidatorErrorType.MISSING_REQUIRED_PARAMETER;
+
+/**
+ * Validates a response body chunk by chunk, while it is written to the {@link HttpServerResponse}. A JSON body is
+ * passed to a {@link StreamingJsonAnalyser}, the length of a binary body is counted. The body is never aggregated.
+ * <p>
+ * Chunks that were written before a violation is detected have already been sent. Therefore, a violation resets the
+ * response, so that the client doesn't mistake the truncated body for a complete one. The violation is reported to
+ * the exception handler of this stream, and fails the Future of the write or end operation that detected it, as well
+ * as all following operations.
+ */
+public class ValidatingResponseStream implements WriteStream<Buffer> {
+
+  private final HttpServerResponse response;
+  // null if the body is not JSON
+  private final StreamingJsonAnalyser analyser;
+  private final long minLength;
+  private final long maxLength;
+  private final boolean required;
+
+  private Handler<Throwable> exceptionHandler;
+  private long bytes;
+  private Throwable violation;
+
+  /**
+   * @param response  the response to write the body to.
+   * @param analyser  the analyser of a JSON body, or null if only the length of the body is checked.
+   * @param minLength the minimum length of the body in bytes.
+   * @param maxLength the maximum length of the body in bytes.
+   * @param required  whether the body is required.
+   */
+  public ValidatingResponseStream(HttpServerResponse response, StreamingJsonAnalyser analyser, long minLength,
+                                  long maxLength, boolean required) {
+    this.response = response;
+    this.analyser = analyser;
+    this.minLength = minLength;
+    this.maxLength = maxLength;
+    this.required = required;
+  }
+
+  /**
+   * @return the number of bytes that were written so far.
+   */
+  public long getBytesWritten() {
+    return bytes;
+  }
+
+  @Override
+  public ValidatingResponseStream exceptionHandler(Handler<Throwable> handler) {
+    exceptionHandler = handler;
+    response.exceptionHandler(handler);
+    return this;
+  }
+
+  @Override
+  public Future<Void> write(Buffer data) {
+    if (violation != null) {
+      return failedFuture(violation);
+    }
+    try {
+      bytes += data.length();
+      if (bytes > maxLength) {
+        throw MediaTypeCheck.schemaViolation("", "maxLength", "String is too long. Expected at most " + maxLength,
+          RESPONSE);
+      }
+      if (analyser != null) {
+        analyser.analyse(data);
+      }
+    } catch (RuntimeException e) {
+      return fail(e);
+    }
+    return response.write(data);
+  }
+
+  @Override
+  public Future<Void> end() {
+    if (violation != null) {
+      return failedFuture(violation);
+    }
+    try {
+      if (bytes == 0 && required) {
+        throw new ValidatorException("The related response does not contain the required body.",
+          MISSING_REQUIRED_PARAMETER);
+      }
+      if (bytes < minLength) {
+        throw MediaTypeCheck.schemaViolation("", "minLength", "String is too short. Expected at least " + minLength,
+          RESPONSE);
+      }
+      if (analyser != null) {
+        analyser.end();
+      }
+    } catch (RuntimeException e) {
+      return fail(e);
+    }
+    return response.end();
+  }
+
+  @Override
+  public Future<Void> end(Buffer data) {
+    Future<Void> written = write(data);
+    if (written.failed()) {
+      return written;
+    }
+    return end();
+  }
+
+  @Override
+  public ValidatingResponseStream setWriteQueueMaxSize(int maxSize) {
+    response.setWriteQueueMaxSize(maxSize);
+    return this;
+  }
+
+  @Override
+  public boolean writeQueueFull() {
+    return response.writeQueueFull();
+  }
+
+  @Override
+  public ValidatingResponseStream drainHandler(Handler<Void> handler) {
+    response.drainHandler(handler);
+    return this;
+  }
+
+  private Future<Void> fail(RuntimeException e) {
+    violation = e;
+    response.reset();
+    Handler<Throwable> h = exceptionHandler;
+    if (h != null) {
+      h.handle(e);
+    }
+    return failedFuture(e);
+  }
+}
@@ -0,0 +1,352 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.validation.impl;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.openapi.validation.Parameter;
+import io.vertx.openapi.validation.ValidationPlan;
+import io.vertx.openapi.validation.ValidatorOptions;
+import io.vertx.openapi.validation.ValidatorStats;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static io.vertx.core.Future.failedFuture;
+import static io.vertx.core.Future.succeededFuture;
+
+/**
+ * Decides where a validation is executed. Cheap validations are executed inline on the calling thread, if this is
+ * enabled in the {@link ValidatorOptions}, all other validations are executed unordered on a worker thread. The only
+ * ordering guarantee is the one of a single request or response, whose checks are all executed in one task.
+ * <p>
+ * Depending on the options, the worker thread is either taken from the default worker pool of Vert.x, from a
+ * dedicated, shared worker pool, or is a new virtual thread. In all cases the queue depth, active tasks, wait and
+ * execution times of the worker tasks are recorded.
+ * <p>
+ * If batching is enabled, small validations that are started from the same event loop are collected until the batch
+ * is full or its delay has elapsed, and are then executed in a single worker task. The Future of each validation is
+ * completed on the event loop that started the validation. Large or expensive validations are never batched.
+ */
+public class ValidationExecutor implements ValidatorStats {
+
+  private final Vertx vertx;
+  private final ValidatorOptions options;
+  // null if the default worker pool of Vert.x or virtual threads are used
+  private final WorkerExecutor workerExecutor;
+  // null if virtual threads are not used
+  private final ExecutorService virtualThreadExecutor;
+
+  private final LongAdder inlineValidations = new LongAdder();
+  private final LongAdder workerValidations = new LongAdder();
+  private final AtomicInteger queueDepth = new AtomicInteger();
+  private final AtomicInteger activeTasks = new AtomicInteger();
+  private final LongAdder totalWaitTime = new LongAdder();
+  private final LongAdder totalExecutionTime = new LongAdder();
+  private final LongAdder batches = new LongAdder();
+  private final LongAdder batchedValidations = new LongAdder();
+  private final LongAdder totalBatchDelay = new LongAdder();
+
+  // The pending batch of each event loop, a batch is only accessed from the event loop it belongs to
+  private final Map<Context, Batch> pendingBatches = new ConcurrentHashMap<>();
+
+  public ValidationExecutor(Vertx vertx, ValidatorOptions options) {
+    this.vertx = vertx;
+    this.options = new ValidatorOptions(options);
+    if (options.isVirtualThreads()) {
+      this.virtualThreadExecutor = createVirtualThreadExecutor();
+      this.workerExecutor = null;
+    } else {
+      this.virtualThreadExecutor = null;
+      this.workerExecutor = options.getWorkerPoolName() == null ? null :
+        vertx.createSharedWorkerExecutor(options.getWorkerPoolName(), options.getWorkerPoolSize());
+    }
+  }
+
+  private static ExecutorService createVirtualThreadExecutor() {
+    // Resolved reflectively, because this module is compiled for Java 17
+    try {
+      Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      return (ExecutorService) factory.invoke(null);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Virtual threads are not available, they require Java 21 or later", e);
+    }
+  }
+
+  /**
+   * Executes the passed validation.
+   *
+   * @param plan       the plan of the validation, which is used to estimate the cost of the validation.
+   * @param body       the body to validate, or null if there is no body.
+   * @param validation the validation to execute.
+   * @return a Future that is completed with the result of the validation.
+   */
+  public <T> Future<T> execute(ValidationPlan plan, Parameter body, Callable<T> validation) {
+    if (isInlineable(plan, body)) {
+      inlineValidations.increment();
+      try {
+        return succeededFuture(validation.call());
+      } catch (Exception e) {
+        return failedFuture(e);
+      }
+    }
+    workerValidations.increment();
+    if (options.getBatchMaxSize() > 1 && isBatchable(plan, body)) {
+      Context context = Vertx.currentContext();
+      if (context != null && context.isEventLoopContext()) {
+        return addToBatch(context, validation);
+      }
+    }
+    return executeOnWorker(validation);
+  }
+
+  private <T> Future<T> addToBatch(Context context, Callable<T> validation) {
+    Batch batch = pendingBatches.get(context);
+    if (batch == null) {
+      batch = new Batch(context);
+      pendingBatches.put(context, batch);
+      Batch scheduled = batch;
+      if (options.getBatchMaxDelay() == 0) {
+        context.runOnContext(v -> flush(scheduled));
+      } else {
+        scheduled.timerId = vertx.setTimer(options.getBatchMaxDelay(), id -> flush(scheduled));
+      }
+    }
+
+    BatchEntry<T> entry = new BatchEntry<>(validation);
+    batch.entries.add(entry);
+    if (batch.entries.size() >= options.getBatchMaxSize()) {
+      if (batch.timerId >= 0) {
+        vertx.cancelTimer(batch.timerId);
+      }
+      flush(batch);
+    }
+    return entry.promise.future();
+  }
+
+  private void flush(Batch batch) {
+    if (batch.flushed) {
+      return;
+    }
+    batch.flushed = true;
+    pendingBatches.remove(batch.context, batch);
+
+    List<BatchEntry<?>> entries = batch.entries;
+    long flushed = System.nanoTime();
+    batches.increment();
+    batchedValidations.add(entries.size());
+    for (BatchEntry<?> entry : entries) {
+      totalBatchDelay.add(flushed - entry.added);
+    }
+
+    // The Future of the worker task is completed on the context of the batch, because the batch is flushed from there.
+    executeOnWorker(() -> {
+      for (BatchEntry<?> entry : entries) {
+        entry.run();
+      }
+      return null;
+    }).onComplete(ar -> {
+      for (BatchEntry<?> entry : entries) {
+        entry.complete(ar.cause());
+      }
+    });
+  }
+
+  private <T> Future<T> executeOnWorker(Callable<T> validation) {
+    long submitted = System.nanoTime();
+    queueDepth.incrementAndGet();
+    Callable<T> task = () -> {
+      long started = System.nanoTime();
+      queueDepth.decrementAndGet();
+      activeTasks.incrementAndGet();
+      totalWaitTime.add(started - submitted);
+      try {
+        return validation.call();
+      } finally {
+        activeTasks.decrementAndGet();
+        totalExecutionTime.add(System.nanoTime() - started);
+      }
+    };
+
+    // Validations are independent of each other, so they must not be serialized per context. Otherwise, a single
+    // expensive validation stalls all other validations that are started from the same event loop.
+    if (virtualThreadExecutor != null) {
+      return executeOnVirtualThread(task);
+    } else if (workerExecutor != null) {
+      return workerExecutor.executeBlocking(task, false);
+    }
+    return vertx.executeBlocking(task, false);
+  }
+
+  private <T> Future<T> executeOnVirtualThread(Callable<T> task) {
+    // The result is passed back to the calling context, so that the handlers of the Future are not executed on the
+    // virtual thread.
+    Context context = vertx.getOrCreateContext();
+    Promise<T> promise = Promise.promise();
+    try {
+      virtualThreadExecutor.execute(() -> {
+        try {
+          T result = task.call();
+          context.runOnContext(v -> promise.complete(result));
+        } catch (Throwable t) {
+          context.runOnContext(v -> promise.fail(t));
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      queueDepth.decrementAndGet();
+      return failedFuture(e);
+    }
+    return promise.future();
+  }
+
+  /**
+   * Closes the dedicated worker pool or the virtual thread executor, if one was created. Validations that are already
+   * running are completed.
+   *
+   * @return a Future that is completed when the worker pool is closed.
+   */
+  public Future<Void> close() {
+    if (virtualThreadExecutor != null) {
+      virtualThreadExecutor.shutdown();
+      return succeededFuture();
+    }
+    return workerExecutor == null ? succeededFuture() : workerExecutor.close();
+  }
+
+  // VisibleForTesting
+  public boolean isInlineable(ValidationPlan plan, Parameter body) {
+    return options.isInlineValidation()
+      && plan.getEstimatedCost() <= options.getInlineMaxSchemaCost()
+      && bodySize(body) <= options.getInlineMaxBodySize();
+  }
+
+  // VisibleForTesting
+  public boolean isBatchable(ValidationPlan plan, Parameter body) {
+    // Large or expensive validations would delay all other validations of their batch, which are executed one after
+    // another in the same worker task.
+    return plan.getEstimatedCost() <= options.getBatchMaxSchemaCost()
+      && bodySize(body) <= options.getBatchMaxBodySize();
+  }
+
+  private static long bodySize(Parameter body) {
+    if (body == null || body.isEmpty()) {
+      return 0;
+    }
+    Object value = body.get();
+    if (value instanceof Buffer) {
+      return ((Buffer) value).length();
+    }
+    // The size of other representations can't be determined cheaply
+    return Long.MAX_VALUE;
+  }
+
+  @Override
+  public long getBatches() {
+    return batches.sum();
+  }
+
+  @Override
+  public long getBatchedValidations() {
+    return batchedValidations.sum();
+  }
+
+  @Override
+  public long getTotalBatchDelay() {
+    return totalBatchDelay.sum();
+  }
+
+  @Override
+  public long getInlineValidations() {
+    return inlineValidations.sum();
+  }
+
+  @Override
+  public long getWorkerValidations() {
+    return workerValidations.sum();
+  }
+
+  @Override
+  public int getQueueDepth() {
+    return queueDepth.get();
+  }
+
+  @Override
+  public int getActiveTasks() {
+    return activeTasks.get();
+  }
+
+  @Override
+  public long getTotalWaitTime() {
+    return totalWaitTime.sum();
+  }
+
+  @Override
+  public long getTotalExecutionTime() {
+    return totalExecutionTime.sum();
+  }
+
+  private static final class Batch {
+    private final Context context;
+    private final List<BatchEntry<?>> entries = new ArrayList<>();
+    private long timerId = -1;
+    private boolean flushed;
+
+    private Batch(Context context) {
+      this.context = context;
+    }
+  }
+
+  private static final class BatchEntry<T> {
+    private final Callable<T> validation;
+    private final Promise<T> promise = Promise.promise();
+    private final long added = System.nanoTime();
+    private T result;
+    private Throwable failure;
+
+    private BatchEntry(Callable<T> validation) {
+      this.validation = validation;
+    }
+
+    // Called on the worker thread, a failing validation must not affect the other validations of the batch
+    private void run() {
+      try {
+        result = validation.call();
+      } catch (Throwable t) {
+        failure = t;
+      }
+    }
+
+    private void complete(Throwable batchFailure) {
+      if (batchFailure != null) {
+        promise.fail(batchFailure);
+      } else if (failure != null) {
+        promise.fail(failure);
+      } else {
+        promise.complete(result);
+      }
+    }
+  }
+}
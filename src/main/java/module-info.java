@@ -6,6 +6,8 @@ module io.vertx.openapi {
   requires transitive io.vertx.core;
   requires transitive io.vertx.jsonschema;
   requires io.vertx.core.logging;
+  requires com.fasterxml.jackson.core;
+  requires java.management;
 
   requires static io.vertx.codegen.api;
   requires static io.vertx.docgen;
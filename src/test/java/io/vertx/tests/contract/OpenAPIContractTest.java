@@ -17,12 +17,19 @@ import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
+import io.vertx.json.schema.JsonSchema;
 import io.vertx.json.schema.JsonSchemaValidationException;
+import io.vertx.json.schema.SchemaRepository;
+import io.vertx.json.schema.Validator;
 import io.vertx.junit5.Timeout;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
+import io.vertx.openapi.contract.MediaType;
 import io.vertx.openapi.contract.OpenAPIContract;
 import io.vertx.openapi.contract.OpenAPIContractException;
+import io.vertx.openapi.contract.Operation;
+import io.vertx.openapi.contract.Parameter;
+import io.vertx.openapi.contract.RouteMatch;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -37,9 +44,15 @@ import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 import static com.google.common.truth.Truth.assertThat;
+import static io.vertx.core.http.HttpMethod.GET;
+import static io.vertx.core.http.HttpMethod.POST;
 import static io.vertx.tests.ResourceHelper.getRelatedTestResourcePath;
 import static io.vertx.tests.ResourceHelper.loadJson;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
 class OpenAPIContractTest {
@@ -229,4 +242,36 @@ class OpenAPIContractTest {
       testContext.completeNow();
     })));
   }
+
+  @Test
+  void testFindRouteDefault() {
+    Operation operation = mock(Operation.class);
+    when(operation.getAbsoluteOpenAPIPath()).thenReturn("/pets/{petId}");
+    when(operation.getOpenAPIPath()).thenReturn("/pets/{petId}");
+    OpenAPIContract contract = mock(OpenAPIContract.class, CALLS_REAL_METHODS);
+    doReturn(operation).when(contract).findOperation("/pets/1", GET);
+
+    RouteMatch route = contract.findRoute("/pets/1", GET);
+    assertThat(route.getOperation()).isSameInstanceAs(operation);
+    assertThat(route.getPathParameter("petId")).isEqualTo("1");
+    assertThat(contract.findRoute("/pets/1", POST)).isNull();
+  }
+
+  @Test
+  void testValidatorsDefault() {
+    SchemaRepository repository = mock(SchemaRepository.class);
+    JsonSchema schema = JsonSchema.of(new JsonObject().put("type", "string"));
+    Validator validator = mock(Validator.class);
+    when(repository.validator(schema)).thenReturn(validator);
+    Parameter parameter = mock(Parameter.class);
+    when(parameter.getSchema()).thenReturn(schema);
+    MediaType mediaType = mock(MediaType.class);
+    when(mediaType.getSchema()).thenReturn(schema);
+    OpenAPIContract contract = mock(OpenAPIContract.class, CALLS_REAL_METHODS);
+    doReturn(repository).when(contract).getSchemaRepository();
+
+    assertThat(contract.getParameterValidator(parameter)).isSameInstanceAs(validator);
+    assertThat(contract.getMediaTypeValidator(mediaType)).isSameInstanceAs(validator);
+    assertThat(contract.getValidatorCacheStats()).isNull();
+  }
 }
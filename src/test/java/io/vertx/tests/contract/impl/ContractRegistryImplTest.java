@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.tests.contract.impl;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.openapi.contract.ContractRegistry;
+import io.vertx.openapi.contract.ContractRouteMatch;
+import io.vertx.openapi.contract.OpenAPIContract;
+import io.vertx.openapi.contract.impl.OpenAPIContractImpl;
+import io.vertx.openapi.mediatype.MediaTypeRegistry;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.vertx.core.http.HttpMethod.GET;
+import static io.vertx.core.http.HttpMethod.POST;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ContractRegistryImplTest {
+
+  private static OpenAPIContract contract(String serverUrl, String path, String method, String operationId) {
+    JsonObject operation = new JsonObject().put("operationId", operationId)
+      .put("responses", new JsonObject().put("200", new JsonObject().put("description", "ok")));
+    JsonObject contractJson = new JsonObject()
+      .put("paths", new JsonObject().put(path, new JsonObject().put(method, operation)));
+    if (serverUrl != null) {
+      contractJson.put("servers", new JsonArray().add(new JsonObject().put("url", serverUrl)));
+    }
+    return new OpenAPIContractImpl(contractJson, null, null, MediaTypeRegistry.createDefault());
+  }
+
+  @Test
+  void testFindRoute() {
+    OpenAPIContract pets = contract("https://example.com/pets", "/{petId}", "get", "getPet");
+    OpenAPIContract users = contract(null, "/users/{userId}", "get", "getUser");
+    OpenAPIContract tenants = contract(null, "/{tenant}/users/{userId}", "post", "createTenantUser");
+
+    ContractRegistry registry = ContractRegistry.create()
+      .add("pets", pets)
+      .add("users", users)
+      .add("tenants", tenants);
+    assertThat(registry.getContractNames()).containsExactly("pets", "users", "tenants").inOrder();
+
+    ContractRouteMatch petRoute = registry.findRoute("/pets/1", GET);
+    assertThat(petRoute.getContractName()).isEqualTo("pets");
+    assertThat(petRoute.getContract()).isSameInstanceAs(pets);
+    assertThat(petRoute.getOperation().getOperationId()).isEqualTo("getPet");
+    assertThat(petRoute.getPathParameter("petId")).isEqualTo("1");
+
+    assertThat(registry.findRoute("/users/1", GET).getContract()).isSameInstanceAs(users);
+    // contracts that define an operation for the method win
+    assertThat(registry.findRoute("/users/users/1", POST).getContract()).isSameInstanceAs(tenants);
+    ContractRouteMatch notAllowed = registry.findRoute("/users/1", POST);
+    assertThat(notAllowed.getContract()).isSameInstanceAs(users);
+    assertThat(notAllowed.isMethodAllowed()).isFalse();
+    assertThat(notAllowed.getAllowedMethods()).isEqualTo("GET");
+
+    assertThat(registry.findRoute("/foo/users/1", POST).getContract()).isSameInstanceAs(tenants);
+    assertThat(registry.findRoute("/foo/bar", GET)).isNull();
+    assertThat(registry.findRoute("", GET)).isNull();
+  }
+
+  @Test
+  void testAddAndRemove() {
+    OpenAPIContract pets = contract("https://example.com/pets", "/{petId}", "get", "getPet");
+    OpenAPIContract users = contract(null, "/users/{userId}", "get", "getUser");
+
+    ContractRegistry registry = ContractRegistry.create().add("pets", pets);
+    assertThat(registry.findRoute("/users/1", GET)).isNull();
+
+    registry.add("users", users);
+    assertThat(registry.getContract("users")).isSameInstanceAs(users);
+    assertThat(registry.findRoute("/users/1", GET).getContract()).isSameInstanceAs(users);
+
+    assertThrows(IllegalArgumentException.class, () -> registry.add("users", pets));
+
+    assertThat(registry.remove("users")).isSameInstanceAs(users);
+    assertThat(registry.remove("users")).isNull();
+    assertThat(registry.getContract("users")).isNull();
+    assertThat(registry.findRoute("/users/1", GET)).isNull();
+    assertThat(registry.findRoute("/pets/1", GET).getContract()).isSameInstanceAs(pets);
+  }
+
+  @Test
+  void testSharedPrefix() {
+    OpenAPIContract pets = spy(contract("https://example.com/api", "/pets/{petId}", "get", "getPet"));
+    OpenAPIContract orders = spy(contract("https://example.com/api", "/orders/{orderId}", "get", "getOrder"));
+    OpenAPIContract tenants = spy(contract("https://example.com/api", "/{tenant}/users", "get", "getUsers"));
+
+    ContractRegistry registry = ContractRegistry.create()
+      .add("pets", pets)
+      .add("orders", orders)
+      .add("tenants", tenants);
+
+    // Only the contracts whose literal prefix matches the url path are asked, the most specific ones first
+    assertThat(registry.findRoute("/api/orders/1", GET).getContract()).isSameInstanceAs(orders);
+    verify(pets, never()).findRoute(anyString(), any());
+    verify(tenants, never()).findRoute(anyString(), any());
+
+    assertThat(registry.findRoute("/api/foo/users", GET).getContract()).isSameInstanceAs(tenants);
+    verify(pets, never()).findRoute(anyString(), any());
+    verify(orders, times(1)).findRoute(anyString(), any());
+  }
+}
@@ -22,6 +22,7 @@ import io.vertx.openapi.mediatype.MediaTypeRegistry;
 import io.vertx.tests.ResourceHelper;
 import io.vertx.openapi.contract.OpenAPIContractException;
 import io.vertx.openapi.contract.Operation;
+import io.vertx.openapi.contract.RouteCacheOptions;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -41,7 +42,6 @@ import java.util.stream.Stream;
 import static com.google.common.truth.Truth.assertThat;
 import static io.vertx.core.http.HttpMethod.GET;
 import static io.vertx.core.http.HttpMethod.PATCH;
-import static io.vertx.openapi.contract.ContractErrorType.UNSUPPORTED_FEATURE;
 import static io.vertx.openapi.contract.OpenAPIVersion.V3_1;
 import static io.vertx.openapi.impl.Utils.EMPTY_JSON_OBJECT;
 import static java.util.Collections.emptyList;
@@ -109,15 +109,28 @@ class OpenAPIContractImplTest {
   @Test
   void testDifferentBasePaths() {
     JsonObject server1 = new JsonObject().put("url", "http://foo.bar/foo");
-    JsonObject server2 = new JsonObject().put("url", "http://foo.bar/foobar");
-    JsonObject contract = new JsonObject().put("servers", new JsonArray().add(server1).add(server2));
+    JsonObject server2 = new JsonObject().put("url", "http://foo.bar/foo/bar");
+    JsonObject server3 = new JsonObject().put("url", "http://foo.bar");
+    JsonObject getPet = new JsonObject().put("operationId", "getPet")
+      .put("responses", new JsonObject().put("200", new JsonObject().put("description", "pet")));
+    JsonObject paths = new JsonObject()
+      .put("/pets/{petId}", new JsonObject().put("get", getPet))
+      .put("/bar/pets/{petId}", new JsonObject().put("get", getPet.copy().put("operationId", "getBarPet")));
+    JsonObject contractJson = new JsonObject()
+      .put("servers", new JsonArray().add(server1).add(server2).add(server3))
+      .put("paths", paths);
+
+    OpenAPIContractImpl contract =
+      new OpenAPIContractImpl(contractJson, null, null, MediaTypeRegistry.createDefault());
+    assertThat(contract.basePath()).isEqualTo("/foo");
 
-    OpenAPIContractException exception =
-      assertThrows(OpenAPIContractException.class, () -> new OpenAPIContractImpl(contract, null, null, null));
-    String expectedMsg =
-      "The passed OpenAPI contract contains a feature that is not supported: Different base paths in server urls";
-    assertThat(exception).hasMessageThat().isEqualTo(expectedMsg);
-    assertThat(exception.type()).isEqualTo(UNSUPPORTED_FEATURE);
+    assertThat(contract.findOperation("/foo/pets/1", GET).getOperationId()).isEqualTo("getPet");
+    assertThat(contract.findOperation("/pets/1", GET).getOperationId()).isEqualTo("getPet");
+    // the longest base path is tried first
+    assertThat(contract.findOperation("/foo/bar/pets/1", GET).getOperationId()).isEqualTo("getPet");
+    assertThat(contract.findOperation("/bar/pets/1", GET).getOperationId()).isEqualTo("getBarPet");
+    assertThat(contract.findRoute("/foo/bar/pets/1", GET).getPathParameter("petId")).isEqualTo("1");
+    assertThat(contract.findRoute("/foobar/pets/1", GET)).isNull();
   }
 
   @Test
@@ -157,12 +170,55 @@ class OpenAPIContractImplTest {
     assertThat(contract.getSchemaRepository()).isEqualTo(schemaRepository);
     assertThat(contract.findPath("/v1/pets/123").getName()).isEqualTo("/pets/{petId}");
     assertThat(contract.findOperation("/v1/pets/123", GET)).isEqualTo(showPetById);
+    assertThat(contract.findRoute("/v1/pets/123", GET).getOperation()).isEqualTo(showPetById);
+    assertThat(contract.findRoute("/v1/pets/123", GET).getPathParameter("petId")).isEqualTo("123");
 
     assertThat(contract.findOperation("/v1/pets/123/134", GET)).isNull();
     assertThat(contract.findOperation("/v1/pets/123", PATCH)).isNull();
+    assertThat(contract.findRoute("/v1/pets/123", PATCH).isMethodAllowed()).isFalse();
+    assertThat(contract.findRoute("/v1/pets/123", PATCH).getAllowedMethods()).isEqualTo("GET");
+    assertThat(contract.findRoute("/v1/pets/123/134", GET)).isNull();
     assertThat(contract.securityScheme("BasicAuth")).isNotNull();
   }
 
+  @Test
+  void testTrailingSlash() throws IOException {
+    JsonObject testDataObject =
+      Buffer.buffer(Files.readAllBytes(VALID_CONTRACTS_JSON)).toJsonObject().getJsonObject("0000_Test_Getters");
+    JsonObject resolvedSpec = testDataObject.getJsonObject("contractModel");
+    SchemaRepository schemaRepository = Mockito.mock(SchemaRepository.class);
+    OpenAPIContractImpl contract =
+      new OpenAPIContractImpl(resolvedSpec, V3_1, schemaRepository, MediaTypeRegistry.createDefault());
+
+    // trailing slashes are ignored for paths with and without templated segments
+    assertThat(contract.findPath("/v1/pets/").getName()).isEqualTo("/pets");
+    assertThat(contract.findPath("/v1/pets//").getName()).isEqualTo("/pets");
+    assertThat(contract.findOperation("/v1/pets/", GET)).isEqualTo(contract.operation("listPets"));
+    assertThat(contract.findRoute("/v1/pets/123/", GET).getPathParameter("petId")).isEqualTo("123");
+    // but an empty segment within the path is not
+    assertThat(contract.findPath("/v1//pets")).isNull();
+  }
+
+  @Test
+  void testRouteCache() throws IOException {
+    JsonObject testDataObject =
+      Buffer.buffer(Files.readAllBytes(VALID_CONTRACTS_JSON)).toJsonObject().getJsonObject("0000_Test_Getters");
+    JsonObject resolvedSpec = testDataObject.getJsonObject("contractModel");
+    SchemaRepository schemaRepository = Mockito.mock(SchemaRepository.class);
+    OpenAPIContractImpl contract = new OpenAPIContractImpl(resolvedSpec, V3_1, schemaRepository,
+      MediaTypeRegistry.createDefault(), new RouteCacheOptions());
+
+    Operation showPetById = contract.operation("showPetById");
+    assertThat(contract.findOperation("/v1/pets/123", GET)).isEqualTo(showPetById);
+    assertThat(contract.findRoute("/v1/pets/123", GET).getPathParameter("petId")).isEqualTo("123");
+    assertThat(contract.findPath("/v1/pets/123").getName()).isEqualTo("/pets/{petId}");
+    assertThat(contract.findOperation("/v1/pets/123/134", GET)).isNull();
+
+    assertThat(contract.getRouteCacheStats().getHits()).isEqualTo(1);
+    assertThat(contract.getRouteCacheStats().getMisses()).isEqualTo(3);
+    assertThat(contract.getRouteCacheStats().getSize()).isEqualTo(2);
+  }
+
   @Test
   void testGettersEmptySecurityRequirements() throws IOException {
     OpenAPIContractImpl contract = fromTestData("0001_Getters_No_Security_Requirements");
@@ -13,8 +13,12 @@
 package io.vertx.tests.contract.impl;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import io.vertx.openapi.contract.Operation;
+import io.vertx.openapi.contract.RouteMatch;
 import io.vertx.openapi.contract.impl.PathFinder;
 import io.vertx.openapi.contract.impl.PathImpl;
+import io.vertx.openapi.contract.impl.ServerBasePath;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -22,10 +26,13 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mockito;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
 
 import static com.google.common.truth.Truth.assertThat;
+import static io.vertx.core.http.HttpMethod.GET;
+import static io.vertx.core.http.HttpMethod.POST;
 import static java.util.Collections.emptyList;
 import static org.mockito.Mockito.when;
 
@@ -113,4 +120,91 @@ class PathFinderTest {
     assertThat(pathFinder.findPath(basePath + "/v0/api/user/foo/age")).isNull();
     assertThat(pathFinder.findPath(basePath + "/v1/api/user/foo/age")).isNull();
   }
+
+  @Test
+  void testFindPathWithManyPaths() {
+    List<PathImpl> paths = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      paths.add(mockPath("", "/resource" + i + "/{id}"));
+      paths.add(mockPath("", "/resource" + i + "/{id}/sub"));
+      paths.add(mockPath("", "/resource" + i + "/latest"));
+    }
+    PathFinder pathFinder = new PathFinder(paths);
+
+    assertThat(pathFinder.findPath("/resource0/123")).isEqualTo(paths.get(0));
+    assertThat(pathFinder.findPath("/resource999/123/sub")).isEqualTo(paths.get(2998));
+    assertThat(pathFinder.findPath("/resource999/latest")).isEqualTo(paths.get(2999));
+    assertThat(pathFinder.findPath("/resource999/latest/sub")).isEqualTo(paths.get(2998));
+    assertThat(pathFinder.findPath("/resource1000/123")).isNull();
+  }
+
+  @Test
+  void testFindPathWithTrailingSlash() {
+    PathImpl user = mockPath("", "/api/user");
+    PathImpl withUsername = mockPath("", "/api/user/{username}");
+    PathFinder pathFinder = new PathFinder(ImmutableList.of(user, withUsername));
+
+    assertThat(pathFinder.findPath("/api/user/")).isEqualTo(user);
+    assertThat(pathFinder.findPath("/api/user/foo/")).isEqualTo(withUsername);
+    assertThat(pathFinder.findPath("")).isNull();
+  }
+
+  @Test
+  void testFindRoute() {
+    Operation getUser = Mockito.mock(Operation.class);
+    PathImpl withUsername = mockPath("/base", "/{version}/api/user/{username}");
+    when(withUsername.getOperation(GET)).thenReturn(getUser);
+    when(withUsername.getAllowedMethods()).thenReturn("GET");
+    PathFinder pathFinder = new PathFinder(ImmutableList.of(withUsername));
+
+    RouteMatch route = pathFinder.findRoute("/base/v1/api/user/foo", GET);
+    assertThat(route.getPath()).isEqualTo(withUsername);
+    assertThat(route.getOperation()).isEqualTo(getUser);
+    assertThat(route.getPathParameter("version")).isEqualTo("v1");
+    assertThat(route.getPathParameter("username")).isEqualTo("foo");
+    assertThat(route.getPathParameters()).containsExactly("version", "v1", "username", "foo").inOrder();
+
+    RouteMatch notAllowed = pathFinder.findRoute("/base/v1/api/user/foo", POST);
+    assertThat(notAllowed.isMethodAllowed()).isFalse();
+    assertThat(notAllowed.getOperation()).isNull();
+    assertThat(notAllowed.getAllowedMethods()).isEqualTo("GET");
+    assertThat(pathFinder.findRoute("/base/v1/api/user", GET)).isNull();
+  }
+
+  @Test
+  void testFindPathWithMultipleBasePaths() {
+    PathImpl root = mockPath("", "/");
+    PathImpl user = mockPath("", "/api/user");
+    PathImpl withUsername = mockPath("", "/api/user/{username}");
+    PathFinder pathFinder =
+      new PathFinder(ImmutableList.of(root, user, withUsername),
+        ImmutableList.of(new ServerBasePath("/v1"), new ServerBasePath("/v1/beta/"), new ServerBasePath("/")));
+
+    assertThat(pathFinder.findPath("/api/user")).isEqualTo(user);
+    assertThat(pathFinder.findPath("/v1/api/user")).isEqualTo(user);
+    assertThat(pathFinder.findPath("/v1/beta/api/user/foo")).isEqualTo(withUsername);
+    assertThat(pathFinder.findPath("/v1")).isEqualTo(root);
+    assertThat(pathFinder.findPath("/v1/beta/")).isEqualTo(root);
+    assertThat(pathFinder.findPath("/v2/api/user")).isNull();
+    assertThat(pathFinder.findPath("/v1beta/api/user")).isNull();
+    assertThat(pathFinder.findRoute("/v1/beta/api/user/foo", GET).getPathParameter("username")).isEqualTo("foo");
+  }
+
+  @Test
+  void testFindRouteWithServerVariables() {
+    PathImpl user = mockPath("", "/api/user");
+    PathFinder pathFinder = new PathFinder(ImmutableList.of(user), ImmutableList.of(
+      new ServerBasePath("/eu/{tenant}", ImmutableMap.of("region", "eu")),
+      new ServerBasePath("/us/{tenant}", ImmutableMap.of("region", "us")),
+      new ServerBasePath("/us/admin", ImmutableMap.of("region", "us"))));
+
+    assertThat(pathFinder.findRoute("/eu/foo/api/user", GET).getServerVariables())
+      .containsExactly("region", "eu", "tenant", "foo").inOrder();
+    assertThat(pathFinder.findRoute("/us/bar/api/user", GET).getServerVariables())
+      .containsExactly("region", "us", "tenant", "bar").inOrder();
+    // concrete base paths are preferred over templated ones
+    assertThat(pathFinder.findRoute("/us/admin/api/user", GET).getServerVariables())
+      .containsExactly("region", "us");
+    assertThat(pathFinder.findRoute("/de/foo/api/user", GET)).isNull();
+  }
 }
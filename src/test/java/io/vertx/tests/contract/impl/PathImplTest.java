@@ -28,6 +28,8 @@ import org.junit.jupiter.params.provider.ValueSource;
 import java.nio.file.Path;
 
 import static com.google.common.truth.Truth.assertThat;
+import static io.vertx.core.http.HttpMethod.GET;
+import static io.vertx.core.http.HttpMethod.POST;
 import static io.vertx.openapi.contract.impl.PathImpl.INVALID_CURLY_BRACES;
 import static io.vertx.openapi.impl.Utils.EMPTY_JSON_OBJECT;
 import static java.util.Collections.emptyList;
@@ -67,6 +69,9 @@ class PathImplTest {
 
     assertThat(petById.getOperationId()).isEqualTo("showPetById");
     assertThat(petById.getParameters()).hasSize(2);
+    assertThat(path.getOperation(GET)).isEqualTo(petById);
+    assertThat(path.getOperation(POST)).isNull();
+    assertThat(path.getAllowedMethods()).isEqualTo("GET");
 
     assertThat(path.getOpenAPIModel().getJsonArray("parameters")).hasSize(1);
   }
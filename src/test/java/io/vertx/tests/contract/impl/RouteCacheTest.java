@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.tests.contract.impl;
+
+import io.vertx.core.http.HttpMethod;
+import io.vertx.openapi.contract.RouteCacheOptions;
+import io.vertx.openapi.contract.impl.RouteCache;
+import io.vertx.openapi.contract.impl.RouteMatchImpl;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.vertx.core.http.HttpMethod.GET;
+import static io.vertx.core.http.HttpMethod.POST;
+import static io.vertx.openapi.contract.RouteCacheOptions.EvictionPolicy.FIFO;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RouteCacheTest {
+
+  private final AtomicInteger matched = new AtomicInteger();
+
+  private final BiFunction<String, HttpMethod, RouteMatchImpl> matcher = (path, method) -> {
+    matched.incrementAndGet();
+    return path.startsWith("/unknown") ? null : new RouteMatchImpl(null, null, path, new String[0], new int[0]);
+  };
+
+  @Test
+  void testHitsAndMisses() {
+    RouteCache cache = new RouteCache(new RouteCacheOptions());
+
+    RouteMatchImpl first = cache.get("/pets/1", GET, matcher);
+    assertThat(cache.get("/pets/1", GET, matcher)).isSameInstanceAs(first);
+    assertThat(cache.get("/pets/1", POST, matcher)).isNotSameInstanceAs(first);
+    assertThat(cache.get("/pets/1", null, matcher)).isNotSameInstanceAs(first);
+
+    assertThat(matched.get()).isEqualTo(3);
+    assertThat(cache.getHits()).isEqualTo(1);
+    assertThat(cache.getMisses()).isEqualTo(3);
+    assertThat(cache.getSize()).isEqualTo(3);
+  }
+
+  @Test
+  void testUnknownPathsAreNotCached() {
+    RouteCache cache = new RouteCache(new RouteCacheOptions());
+
+    assertThat(cache.get("/unknown", GET, matcher)).isNull();
+    assertThat(cache.get("/unknown", GET, matcher)).isNull();
+    assertThat(matched.get()).isEqualTo(2);
+    assertThat(cache.getSize()).isEqualTo(0);
+  }
+
+  @Test
+  void testMaxSize() {
+    RouteCache cache = new RouteCache(new RouteCacheOptions().setMaxSize(100));
+    for (int i = 0; i < 10_000; i++) {
+      cache.get("/pets/" + i, GET, matcher);
+    }
+    assertThat(cache.getSize()).isAtMost(100);
+    assertThat(cache.getEvictions()).isEqualTo(10_000 - cache.getSize());
+  }
+
+  @Test
+  void testEvictionPolicy() {
+    RouteCache lru = new RouteCache(new RouteCacheOptions().setMaxSize(2));
+    RouteCache fifo = new RouteCache(new RouteCacheOptions().setMaxSize(2).setEvictionPolicy(FIFO));
+
+    for (RouteCache cache : new RouteCache[]{lru, fifo}) {
+      cache.get("/pets/1", GET, matcher);
+      cache.get("/pets/2", GET, matcher);
+      cache.get("/pets/1", GET, matcher);
+      cache.get("/pets/3", GET, matcher);
+      assertThat(cache.getSize()).isEqualTo(2);
+      assertThat(cache.getEvictions()).isEqualTo(1);
+    }
+
+    // LRU evicted /pets/2, FIFO evicted /pets/1
+    matched.set(0);
+    lru.get("/pets/1", GET, matcher);
+    assertThat(matched.get()).isEqualTo(0);
+    fifo.get("/pets/1", GET, matcher);
+    assertThat(matched.get()).isEqualTo(1);
+
+    assertThrows(IllegalArgumentException.class, () -> new RouteCacheOptions().setMaxSize(0));
+  }
+}
@@ -12,6 +12,7 @@
 
 package io.vertx.tests.contract.impl;
 
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.openapi.contract.ContractErrorType;
 import io.vertx.openapi.contract.OpenAPIContractException;
@@ -59,14 +60,58 @@ public class ServerImplTest {
   }
 
   @Test
-  void testExceptions() {
-    String msgUnsupported = "The passed OpenAPI contract contains a feature that is not supported: Server Variables";
+  void testServerVariables() {
+    JsonObject variables = new JsonObject()
+      .put("host", new JsonObject().put("default", "foo.bar"))
+      .put("region", new JsonObject().put("default", "eu").put("enum", new JsonArray().add("eu").add("us")))
+      .put("version", new JsonObject().put("default", "1"))
+      .put("tenant", new JsonObject().put("default", "default"));
+    JsonObject model = new JsonObject()
+      .put("url", "https://{host}/{region}/v{version}/{tenant}/")
+      .put("variables", variables);
+    ServerImpl server = new ServerImpl(model);
+
+    assertThat(server.getBasePath()).isEqualTo("/eu/v1/default");
+    assertThat(server.getBasePaths()).hasSize(2);
+    assertThat(server.getBasePaths().get(0).getPath()).isEqualTo("/eu/v1/{tenant}");
+    assertThat(server.getBasePaths().get(0).getValues()).containsExactly("version", "1", "region", "eu").inOrder();
+    assertThat(server.getBasePaths().get(1).getPath()).isEqualTo("/us/v1/{tenant}");
+    assertThat(server.getBasePaths().get(1).getValues()).containsExactly("version", "1", "region", "us").inOrder();
+  }
+
+  @Test
+  void testServerVariablesTooManyBasePaths() {
+    JsonArray values = new JsonArray();
+    for (int i = 0; i < 33; i++) {
+      values.add("v" + i);
+    }
+    JsonObject variables = new JsonObject()
+      .put("a", new JsonObject().put("default", "v0").put("enum", values))
+      .put("b", new JsonObject().put("default", "v0").put("enum", values));
+    String url = "https://foo.bar/{a}/{b}";
+    JsonObject model = new JsonObject().put("url", url).put("variables", variables);
 
-    OpenAPIContractException exceptionUnsupported =
+    OpenAPIContractException exception = assertThrows(OpenAPIContractException.class, () -> new ServerImpl(model));
+    assertThat(exception.type()).isEqualTo(ContractErrorType.UNSUPPORTED_FEATURE);
+    assertThat(exception).hasMessageThat().isEqualTo("The passed OpenAPI contract contains a feature that is not "
+      + "supported: The enums of the server variables result in more than 1024 base paths: " + url);
+
+    // enums in the host don't result in additional base paths
+    JsonObject hostVariables = variables.copy().put("host", variables.getJsonObject("a"));
+    ServerImpl server =
+      new ServerImpl(new JsonObject().put("url", "https://{host}.bar/{a}").put("variables", hostVariables));
+    assertThat(server.getBasePaths()).hasSize(33);
+  }
+
+  @Test
+  void testExceptions() {
+    String msgUndefined =
+      "The passed OpenAPI contract is invalid: The server variable foo is not defined or has no default: http://{foo}.bar";
+    OpenAPIContractException exceptionUndefined =
       assertThrows(OpenAPIContractException.class,
         () -> new ServerImpl(new JsonObject().put("url", "http://{foo}.bar")));
-    assertThat(exceptionUnsupported.type()).isEqualTo(ContractErrorType.UNSUPPORTED_FEATURE);
-    assertThat(exceptionUnsupported).hasMessageThat().isEqualTo(msgUnsupported);
+    assertThat(exceptionUndefined.type()).isEqualTo(ContractErrorType.INVALID_SPEC);
+    assertThat(exceptionUndefined).hasMessageThat().isEqualTo(msgUndefined);
 
     String msgInvalid = "The passed OpenAPI contract is invalid: The specified URL is malformed: http://foo.bar:-80";
     OpenAPIContractException exceptionInvalid =
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.tests.contract.impl;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.json.schema.JsonSchema;
+import io.vertx.json.schema.SchemaRepository;
+import io.vertx.json.schema.Validator;
+import io.vertx.openapi.contract.Parameter;
+import io.vertx.openapi.contract.impl.ValidatorCache;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ValidatorCacheTest {
+
+  @Test
+  void testGet() {
+    SchemaRepository repository = mock(SchemaRepository.class);
+    when(repository.validator(any(JsonSchema.class))).thenAnswer(invocation -> mock(Validator.class));
+    ValidatorCache cache = new ValidatorCache(repository);
+
+    JsonSchema schema = JsonSchema.of(new JsonObject().put("type", "string"));
+    Parameter first = mock(Parameter.class);
+    Parameter second = mock(Parameter.class);
+
+    Validator validator = cache.get(first, schema);
+    assertThat(cache.get(first, schema)).isSameInstanceAs(validator);
+    assertThat(cache.get(second, schema)).isNotSameInstanceAs(validator);
+
+    verify(repository, times(2)).validator(schema);
+    assertThat(cache.getCreated()).isEqualTo(2);
+    assertThat(cache.getReused()).isEqualTo(1);
+    assertThat(cache.getSize()).isEqualTo(2);
+  }
+
+  @Test
+  void testConcurrentGet() {
+    SchemaRepository repository = mock(SchemaRepository.class);
+    when(repository.validator(any(JsonSchema.class))).thenAnswer(invocation -> mock(Validator.class));
+    ValidatorCache cache = new ValidatorCache(repository);
+    JsonSchema schema = JsonSchema.of(new JsonObject().put("type", "string"));
+    Parameter parameter = mock(Parameter.class);
+
+    List<CompletableFuture<Validator>> futures = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      futures.add(CompletableFuture.supplyAsync(() -> cache.get(parameter, schema)));
+    }
+    Validator validator = futures.get(0).join();
+    futures.forEach(future -> assertThat(future.join()).isSameInstanceAs(validator));
+    assertThat(cache.getCreated()).isEqualTo(1);
+  }
+}
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import static com.google.common.truth.Truth.assertThat;
 import static io.vertx.openapi.mediatype.MediaTypeRegistration.alwaysValid;
 import static io.vertx.openapi.mediatype.MediaTypeRegistration.whitelist;
+import static io.vertx.openapi.mediatype.impl.DefaultMediaTypeRegistry.MAX_CACHED_CONTENT_TYPES;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class MediaTypeRegistryTest {
@@ -67,4 +68,36 @@ public class MediaTypeRegistryTest {
     assertThat(c).isNotNull();
   }
 
+  @Test
+  void registerShouldInvalidateResolvedContentTypes() {
+    var r = MediaTypeRegistry.createEmpty();
+    var t = "application/vnd.custom+xml; charset=utf-8";
+    assertThat(r.isSupported(t)).isFalse();
+    assertThat(r.getCachedContentTypes()).isEqualTo(1);
+
+    r.register(alwaysValid(whitelist("application/vnd.custom+xml")));
+    assertThat(r.getCachedContentTypes()).isEqualTo(0);
+    assertThat(r.isSupported(t)).isTrue();
+  }
+
+  @Test
+  void resolvedContentTypesShouldBeBounded() {
+    var r = MediaTypeRegistry.createDefault();
+    for (int i = 0; i < MAX_CACHED_CONTENT_TYPES + 10; i++) {
+      assertThat(r.isSupported("text/plain; boundary=" + i)).isTrue();
+      assertThat(r.isSupported("text/unknown; boundary=" + i)).isFalse();
+    }
+    assertThat(r.getCachedContentTypes()).isEqualTo(MAX_CACHED_CONTENT_TYPES);
+    // content types that are not cached are still resolved
+    assertThat(r.createContentAnalyser("application/json; charset=utf-16", Buffer.buffer("{}"),
+      ValidationContext.REQUEST)).isNotNull();
+  }
+
+  @Test
+  void whitelistShouldMatchExactTypes() {
+    var p = whitelist(MediaType.APPLICATION_JSON, MediaType.APPLICATION_JSON);
+    assertThat(p.test(MediaType.APPLICATION_JSON)).isTrue();
+    assertThat(p.test(MediaType.APPLICATION_HAL_JSON)).isFalse();
+    assertThat(p.test(null)).isFalse();
+  }
 }
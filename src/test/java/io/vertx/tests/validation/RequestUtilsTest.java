@@ -32,6 +32,7 @@ import io.vertx.openapi.contract.Parameter;
 import io.vertx.openapi.contract.RequestBody;
 import io.vertx.openapi.contract.Style;
 import io.vertx.tests.test.base.HttpServerTestBase;
+import io.vertx.openapi.contract.impl.RouteMatchImpl;
 import io.vertx.openapi.validation.RequestUtils;
 import io.vertx.openapi.validation.ValidatableRequest;
 import org.junit.jupiter.api.Test;
@@ -153,6 +154,18 @@ class RequestUtilsTest extends HttpServerTestBase {
     );
   }
 
+  private static Stream<Arguments> testRouteMatchOf() {
+    return Stream.of(
+      Arguments.of("/{foo}", "/a", "foo", "a"),
+      Arguments.of("/test/{foo}", "/test/a", "foo", "a"),
+      Arguments.of("/test/{foo}/user/{bar}", "/test/a/user/b", "foo", "a"),
+      Arguments.of("/test/{foo}/user/{bar}", "/test/a/user/b", "bar", "b"),
+      Arguments.of("/test/{foo}/{bar}", "/test/a/b/", "bar", "b"),
+      Arguments.of("/{foo}/{bar}/test", "/a/b/test", "bar", "b"),
+      Arguments.of("/test/{foo}/{bar}", "/test/a", "bar", null)
+    );
+  }
+
   @ParameterizedTest(name = "{index} Query {1} should be transformed into {2}")
   @MethodSource
   @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
@@ -227,10 +240,29 @@ class RequestUtilsTest extends HttpServerTestBase {
 
   @ParameterizedTest(name = "{index} Template path {0} has parameter {1} in the {2} section")
   @MethodSource
+  @SuppressWarnings("deprecation")
   void testFindPathSegment(String templatePath, String parameterName, int expected) {
     Truth.assertThat(RequestUtils.findPathSegment(templatePath, parameterName)).isEqualTo(expected);
   }
 
+  @ParameterizedTest(name = "{index} Template path {0} with path {1} has value {3} for parameter {2}")
+  @MethodSource
+  void testRouteMatchOf(String templatePath, String path, String parameterName, String expected) {
+    Operation mockedOperation = mock(Operation.class);
+    when(mockedOperation.getAbsoluteOpenAPIPath()).thenReturn(templatePath);
+    Truth.assertThat(RouteMatchImpl.of(mockedOperation, path).getPathParameter(parameterName)).isEqualTo(expected);
+  }
+
+  @Test
+  void testRouteMatchOfWithDifferentBasePath() {
+    Operation mockedOperation = mock(Operation.class);
+    when(mockedOperation.getAbsoluteOpenAPIPath()).thenReturn("/v1/test/{foo}");
+    when(mockedOperation.getOpenAPIPath()).thenReturn("/test/{foo}");
+    Truth.assertThat(RouteMatchImpl.of(mockedOperation, "/v1/test/a").getPathParameter("foo")).isEqualTo("a");
+    Truth.assertThat(RouteMatchImpl.of(mockedOperation, "/test/a").getPathParameter("foo")).isEqualTo("a");
+    Truth.assertThat(RouteMatchImpl.of(mockedOperation, "/v2/beta/test/a").getPathParameter("foo")).isEqualTo("a");
+  }
+
   @Test
   @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
   void testBodySupplier(VertxTestContext testContext) {
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+
+package io.vertx.tests.validation;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.openapi.validation.ResponseSamplingOptions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.vertx.openapi.validation.ResponseSamplingOptions.DEFAULT_MAX_PENDING_VALIDATIONS;
+import static io.vertx.openapi.validation.ResponseSamplingOptions.DEFAULT_POOL_SIZE;
+import static io.vertx.openapi.validation.ResponseSamplingOptions.DEFAULT_SAMPLE_RATE;
+import static io.vertx.openapi.validation.ResponseSamplingOptions.DEFAULT_VALIDATION_BUDGET;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ResponseSamplingOptionsTest {
+
+  @Test
+  void testDefaults() {
+    ResponseSamplingOptions options = new ResponseSamplingOptions();
+    assertThat(options.getSampleRate()).isEqualTo(DEFAULT_SAMPLE_RATE);
+    assertThat(options.getOperationSampleRates()).isEmpty();
+    assertThat(options.isAlwaysSampleErrors()).isTrue();
+    assertThat(options.getValidationBudget()).isEqualTo(DEFAULT_VALIDATION_BUDGET);
+    assertThat(options.getMaxPendingValidations()).isEqualTo(DEFAULT_MAX_PENDING_VALIDATIONS);
+    assertThat(options.getPoolSize()).isEqualTo(DEFAULT_POOL_SIZE);
+  }
+
+  @Test
+  void testJson() {
+    ResponseSamplingOptions options = new ResponseSamplingOptions()
+      .setSampleRate(0.5)
+      .addOperationSampleRate("listPets", 0.25)
+      .setAlwaysSampleErrors(false)
+      .setValidationBudget(20)
+      .setMaxPendingValidations(8)
+      .setPoolSize(2);
+
+    JsonObject json = options.toJson();
+    assertThat(json).isEqualTo(new JsonObject()
+      .put("sampleRate", 0.5)
+      .put("operationSampleRates", new JsonObject().put("listPets", 0.25))
+      .put("alwaysSampleErrors", false)
+      .put("validationBudget", 20L)
+      .put("maxPendingValidations", 8)
+      .put("poolSize", 2));
+    assertThat(new ResponseSamplingOptions(json).toJson()).isEqualTo(json);
+    assertThat(new ResponseSamplingOptions(options).toJson()).isEqualTo(json);
+    assertThat(new ResponseSamplingOptions(new JsonObject()).toJson())
+      .isEqualTo(new ResponseSamplingOptions().toJson());
+  }
+
+  @Test
+  void testInvalidValues() {
+    ResponseSamplingOptions options = new ResponseSamplingOptions();
+    assertThrows(IllegalArgumentException.class, () -> options.setSampleRate(-0.1));
+    assertThrows(IllegalArgumentException.class, () -> options.setSampleRate(1.1));
+    assertThrows(IllegalArgumentException.class, () -> options.addOperationSampleRate("listPets", 2));
+    assertThrows(IllegalArgumentException.class, () -> options.setOperationSampleRates(Map.of("listPets", -1.0)));
+    assertThrows(IllegalArgumentException.class, () -> options.setValidationBudget(-2));
+    assertThrows(IllegalArgumentException.class, () -> options.setMaxPendingValidations(0));
+    assertThrows(IllegalArgumentException.class, () -> options.setPoolSize(0));
+  }
+}
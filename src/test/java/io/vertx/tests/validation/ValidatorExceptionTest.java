@@ -24,6 +24,7 @@ import static io.vertx.json.schema.common.dsl.Schemas.intSchema;
 import static io.vertx.tests.MockHelper.mockParameter;
 import static io.vertx.openapi.contract.Location.PATH;
 import static io.vertx.openapi.contract.Style.LABEL;
+import static io.vertx.openapi.validation.ValidationContext.REQUEST;
 
 class ValidatorExceptionTest {
 
@@ -85,4 +86,12 @@ class ValidatorExceptionTest {
     assertThat(exception).hasMessageThat().isEqualTo(expectedMsg);
     assertThat(exception.type()).isEqualTo(ValidatorErrorType.MISSING_RESPONSE);
   }
+
+  @Test
+  void testCreateBodyTooLarge() {
+    ValidatorException exception = ValidatorException.createBodyTooLarge(REQUEST, "size of 42 bytes");
+    String expectedMsg = "The request body exceeds the limit: size of 42 bytes";
+    assertThat(exception).hasMessageThat().isEqualTo(expectedMsg);
+    assertThat(exception.type()).isEqualTo(ValidatorErrorType.BODY_TOO_LARGE);
+  }
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.tests.validation;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.openapi.validation.ValidatorOptions;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.vertx.openapi.validation.ValidatorOptions.DEFAULT_BATCH_MAX_BODY_SIZE;
+import static io.vertx.openapi.validation.ValidatorOptions.DEFAULT_BATCH_MAX_DELAY;
+import static io.vertx.openapi.validation.ValidatorOptions.DEFAULT_BATCH_MAX_SCHEMA_COST;
+import static io.vertx.openapi.validation.ValidatorOptions.DEFAULT_BATCH_MAX_SIZE;
+import static io.vertx.openapi.validation.ValidatorOptions.DEFAULT_INLINE_MAX_BODY_SIZE;
+import static io.vertx.openapi.validation.ValidatorOptions.DEFAULT_INLINE_MAX_SCHEMA_COST;
+import static io.vertx.openapi.validation.ValidatorOptions.DEFAULT_MAX_ARRAY_LENGTH;
+import static io.vertx.openapi.validation.ValidatorOptions.DEFAULT_MAX_BODY_DEPTH;
+import static io.vertx.openapi.validation.ValidatorOptions.DEFAULT_MAX_BODY_SIZE;
+import static io.vertx.openapi.validation.ValidatorOptions.DEFAULT_MAX_STRING_LENGTH;
+import static io.vertx.openapi.validation.ValidatorOptions.DEFAULT_MULTIPART_SPILL_THRESHOLD;
+import static io.vertx.openapi.validation.ValidatorOptions.DEFAULT_UPLOADS_DIRECTORY;
+import static io.vertx.openapi.validation.ValidatorOptions.DEFAULT_WORKER_POOL_SIZE;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ValidatorOptionsTest {
+
+  @Test
+  void testDefaults() {
+    ValidatorOptions options = new ValidatorOptions();
+    assertThat(options.isInlineValidation()).isFalse();
+    assertThat(options.getInlineMaxBodySize()).isEqualTo(DEFAULT_INLINE_MAX_BODY_SIZE);
+    assertThat(options.getInlineMaxSchemaCost()).isEqualTo(DEFAULT_INLINE_MAX_SCHEMA_COST);
+    assertThat(options.getWorkerPoolName()).isNull();
+    assertThat(options.getWorkerPoolSize()).isEqualTo(DEFAULT_WORKER_POOL_SIZE);
+    assertThat(options.isVirtualThreads()).isFalse();
+    assertThat(options.getBatchMaxSize()).isEqualTo(DEFAULT_BATCH_MAX_SIZE);
+    assertThat(options.getBatchMaxDelay()).isEqualTo(DEFAULT_BATCH_MAX_DELAY);
+    assertThat(options.getBatchMaxBodySize()).isEqualTo(DEFAULT_BATCH_MAX_BODY_SIZE);
+    assertThat(options.getBatchMaxSchemaCost()).isEqualTo(DEFAULT_BATCH_MAX_SCHEMA_COST);
+    assertThat(options.isStreamingJsonValidation()).isFalse();
+    assertThat(options.getMaxBodySize()).isEqualTo(DEFAULT_MAX_BODY_SIZE);
+    assertThat(options.getMaxBodyDepth()).isEqualTo(DEFAULT_MAX_BODY_DEPTH);
+    assertThat(options.getMaxArrayLength()).isEqualTo(DEFAULT_MAX_ARRAY_LENGTH);
+    assertThat(options.getMaxStringLength()).isEqualTo(DEFAULT_MAX_STRING_LENGTH);
+    assertThat(options.getMultipartSpillThreshold()).isEqualTo(DEFAULT_MULTIPART_SPILL_THRESHOLD);
+    assertThat(options.getUploadsDirectory()).isEqualTo(DEFAULT_UPLOADS_DIRECTORY);
+  }
+
+  @Test
+  void testJson() {
+    ValidatorOptions options = new ValidatorOptions()
+      .setInlineValidation(true)
+      .setInlineMaxBodySize(42)
+      .setInlineMaxSchemaCost(7)
+      .setWorkerPoolName("validation")
+      .setWorkerPoolSize(3)
+      .setVirtualThreads(true)
+      .setBatchMaxSize(16)
+      .setBatchMaxDelay(2)
+      .setBatchMaxBodySize(512)
+      .setBatchMaxSchemaCost(32)
+      .setStreamingJsonValidation(true)
+      .setMaxBodySize(1024)
+      .setMaxBodyDepth(8)
+      .setMaxArrayLength(100)
+      .setMaxStringLength(256)
+      .setMultipartSpillThreshold(4096)
+      .setUploadsDirectory("uploads");
+
+    JsonObject json = options.toJson();
+    assertThat(json).isEqualTo(new JsonObject()
+      .put("inlineValidation", true)
+      .put("inlineMaxBodySize", 42)
+      .put("inlineMaxSchemaCost", 7)
+      .put("workerPoolSize", 3)
+      .put("virtualThreads", true)
+      .put("batchMaxSize", 16)
+      .put("batchMaxDelay", 2L)
+      .put("batchMaxBodySize", 512)
+      .put("batchMaxSchemaCost", 32)
+      .put("streamingJsonValidation", true)
+      .put("maxBodySize", 1024L)
+      .put("maxBodyDepth", 8)
+      .put("maxArrayLength", 100)
+      .put("maxStringLength", 256)
+      .put("multipartSpillThreshold", 4096L)
+      .put("uploadsDirectory", "uploads")
+      .put("workerPoolName", "validation"));
+    assertThat(new ValidatorOptions(json).toJson()).isEqualTo(json);
+    assertThat(new ValidatorOptions(options).toJson()).isEqualTo(json);
+    assertThat(new ValidatorOptions(new JsonObject()).toJson()).isEqualTo(new ValidatorOptions().toJson());
+  }
+
+  @Test
+  void testInvalidValues() {
+    ValidatorOptions options = new ValidatorOptions();
+    assertThrows(IllegalArgumentException.class, () -> options.setInlineMaxBodySize(-1));
+    assertThrows(IllegalArgumentException.class, () -> options.setInlineMaxSchemaCost(-1));
+    assertThrows(IllegalArgumentException.class, () -> options.setWorkerPoolSize(0));
+    assertThrows(IllegalArgumentException.class, () -> options.setBatchMaxSize(0));
+    assertThrows(IllegalArgumentException.class, () -> options.setBatchMaxDelay(-1));
+    assertThrows(IllegalArgumentException.class, () -> options.setBatchMaxBodySize(-1));
+    assertThrows(IllegalArgumentException.class, () -> options.setBatchMaxSchemaCost(-1));
+    assertThrows(IllegalArgumentException.class, () -> options.setMaxBodySize(-2));
+    assertThrows(IllegalArgumentException.class, () -> options.setMaxBodyDepth(-2));
+    assertThrows(IllegalArgumentException.class, () -> options.setMaxArrayLength(-2));
+    assertThrows(IllegalArgumentException.class, () -> options.setMaxStringLength(-2));
+    assertThrows(IllegalArgumentException.class, () -> options.setMultipartSpillThreshold(-2));
+    assertThrows(IllegalArgumentException.class, () -> options.setUploadsDirectory(null));
+    assertThrows(IllegalArgumentException.class, () -> options.setUploadsDirectory(""));
+  }
+}
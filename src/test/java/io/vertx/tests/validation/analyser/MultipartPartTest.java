@@ -25,6 +25,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 
 import static com.google.common.truth.Truth.assertThat;
 import static io.vertx.tests.ResourceHelper.getRelatedTestResourcePath;
@@ -33,19 +34,23 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 class MultipartPartTest {
   private static final Path TEST_RESOURCE_PATH = getRelatedTestResourcePath(MultipartPartTest.class);
 
+  private static Buffer readBuffer(String file) throws IOException {
+    return Buffer.buffer(Files.readAllBytes(TEST_RESOURCE_PATH.resolve(file)));
+  }
+
   @Test
   void testParseParts() throws IOException {
-    String part1 = Files.readString(TEST_RESOURCE_PATH.resolve("part1.txt"));
-    String part2 = Files.readString(TEST_RESOURCE_PATH.resolve("part2.txt"));
+    Buffer part1 = readBuffer("part1.txt");
+    Buffer part2 = readBuffer("part2.txt");
 
-    String multipartBody = Files.readString(TEST_RESOURCE_PATH.resolve("multipart.txt"));
+    Buffer multipartBody = readBuffer("multipart.txt");
     Truth.assertThat(MultipartPart.parseParts(multipartBody, "abcde12345")).containsExactly(part1, part2);
   }
 
   @ParameterizedTest
   @ValueSource(strings = {"multipart_invalid_structure", "multipart_invalid_structure_2"})
   void testParsePartsInvalidStructure(String file) throws IOException {
-    String multipartBody = Files.readString(TEST_RESOURCE_PATH.resolve(file + ".txt"));
+    Buffer multipartBody = readBuffer(file + ".txt");
 
     ValidatorException exception =
       assertThrows(ValidatorException.class, () -> MultipartPart.parseParts(multipartBody, "abcde12345"));
@@ -57,13 +62,13 @@ class MultipartPartTest {
 
   @Test
   void testParsePart() throws IOException {
-    String part1 = Files.readString(TEST_RESOURCE_PATH.resolve("part1.txt"));
+    Buffer part1 = readBuffer("part1.txt");
     MultipartPart mpp1 = MultipartPart.parsePart(part1);
     assertThat(mpp1.getName()).isEqualTo("id");
     assertThat(mpp1.getContentType()).isEqualTo("text/plain");
     assertThat(mpp1.getBody()).isEqualTo(Buffer.buffer("123e4567-e89b-12d3-a456-426655440000"));
 
-    String part2 = Files.readString(TEST_RESOURCE_PATH.resolve("part2.txt"));
+    Buffer part2 = readBuffer("part2.txt");
     MultipartPart mpp2 = MultipartPart.parsePart(part2);
     assertThat(mpp2.getName()).isEqualTo("address");
     assertThat(mpp2.getContentType()).isEqualTo("application/json");
@@ -72,7 +77,7 @@ class MultipartPartTest {
       .put("city", "Hillsbery, UT");
     assertThat(mpp2.getBody().toJsonObject()).isEqualTo(body);
 
-    String part3 = Files.readString(TEST_RESOURCE_PATH.resolve("part3.txt"));
+    Buffer part3 = readBuffer("part3.txt");
     MultipartPart mpp3 = MultipartPart.parsePart(part3);
     assertThat(mpp3.getName()).isEqualTo("randomBinary");
     assertThat(mpp3.getContentType()).isEqualTo("application/octet-stream");
@@ -81,7 +86,7 @@ class MultipartPartTest {
 
   @Test
   void testParsePartWithoutName() throws IOException {
-    String part = Files.readString(TEST_RESOURCE_PATH.resolve("part_without_name.txt"));
+    Buffer part = readBuffer("part_without_name.txt");
 
     ValidatorException exception =
       assertThrows(ValidatorException.class, () -> MultipartPart.parsePart(part));
@@ -93,7 +98,7 @@ class MultipartPartTest {
 
   @Test
   void testParsePartWithoutContentType() throws IOException {
-    String part = Files.readString(TEST_RESOURCE_PATH.resolve("part_without_contenttype.txt"));
+    Buffer part = readBuffer("part_without_contenttype.txt");
 
     MultipartPart mpp = MultipartPart.parsePart(part);
     assertThat(mpp.getName()).isEqualTo("id");
@@ -103,10 +108,32 @@ class MultipartPartTest {
 
   @Test
   void testParsePartWithoutBody() throws IOException {
-    String part = Files.readString(TEST_RESOURCE_PATH.resolve("part_without_body.txt"));
+    Buffer part = readBuffer("part_without_body.txt");
     MultipartPart mpp = MultipartPart.parsePart(part);
     assertThat(mpp.getName()).isEqualTo("id");
     assertThat(mpp.getContentType()).isEqualTo("text/plain");
     assertThat(mpp.getBody()).isNull();
   }
+
+  @Test
+  void testParsePartsIsBinarySafe() {
+    byte[] binary = new byte[256];
+    for (int i = 0; i < binary.length; i++) {
+      binary[i] = (byte) i;
+    }
+    // contains line breaks, a dash boundary without a preceding line break and trailing whitespace
+    Buffer content = Buffer.buffer(binary).appendString(" --abcde12345\r\n\r\n  ");
+    Buffer multipartBody = Buffer.buffer("preamble\r\n--abcde12345  \r\n")
+      .appendString("Content-Disposition: form-data; name=\"file\"; filename=\"file.bin\"\r\n")
+      .appendString("content-type: application/octet-stream\r\n\r\n")
+      .appendBuffer(content)
+      .appendString("\r\n--abcde12345--\r\nepilogue");
+
+    List<Buffer> parts = MultipartPart.parseParts(multipartBody, "abcde12345");
+    assertThat(parts).hasSize(1);
+    MultipartPart part = MultipartPart.parsePart(parts.get(0));
+    assertThat(part.getName()).isEqualTo("file");
+    assertThat(part.getContentType()).isEqualTo("application/octet-stream");
+    assertThat(part.getBody()).isEqualTo(content);
+  }
 }
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.tests.validation.analyser;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.json.schema.JsonSchema;
+import io.vertx.openapi.mediatype.impl.StreamingJsonAnalyser;
+import io.vertx.openapi.mediatype.impl.StreamingJsonLimits;
+import io.vertx.openapi.mediatype.impl.StreamingJsonSchema;
+import io.vertx.openapi.validation.SchemaValidationException;
+import io.vertx.openapi.validation.ValidatorException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.stream.Stream;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.vertx.json.schema.common.dsl.Schemas.intSchema;
+import static io.vertx.json.schema.common.dsl.Schemas.numberSchema;
+import static io.vertx.json.schema.common.dsl.Schemas.objectSchema;
+import static io.vertx.json.schema.common.dsl.Schemas.stringSchema;
+import static io.vertx.openapi.validation.ValidationContext.REQUEST;
+import static io.vertx.openapi.validation.ValidatorErrorType.BODY_TOO_LARGE;
+import static io.vertx.openapi.validation.ValidatorErrorType.ILLEGAL_VALUE;
+import static io.vertx.openapi.validation.ValidatorErrorType.INVALID_VALUE;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StreamingJsonAnalyserTest {
+
+  private static final JsonObject PET_SCHEMA = new JsonObject()
+    .put("type", "object")
+    .put("required", new JsonArray().add("id").add("name"))
+    .put("properties", new JsonObject()
+      .put("id", intSchema().toJson())
+      .put("name", stringSchema().toJson().put("maxLength", 8))
+      .put("tags", new JsonObject().put("type", "array").put("items", stringSchema().toJson()).put("maxItems", 2))
+      .put("weight", numberSchema().toJson()))
+    .put("additionalProperties", false);
+
+  private static StreamingJsonAnalyser analyser(JsonObject schema) {
+    return new StreamingJsonAnalyser(StreamingJsonSchema.compile(JsonSchema.of(schema)), REQUEST);
+  }
+
+  // Feeds the body in chunks of the passed size, to split tokens across chunks.
+  private static void analyse(StreamingJsonAnalyser analyser, String body, int chunkSize) {
+    Buffer buffer = Buffer.buffer(body);
+    for (int i = 0; i < buffer.length(); i += chunkSize) {
+      analyser.analyse(buffer.getBuffer(i, Math.min(buffer.length(), i + chunkSize)));
+    }
+    analyser.end();
+  }
+
+  @ParameterizedTest(name = "{index} chunk size {0}")
+  @ValueSource(ints = {1, 3, 1024})
+  void testValidBody(int chunkSize) {
+    String body = "{\"id\": 1, \"name\": \"foo\", \"tags\": [\"a\", \"b\"], \"weight\": 2.5}";
+    analyse(analyser(PET_SCHEMA), body, chunkSize);
+  }
+
+  @Test
+  void testEmptyBody() {
+    // whether the body is required is checked when the whole body is validated
+    analyse(analyser(PET_SCHEMA), " ", 1);
+  }
+
+  private static Stream<Arguments> testInvalidBody() {
+    return Stream.of(
+      Arguments.of("{\"id\": \"1\", \"name\": \"foo\"}", "Instance type string is invalid at /id"),
+      Arguments.of("{\"id\": 1.5, \"name\": \"foo\"}", "Instance type number is invalid at /id"),
+      Arguments.of("{\"id\": 1, \"name\": \"foobarbaz\"}", "String is too long. Expected at most 8 at /name"),
+      Arguments.of("{\"id\": 1, \"name\": \"foo\", \"tags\": [\"a\", 2]}",
+        "Instance type integer is invalid at /tags/1"),
+      Arguments.of("{\"id\": 1, \"name\": \"foo\", \"tags\": [\"a\", \"b\", \"c\"]}",
+        "Array has too many items. Expected at most 2 at /tags/2"),
+      Arguments.of("{\"id\": 1, \"name\": \"foo\", \"color\": \"red\"}", "Property \"color\" is not allowed at /color"),
+      Arguments.of("{\"id\": 1}", "Instance does not have required property \"name\""),
+      Arguments.of("[]", "Instance type array is invalid")
+    );
+  }
+
+  @ParameterizedTest(name = "{index} {0} is invalid")
+  @MethodSource
+  void testInvalidBody(String body, String reason) {
+    SchemaValidationException exception =
+      assertThrows(SchemaValidationException.class, () -> analyse(analyser(PET_SCHEMA), body, 4));
+    assertThat(exception.type()).isEqualTo(INVALID_VALUE);
+    assertThat(exception).hasMessageThat().isEqualTo("The value of the request body is invalid. Reason: " + reason);
+  }
+
+  @Test
+  void testRejectBeforeEnd() {
+    StreamingJsonAnalyser analyser = analyser(PET_SCHEMA);
+    analyser.analyse(Buffer.buffer("{\"id\": 1, \"name\": \"foo\", \"tags\": ["));
+    // the violation is detected without reading the rest of the body
+    assertThrows(SchemaValidationException.class, () -> analyser.analyse(Buffer.buffer("1, ")));
+  }
+
+  @ParameterizedTest(name = "{index} {0} can't be decoded")
+  @ValueSource(strings = {"{\"id\": 1", "{\"id\": 1}}", "{} {}", "{\"id\": x}"})
+  void testSyntaxError(String body) {
+    ValidatorException exception =
+      assertThrows(ValidatorException.class, () -> analyse(analyser(new JsonObject()), body, 2));
+    assertThat(exception.type()).isEqualTo(ILLEGAL_VALUE);
+    assertThat(exception).hasMessageThat().isEqualTo("The request body can't be decoded");
+  }
+
+  private static Stream<Arguments> testLimits() {
+    return Stream.of(
+      Arguments.of("[[[1]]]", "nesting depth of 2"),
+      Arguments.of("[1, 2, 3, 4]", "array length of 3"),
+      Arguments.of("{\"foo\": \"abcdef\"}", "string length of 5"),
+      // exceeds the limit of the parser, before the string is completely read
+      Arguments.of("[\"" + "a".repeat(100) + "\"]", "string length of 5")
+    );
+  }
+
+  @ParameterizedTest(name = "{index} {0} exceeds {1}")
+  @MethodSource
+  void testLimits(String body, String limit) {
+    StreamingJsonLimits limits = new StreamingJsonLimits(2, 3, 5);
+    StreamingJsonAnalyser analyser = new StreamingJsonAnalyser(StreamingJsonSchema.ANY, limits, REQUEST);
+    ValidatorException exception = assertThrows(ValidatorException.class, () -> analyse(analyser, body, 4));
+    assertThat(exception.type()).isEqualTo(BODY_TOO_LARGE);
+    assertThat(exception).hasMessageThat().isEqualTo("The request body exceeds the limit: " + limit);
+  }
+
+  @Test
+  void testWithinLimits() {
+    StreamingJsonLimits limits = new StreamingJsonLimits(2, 3, 5);
+    StreamingJsonAnalyser analyser = new StreamingJsonAnalyser(StreamingJsonSchema.ANY, limits, REQUEST);
+    analyse(analyser, "{\"foo\": [\"abcde\", 1, true]}", 4);
+  }
+
+  @Test
+  void testMaxDepth() {
+    assertThat(StreamingJsonSchema.compile(JsonSchema.of(PET_SCHEMA)).getMaxDepth()).isEqualTo(2);
+    assertThat(StreamingJsonSchema.compile(JsonSchema.of(stringSchema().toJson())).getMaxDepth()).isEqualTo(0);
+    // additional properties of any type
+    assertThat(StreamingJsonSchema.compile(JsonSchema.of(objectSchema().toJson())).getMaxDepth()).isEqualTo(-1);
+    assertThat(StreamingJsonSchema.ANY.getMaxDepth()).isEqualTo(-1);
+
+    StreamingJsonLimits limits = new StreamingJsonLimits(5, -1, -1);
+    assertThat(limits.withMaxDepth(2).getMaxDepth()).isEqualTo(2);
+    assertThat(limits.withMaxDepth(-1)).isSameInstanceAs(limits);
+    assertThat(limits.withMaxDepth(7)).isSameInstanceAs(limits);
+  }
+
+  @Test
+  void testReferencesAreNotChecked() {
+    JsonObject schema = objectSchema().toJson()
+      .put("properties", new JsonObject().put("pet", new JsonObject().put("$ref", "#/components/schemas/Pet")));
+    analyse(analyser(schema), "{\"pet\": [1, \"foo\"]}", 4);
+  }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.tests.validation.impl;
+
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.json.schema.JsonSchema;
+import io.vertx.openapi.contract.MediaType;
+import io.vertx.openapi.validation.SchemaValidationException;
+import io.vertx.openapi.validation.ValidatorException;
+import io.vertx.openapi.validation.impl.BinaryBodyStream;
+import io.vertx.openapi.validation.impl.MediaTypeCheck;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.vertx.openapi.validation.ValidationContext.REQUEST;
+import static io.vertx.openapi.validation.ValidationContext.RESPONSE;
+import static io.vertx.openapi.validation.ValidatorErrorType.BODY_TOO_LARGE;
+import static io.vertx.openapi.validation.ValidatorErrorType.MISSING_REQUIRED_PARAMETER;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BinaryBodyStreamTest {
+
+  private final List<Buffer> chunks = new ArrayList<>();
+  private final List<Throwable> failures = new ArrayList<>();
+  private boolean ended;
+
+  private ReadStream<Buffer> delegate;
+  private Handler<Buffer> chunkHandler;
+  private Handler<Void> endHandler;
+
+  private static MediaTypeCheck binaryCheck(JsonObject schema) {
+    MediaType mediaType = mock(MediaType.class);
+    when(mediaType.getIdentifier()).thenReturn("application/octet-stream");
+    when(mediaType.getSchema()).thenReturn(schema == null ? null : JsonSchema.of(schema));
+    return new MediaTypeCheck(mediaType, true, null);
+  }
+
+  private static JsonObject binarySchema() {
+    return new JsonObject().put("type", "string").put("format", "binary");
+  }
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    delegate = mock(ReadStream.class);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void consume(ReadStream<Buffer> stream) {
+    stream.exceptionHandler(failures::add);
+    stream.handler(chunks::add);
+    stream.endHandler(v -> ended = true);
+    ArgumentCaptor<Handler<Buffer>> chunkCaptor = ArgumentCaptor.forClass(Handler.class);
+    ArgumentCaptor<Handler<Void>> endCaptor = ArgumentCaptor.forClass(Handler.class);
+    verify(delegate).handler(chunkCaptor.capture());
+    verify(delegate).endHandler(endCaptor.capture());
+    chunkHandler = chunkCaptor.getValue();
+    endHandler = endCaptor.getValue();
+  }
+
+  @Test
+  void testIsBinary() {
+    assertThat(binaryCheck(null).isBinary()).isTrue();
+    assertThat(binaryCheck(binarySchema()).isBinary()).isTrue();
+    assertThat(binaryCheck(binarySchema().put("maxLength", 8)).isBinary()).isTrue();
+    assertThat(binaryCheck(binarySchema().put("maxLength", 8)).getMaxLength()).isEqualTo(8);
+    assertThat(binaryCheck(binarySchema().put("pattern", "a*")).isBinary()).isFalse();
+    assertThat(binaryCheck(new JsonObject().put("type", "string")).isBinary()).isFalse();
+  }
+
+  @Test
+  void testWrapWithoutChecks() {
+    assertThat(BinaryBodyStream.wrap(delegate, binaryCheck(null), Long.MAX_VALUE, false, REQUEST))
+      .isSameInstanceAs(delegate);
+    assertThat(BinaryBodyStream.wrap(delegate, binaryCheck(null), 8, false, REQUEST))
+      .isInstanceOf(BinaryBodyStream.class);
+  }
+
+  @Test
+  void testPassThrough() {
+    BinaryBodyStream stream = (BinaryBodyStream) BinaryBodyStream.wrap(delegate,
+      binaryCheck(binarySchema().put("minLength", 2).put("maxLength", 8)), Long.MAX_VALUE, true, REQUEST);
+    consume(stream);
+
+    chunkHandler.handle(Buffer.buffer("abc"));
+    chunkHandler.handle(Buffer.buffer("defgh"));
+    endHandler.handle(null);
+    assertThat(chunks).containsExactly(Buffer.buffer("abc"), Buffer.buffer("defgh")).inOrder();
+    assertThat(stream.getBytesRead()).isEqualTo(8);
+    assertThat(failures).isEmpty();
+    assertThat(ended).isTrue();
+  }
+
+  @Test
+  void testMaxLength() {
+    consume(BinaryBodyStream.wrap(delegate, binaryCheck(binarySchema().put("maxLength", 4)), Long.MAX_VALUE, true,
+      RESPONSE));
+
+    chunkHandler.handle(Buffer.buffer("abc"));
+    chunkHandler.handle(Buffer.buffer("de"));
+    // the remaining chunks are discarded
+    chunkHandler.handle(Buffer.buffer("f"));
+    endHandler.handle(null);
+    assertThat(chunks).containsExactly(Buffer.buffer("abc"));
+    assertThat(ended).isFalse();
+    assertThat(failures).hasSize(1);
+    assertThat(failures.get(0)).isInstanceOf(SchemaValidationException.class);
+    assertThat(failures.get(0)).hasMessageThat()
+      .isEqualTo("The value of the response body is invalid. Reason: String is too long. Expected at most 4");
+    verify(delegate).resume();
+  }
+
+  @Test
+  void testMinLength() {
+    consume(BinaryBodyStream.wrap(delegate, binaryCheck(binarySchema().put("minLength", 4)), Long.MAX_VALUE, true,
+      REQUEST));
+
+    chunkHandler.handle(Buffer.buffer("abc"));
+    endHandler.handle(null);
+    assertThat(ended).isFalse();
+    assertThat(failures.get(0)).hasMessageThat()
+      .isEqualTo("The value of the request body is invalid. Reason: String is too short. Expected at least 4");
+  }
+
+  @Test
+  void testMaxSize() {
+    consume(BinaryBodyStream.wrap(delegate, binaryCheck(null), 4, false, REQUEST));
+
+    chunkHandler.handle(Buffer.buffer("abcde"));
+    assertThat(chunks).isEmpty();
+    assertThat(((ValidatorException) failures.get(0)).type()).isEqualTo(BODY_TOO_LARGE);
+  }
+
+  @Test
+  void testRequired() {
+    consume(BinaryBodyStream.wrap(delegate, binaryCheck(null), Long.MAX_VALUE, true, REQUEST));
+
+    endHandler.handle(null);
+    assertThat(ended).isFalse();
+    assertThat(((ValidatorException) failures.get(0)).type()).isEqualTo(MISSING_REQUIRED_PARAMETER);
+    assertThat(failures.get(0)).hasMessageThat().isEqualTo("The related request does not contain the required body.");
+  }
+}
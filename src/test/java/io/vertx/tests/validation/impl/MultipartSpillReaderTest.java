@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.tests.validation.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import io.vertx.openapi.validation.UploadedFile;
+import io.vertx.openapi.validation.ValidatorException;
+import io.vertx.openapi.validation.impl.MultipartSpillReader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.vertx.openapi.validation.ValidatorErrorType.BODY_TOO_LARGE;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(VertxExtension.class)
+class MultipartSpillReaderTest {
+
+  private static final String HEADERS = "--abcde12345\r\n" +
+    "Content-Disposition: form-data; name=\"name\"\r\n\r\n" +
+    "foo\r\n" +
+    "--abcde12345\r\n" +
+    "Content-Disposition: form-data; name=\"file\"\r\n" +
+    "Content-Type: application/octet-stream\r\n\r\n";
+  private static final String FILE_CONTENT = "0123456789 --abcde1234 0123456789";
+  private static final String CLOSE_DELIMITER = "\r\n--abcde12345--\r\n";
+
+  @SuppressWarnings("unchecked")
+  private static Future<Buffer> readInChunks(Vertx vertx, MultipartSpillReader reader, String body, int chunkSize) {
+    ReadStream<Buffer> streamMock = mock(ReadStream.class);
+    Future<Buffer> aggregated = reader.read(streamMock);
+    ArgumentCaptor<Handler<Buffer>> chunkHandler = ArgumentCaptor.forClass(Handler.class);
+    ArgumentCaptor<Handler<Void>> endHandler = ArgumentCaptor.forClass(Handler.class);
+    verify(streamMock).handler(chunkHandler.capture());
+    verify(streamMock).endHandler(endHandler.capture());
+
+    // The body is passed on the event loop, like the body of a request
+    vertx.runOnContext(v -> {
+      Buffer bytes = Buffer.buffer(body);
+      for (int i = 0; i < bytes.length(); i += chunkSize) {
+        chunkHandler.getValue().handle(bytes.getBuffer(i, Math.min(i + chunkSize, bytes.length())));
+      }
+      endHandler.getValue().handle(null);
+    });
+    return aggregated;
+  }
+
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  void testSpill(Vertx vertx, VertxTestContext testContext, @TempDir Path tempDir) {
+    String uploads = tempDir.resolve("uploads").toString();
+    MultipartSpillReader reader = new MultipartSpillReader(vertx, "abcde12345", 4, uploads, Long.MAX_VALUE);
+
+    readInChunks(vertx, reader, HEADERS + FILE_CONTENT + CLOSE_DELIMITER, 7)
+      .compose(aggregated -> {
+        testContext.verify(() -> {
+          // The aggregated body contains the headers of the spilled part, but not its body
+          assertThat(aggregated.toString()).isEqualTo(HEADERS + CLOSE_DELIMITER);
+          assertThat(reader.hasFiles()).isTrue();
+          UploadedFile file = reader.getUploadedFiles().get("file");
+          assertThat(file.getName()).isEqualTo("file");
+          assertThat(file.getContentType()).isEqualTo("application/octet-stream");
+          assertThat(file.getSize()).isEqualTo(FILE_CONTENT.length());
+          assertThat(vertx.fileSystem().readFileBlocking(file.getPath()).toString()).isEqualTo(FILE_CONTENT);
+        });
+        return reader.delete();
+      })
+      .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+        String path = reader.getUploadedFiles().get("file").getPath();
+        assertThat(vertx.fileSystem().existsBlocking(path)).isFalse();
+        testContext.completeNow();
+      })));
+  }
+
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  void testBelowThreshold(Vertx vertx, VertxTestContext testContext, @TempDir Path tempDir) {
+    String uploads = tempDir.resolve("uploads").toString();
+    MultipartSpillReader reader = new MultipartSpillReader(vertx, "abcde12345", 1024, uploads, Long.MAX_VALUE);
+    String body = HEADERS + FILE_CONTENT + CLOSE_DELIMITER;
+
+    readInChunks(vertx, reader, body, 5).onComplete(testContext.succeeding(aggregated -> testContext.verify(() -> {
+      assertThat(aggregated.toString()).isEqualTo(body);
+      assertThat(reader.hasFiles()).isFalse();
+      assertThat(reader.getUploadedFiles()).isEmpty();
+      assertThat(vertx.fileSystem().existsBlocking(uploads)).isFalse();
+      testContext.completeNow();
+    })));
+  }
+
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  void testBodyTooLarge(Vertx vertx, VertxTestContext testContext, @TempDir Path tempDir) {
+    String uploads = tempDir.resolve("uploads").toString();
+    MultipartSpillReader reader = new MultipartSpillReader(vertx, "abcde12345", 4, uploads, 192);
+
+    // The limit is exceeded while the file part is streamed to a temporary file
+    readInChunks(vertx, reader, HEADERS + FILE_CONTENT + FILE_CONTENT + CLOSE_DELIMITER, 16)
+      .recover(t -> {
+        testContext.verify(() -> {
+          assertThat(t).hasMessageThat().isEqualTo("The request body exceeds the limit: size of 192 bytes");
+          assertThat(((ValidatorException) t).type()).isEqualTo(BODY_TOO_LARGE);
+          assertThat(reader.hasFiles()).isTrue();
+        });
+        return reader.delete().mapEmpty();
+      })
+      .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+        assertThat(vertx.fileSystem().readDirBlocking(uploads)).isEmpty();
+        testContext.completeNow();
+      })));
+  }
+}
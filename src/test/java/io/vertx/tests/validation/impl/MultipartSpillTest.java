@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+
+package io.vertx.tests.validation.impl;
+
+import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.json.schema.Validator;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import io.vertx.openapi.contract.MediaType;
+import io.vertx.openapi.contract.OpenAPIContract;
+import io.vertx.openapi.validation.RequestValidator;
+import io.vertx.openapi.validation.UploadedFile;
+import io.vertx.openapi.validation.ValidatorException;
+import io.vertx.openapi.validation.ValidatorOptions;
+import io.vertx.openapi.validation.impl.MediaTypeCheck;
+import io.vertx.openapi.validation.impl.RequestValidatorImpl;
+import io.vertx.openapi.validation.impl.UploadedFileImpl;
+import io.vertx.tests.test.base.HttpServerTestBase;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.vertx.core.http.HttpMethod.POST;
+import static io.vertx.openapi.validation.ValidationContext.REQUEST;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+class MultipartSpillTest extends HttpServerTestBase {
+
+  private static final String CONTENT_TYPE = "multipart/form-data; boundary=abcde12345";
+  private static final String HEADERS = "--abcde12345\r\n" +
+    "Content-Disposition: form-data; name=\"name\"\r\n\r\n" +
+    "foo\r\n" +
+    "--abcde12345\r\n" +
+    "Content-Disposition: form-data; name=\"file\"\r\n" +
+    "Content-Type: application/octet-stream\r\n\r\n";
+  private static final String CLOSE_DELIMITER = "\r\n--abcde12345--\r\n";
+
+  @TempDir
+  Path tempDir;
+
+  private static JsonObject uploadContract(JsonObject fileSchema) {
+    JsonObject schema = new JsonObject().put("type", "object")
+      .put("properties", new JsonObject()
+        .put("name", new JsonObject().put("type", "string"))
+        .put("file", fileSchema))
+      .put("required", new JsonArray().add("name").add("file"));
+    JsonObject operation = new JsonObject()
+      .put("operationId", "upload")
+      .put("requestBody", new JsonObject().put("required", true).put("content", new JsonObject()
+        .put("multipart/form-data", new JsonObject().put("schema", schema))))
+      .put("responses", new JsonObject().put("200", new JsonObject().put("description", "ok")));
+    return new JsonObject()
+      .put("openapi", "3.1.0")
+      .put("info", new JsonObject().put("title", "Uploads").put("version", "1.0.0"))
+      .put("paths", new JsonObject().put("/upload", new JsonObject().put("post", operation)));
+  }
+
+  @Test
+  @Timeout(value = 5, timeUnit = TimeUnit.SECONDS)
+  void testFilesAreDeletedWhenConnectionIsClosed(VertxTestContext testContext) {
+    String uploads = tempDir.resolve("uploads").toString();
+    ValidatorOptions options = new ValidatorOptions().setMultipartSpillThreshold(4).setUploadsDirectory(uploads);
+    Promise<String> spilled = Promise.promise();
+
+    JsonObject fileSchema = new JsonObject().put("type", "string").put("format", "binary");
+    OpenAPIContract.from(vertx, uploadContract(fileSchema))
+      .map(contract -> RequestValidator.create(vertx, contract, options))
+      .compose(validator -> createServer(request -> validator.validate(request, "upload")
+        .onFailure(testContext::failNow)
+        .onSuccess(validated -> {
+          UploadedFile file = (UploadedFile) validated.getBody().getJsonObject().getValue("file");
+          spilled.complete(file.getPath());
+          // The response is started, but never ended
+          request.response().setChunked(true).write("partial");
+        })))
+      .compose(v -> createRequest(POST, "/upload"))
+      .compose(request -> request.putHeader("Content-Type", CONTENT_TYPE)
+        .send(Buffer.buffer(HEADERS + "0123456789 0123456789" + CLOSE_DELIMITER)))
+      .compose(response -> spilled.future().compose(path -> {
+        testContext.verify(() -> assertThat(vertx.fileSystem().existsBlocking(path)).isTrue());
+        // The client goes away before the response has ended
+        return response.request().connection().close().map(path);
+      }))
+      .onComplete(testContext.succeeding(path -> vertx.setPeriodic(10, id -> {
+        if (!vertx.fileSystem().existsBlocking(path)) {
+          vertx.cancelTimer(id);
+          testContext.verify(() -> assertThat(vertx.fileSystem().readDirBlocking(uploads)).isEmpty());
+          testContext.completeNow();
+        }
+      })));
+  }
+
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  void testUploadedFileIsOnlyCheckedBySize(VertxTestContext testContext) {
+    JsonObject fileSchema = new JsonObject().put("type", "string").put("format", "binary")
+      .put("minLength", 100000000).put("pattern", "^[0-9]+$");
+    // The aggregated body contains the headers of the spilled part, but not its content
+    Buffer aggregated = Buffer.buffer(HEADERS + CLOSE_DELIMITER);
+
+    OpenAPIContract.from(vertx, uploadContract(fileSchema)).onComplete(testContext.succeeding(contract -> {
+      RequestValidatorImpl validator = new RequestValidatorImpl(vertx, contract);
+      MediaTypeCheck check = validator.getValidationPlan("upload").getBodyCheck(CONTENT_TYPE);
+
+      testContext.verify(() -> {
+        // Neither a placeholder of the minimum length is created, nor is the pattern applied to the file
+        UploadedFile large = new UploadedFileImpl("file", "application/octet-stream", "unused", 100000000);
+        JsonObject body = (JsonObject) check.validate(CONTENT_TYPE, aggregated, Map.of("file", large), REQUEST).get();
+        assertThat(body.getString("name")).isEqualTo("foo");
+        assertThat(body.getValue("file")).isSameInstanceAs(large);
+
+        UploadedFile small = new UploadedFileImpl("file", "application/octet-stream", "unused", 10);
+        ValidatorException e = assertThrows(ValidatorException.class,
+          () -> check.validate(CONTENT_TYPE, aggregated, Map.of("file", small), REQUEST));
+        assertThat(e).hasMessageThat().contains("String is too short. Expected at least 100000000");
+      });
+      testContext.completeNow();
+    }));
+  }
+
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  void testUploadedFileIsRemovedFromSubschemas(VertxTestContext testContext) {
+    JsonObject fileSchema = new JsonObject().put("type", "string").put("format", "binary");
+    JsonObject contractJson = uploadContract(fileSchema);
+    JsonObject schema = contractJson.getJsonObject("paths").getJsonObject("/upload").getJsonObject("post")
+      .getJsonObject("requestBody").getJsonObject("content").getJsonObject("multipart/form-data")
+      .getJsonObject("schema");
+    JsonObject requiresFile = new JsonObject().put("required", new JsonArray().add("file"));
+    schema.put("allOf", new JsonArray().add(requiresFile)
+      .add(new JsonObject().put("anyOf", new JsonArray().add(requiresFile.copy()))));
+    Buffer aggregated = Buffer.buffer(HEADERS + CLOSE_DELIMITER);
+
+    OpenAPIContract.from(vertx, contractJson).onComplete(testContext.succeeding(contract -> {
+      RequestValidatorImpl validator = new RequestValidatorImpl(vertx, contract);
+      MediaTypeCheck check = validator.getValidationPlan("upload").getBodyCheck(CONTENT_TYPE);
+
+      testContext.verify(() -> {
+        // The subschemas require the property of the file, which is not part of the validated body
+        UploadedFile file = new UploadedFileImpl("file", "application/octet-stream", "unused", 10);
+        JsonObject body = (JsonObject) check.validate(CONTENT_TYPE, aggregated, Map.of("file", file), REQUEST).get();
+        assertThat(body.getValue("file")).isSameInstanceAs(file);
+      });
+      testContext.completeNow();
+    }));
+  }
+
+  @Test
+  void testSchemaRepositoryIsRequiredToValidateSchema() {
+    MediaType mediaType = mock(MediaType.class);
+    assertThrows(NullPointerException.class,
+      () -> new MediaTypeCheck(mediaType, true, null, mock(Validator.class), null));
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.tests.validation.impl;
+
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.json.JsonObject;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import io.vertx.openapi.contract.OpenAPIContract;
+import io.vertx.openapi.validation.RequestDispatcher;
+import io.vertx.tests.test.base.HttpServerTestBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.vertx.core.http.HttpMethod.DELETE;
+import static io.vertx.core.http.HttpMethod.GET;
+import static io.vertx.core.http.HttpMethod.POST;
+import static io.vertx.tests.ResourceHelper.getRelatedTestResourcePath;
+import static io.vertx.tests.ResourceHelper.loadJson;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RequestDispatcherImplTest extends HttpServerTestBase {
+
+  private OpenAPIContract contract;
+
+  @BeforeEach
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  void setupContract(VertxTestContext testContext) {
+    JsonObject contractJson =
+      loadJson(vertx, getRelatedTestResourcePath("io.vertx.tests.test").resolve("petstore.json"));
+    OpenAPIContract.from(vertx, contractJson).onComplete(testContext.succeeding(contract -> {
+      this.contract = contract;
+      testContext.completeNow();
+    }));
+  }
+
+  private static Stream<Arguments> testDispatch() {
+    return Stream.of(
+      Arguments.of(GET, "/pets/1", 200, "1"),
+      Arguments.of(GET, "/pets/foo", 400, null),
+      Arguments.of(GET, "/unknown", 404, null),
+      Arguments.of(DELETE, "/pets/1", 405, null),
+      Arguments.of(GET, "/pets", 501, null)
+    );
+  }
+
+  @ParameterizedTest(name = "{index} {0} {1} should result into {2}")
+  @MethodSource
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  void testDispatch(HttpMethod method, String path, int expectedStatusCode, String expectedBody,
+                    VertxTestContext testContext) {
+    RequestDispatcher dispatcher = RequestDispatcher.create(vertx, contract)
+      .operation("showPetById", dispatched -> {
+        Integer petId = dispatched.getValidatedRequest().getPathParameters().get("petId").getInteger();
+        dispatched.getRequest().response().end(String.valueOf(petId));
+      });
+
+    createServer(dispatcher)
+      .compose(v -> createRequest(method, path))
+      .compose(HttpClientRequest::send)
+      .compose(response -> response.body().map(body -> {
+        testContext.verify(() -> {
+          assertThat(response.statusCode()).isEqualTo(expectedStatusCode);
+          if (expectedBody != null) {
+            assertThat(body.toString()).isEqualTo(expectedBody);
+          }
+          if (expectedStatusCode == 405) {
+            assertThat(response.getHeader("Allow")).isEqualTo("GET");
+          }
+        });
+        return response;
+      }))
+      .onComplete(testContext.succeedingThenComplete());
+  }
+
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  void testFailureHandler(VertxTestContext testContext) {
+    RequestDispatcher dispatcher = RequestDispatcher.create(vertx, contract)
+      .operation("showPetById", dispatched -> {
+        throw new IllegalStateException("boom");
+      })
+      .failureHandler(dispatched -> {
+        testContext.verify(() -> {
+          assertThat(dispatched.getOperation().getOperationId()).isEqualTo("showPetById");
+          assertThat(dispatched.getValidatedRequest()).isNotNull();
+          assertThat(dispatched.getFailure()).hasMessageThat().isEqualTo("boom");
+        });
+        dispatched.getRequest().response().setStatusCode(503).end();
+      });
+
+    createServer(dispatcher)
+      .compose(v -> createRequest(GET, "/pets/1"))
+      .compose(HttpClientRequest::send)
+      .map(HttpClientResponse::statusCode)
+      .onComplete(testContext.succeeding(statusCode -> testContext.verify(() -> {
+        assertThat(statusCode).isEqualTo(503);
+        testContext.completeNow();
+      })));
+  }
+
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  void testBodyTooLarge(VertxTestContext testContext) {
+    JsonObject contractJson =
+      loadJson(vertx, getRelatedTestResourcePath("io.vertx.tests.test").resolve("petstore.json"));
+    contractJson.getJsonObject("paths").getJsonObject("/pets").getJsonObject("post").getJsonObject("requestBody")
+      .put("x-max-body-size", 8);
+
+    OpenAPIContract.from(vertx, contractJson)
+      .map(limitedContract -> RequestDispatcher.create(vertx, limitedContract)
+        .operation("createPets", dispatched -> dispatched.getRequest().response().setStatusCode(201).end()))
+      .compose(this::createServer)
+      .compose(v -> createRequest(POST, "/pets"))
+      .compose(request -> request.putHeader("Content-Type", "application/json")
+        .send(new JsonObject().put("id", 1).put("name", "foo").toBuffer()))
+      .map(HttpClientResponse::statusCode)
+      .onComplete(testContext.succeeding(statusCode -> testContext.verify(() -> {
+        assertThat(statusCode).isEqualTo(413);
+        testContext.completeNow();
+      })));
+  }
+
+  @Test
+  void testUnknownOperation() {
+    RequestDispatcher dispatcher = RequestDispatcher.create(vertx, contract);
+    assertThrows(IllegalArgumentException.class, () -> dispatcher.operation("unknown", dispatched -> {}));
+  }
+}
@@ -13,6 +13,9 @@
 package io.vertx.tests.validation.impl;
 
 import com.google.common.collect.ImmutableMap;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerRequest;
@@ -29,12 +32,16 @@ import io.vertx.openapi.contract.OpenAPIContract;
 import io.vertx.openapi.contract.Operation;
 import io.vertx.openapi.contract.Parameter;
 import io.vertx.openapi.contract.RequestBody;
+import io.vertx.openapi.contract.RouteMatch;
 import io.vertx.openapi.contract.Style;
 import io.vertx.openapi.validation.RequestParameter;
-import io.vertx.openapi.validation.RequestValidator;
+import io.vertx.openapi.validation.SchemaValidationException;
 import io.vertx.openapi.validation.ValidatableRequest;
 import io.vertx.openapi.validation.ValidatedRequest;
+import io.vertx.openapi.validation.ValidationCheck;
+import io.vertx.openapi.validation.ValidationPlan;
 import io.vertx.openapi.validation.ValidatorException;
+import io.vertx.openapi.validation.ValidatorOptions;
 import io.vertx.openapi.validation.impl.RequestParameterImpl;
 import io.vertx.openapi.validation.impl.RequestValidatorImpl;
 import io.vertx.openapi.validation.impl.ValidatableRequestImpl;
@@ -47,6 +54,8 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -57,6 +66,8 @@ import java.util.stream.Stream;
 
 import static com.google.common.truth.Truth.assertThat;
 import static io.netty.handler.codec.http.HttpHeaderValues.APPLICATION_JSON;
+import static io.vertx.core.http.HttpHeaders.CONTENT_LENGTH;
+import static io.vertx.core.http.HttpHeaders.CONTENT_TYPE;
 import static io.vertx.core.http.HttpMethod.GET;
 import static io.vertx.json.schema.common.dsl.Schemas.booleanSchema;
 import static io.vertx.json.schema.common.dsl.Schemas.intSchema;
@@ -69,17 +80,20 @@ import static io.vertx.openapi.contract.Location.PATH;
 import static io.vertx.openapi.contract.Location.QUERY;
 import static io.vertx.openapi.contract.Style.FORM;
 import static io.vertx.openapi.contract.Style.SIMPLE;
+import static io.vertx.openapi.validation.ValidatorErrorType.BODY_TOO_LARGE;
 import static io.vertx.openapi.validation.ValidatorErrorType.INVALID_VALUE;
 import static io.vertx.openapi.validation.ValidatorErrorType.MISSING_REQUIRED_PARAMETER;
 import static io.vertx.openapi.validation.ValidatorErrorType.UNSUPPORTED_VALUE_FORMAT;
 import static io.vertx.tests.MockHelper.mockParameter;
 import static io.vertx.tests.ResourceHelper.TEST_RESOURCE_PATH;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -225,13 +239,16 @@ class RequestValidatorImplTest {
     when(mockedOperation.getParameters()).thenReturn(emptyList());
     when(mockedOperation.getOperationId()).thenReturn(operationId);
 
-    when(contractSpy.findOperation("/mocked/path", GET)).thenReturn(mockedOperation);
+    RouteMatch mockedRoute = mock(RouteMatch.class);
+    when(mockedRoute.getOperation()).thenReturn(mockedOperation);
+    when(mockedRoute.isMethodAllowed()).thenReturn(true);
+
+    when(contractSpy.findRoute("/mocked/path", GET)).thenReturn(mockedRoute);
     when(contractSpy.operation(operationId)).thenReturn(mockedOperation);
 
-    RequestValidator validatorSpy = spy(validator);
-    validatorSpy.validate(requestMock).onSuccess(v -> testContext.verify(() -> {
-      verify(validatorSpy).validate(isA(HttpServerRequest.class), eq(operationId));
-      verify(validatorSpy).validate(isA(ValidatableRequest.class), eq(operationId));
+    validator.validate(requestMock).onSuccess(v -> testContext.verify(() -> {
+      // the operation has no request body, so the body is not read
+      verify(requestMock, never()).body();
       testContext.completeNow();
     })).onFailure(testContext::failNow);
   }
@@ -239,18 +256,121 @@ class RequestValidatorImplTest {
   @Test
   @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
   void voidTestValidateWithRequestAndOperationId(VertxTestContext testContext) {
-    RequestValidator validatorSpy = spy(validator);
     HttpServerRequest requestMock = mock(HttpServerRequest.class);
     Operation mockedOperation = mock(Operation.class);
     when(mockedOperation.getParameters()).thenReturn(emptyList());
     when(contractSpy.operation(anyString())).thenReturn(mockedOperation);
 
-    validatorSpy.validate(requestMock, "isMocked").onSuccess(v -> testContext.verify(() -> {
-      verify(validatorSpy).validate(isA(ValidatableRequest.class), eq("isMocked"));
+    validator.validate(requestMock, "isMocked").onSuccess(v -> testContext.verify(() -> {
+      verify(requestMock, never()).body();
       testContext.completeNow();
     })).onFailure(testContext::failNow);
   }
 
+  private static HttpServerRequest mockRequest(MultiMap params, MultiMap headers, Buffer body) {
+    HttpServerRequest requestMock = mock(HttpServerRequest.class);
+    when(requestMock.params()).thenReturn(params);
+    when(requestMock.headers()).thenReturn(headers);
+    when(requestMock.body()).thenReturn(Future.succeededFuture(body));
+    return requestMock;
+  }
+
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  void testValidateWithRequestRejectsParametersBeforeBody(VertxTestContext testContext) {
+    HttpServerRequest requestMock = mockRequest(MultiMap.caseInsensitiveMultiMap().add("limit", "101"),
+      MultiMap.caseInsensitiveMultiMap(), Buffer.buffer());
+
+    validator.validate(requestMock, "listPets").onComplete(testContext.failing(t -> testContext.verify(() -> {
+      assertThat(t).isInstanceOf(ValidatorException.class);
+      assertThat(((ValidatorException) t).type()).isEqualTo(INVALID_VALUE);
+      verify(requestMock, never()).body();
+      testContext.completeNow();
+    })));
+  }
+
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  void testValidateWithRequestRejectsContentTypeBeforeBody(VertxTestContext testContext) {
+    MultiMap headers = MultiMap.caseInsensitiveMultiMap().add(CONTENT_TYPE, "text/plain");
+    HttpServerRequest requestMock = mockRequest(MultiMap.caseInsensitiveMultiMap(), headers, Buffer.buffer("foo"));
+
+    validator.validate(requestMock, "createPets").onComplete(testContext.failing(t -> testContext.verify(() -> {
+      assertThat(t).isInstanceOf(ValidatorException.class);
+      assertThat(((ValidatorException) t).type()).isEqualTo(UNSUPPORTED_VALUE_FORMAT);
+      verify(requestMock, never()).body();
+      testContext.completeNow();
+    })));
+  }
+
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  void testValidateWithRequestAndBody(VertxTestContext testContext) {
+    MultiMap headers = MultiMap.caseInsensitiveMultiMap().add(CONTENT_TYPE, APPLICATION_JSON.toString());
+    JsonObject pet = new JsonObject().put("id", 1).put("name", "foo");
+    HttpServerRequest requestMock = mockRequest(MultiMap.caseInsensitiveMultiMap(), headers, pet.toBuffer());
+
+    validator.validate(requestMock, "createPets").onComplete(testContext.succeeding(validated -> {
+      testContext.verify(() -> {
+        assertThat(validated.getBody().getJsonObject()).isEqualTo(pet);
+        verify(requestMock).body();
+      });
+      testContext.completeNow();
+    }));
+  }
+
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  void testValidateWithRequestDiscardsBodyAfterInvalidParameters(VertxTestContext testContext) {
+    Parameter limit = buildParam("limit", QUERY, FORM, intSchema().toJson(), true);
+    MediaType mockedMediaType = mock(MediaType.class);
+    when(mockedMediaType.getIdentifier()).thenReturn(MediaType.APPLICATION_JSON);
+    when(mockedMediaType.getSchema()).thenReturn(JsonSchema.of(objectSchema().toJson()));
+    RequestBody mockedRequestBody = mock(RequestBody.class);
+    when(mockedRequestBody.determineContentType(anyString())).thenReturn(mockedMediaType);
+    Operation mockedOperation = mock(Operation.class);
+    when(mockedOperation.getOperationId()).thenReturn("isMocked");
+    when(mockedOperation.getParameters()).thenReturn(singletonList(limit));
+    when(mockedOperation.getRequestBody()).thenReturn(mockedRequestBody);
+    when(contractSpy.operation("isMocked")).thenReturn(mockedOperation);
+
+    MultiMap headers = MultiMap.caseInsensitiveMultiMap().add(CONTENT_TYPE, APPLICATION_JSON.toString());
+    HttpServerRequest requestMock = mockRequest(MultiMap.caseInsensitiveMultiMap().add("limit", "foo"), headers,
+      Buffer.buffer("{}"));
+
+    validator.validate(requestMock, "isMocked").onComplete(testContext.failing(t -> testContext.verify(() -> {
+      assertThat(((ValidatorException) t).type()).isEqualTo(INVALID_VALUE);
+      // the parameters were validated on a worker, the paused body is discarded instead of being read
+      assertThat(validator.getStats().getWorkerValidations()).isEqualTo(1);
+      InOrder inOrder = inOrder(requestMock);
+      inOrder.verify(requestMock).pause();
+      inOrder.verify(requestMock).resume();
+      verify(requestMock, never()).body();
+      testContext.completeNow();
+    })));
+  }
+
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  void testValidateWithRequestValidatesParametersWithExecutor(VertxTestContext testContext) {
+    MultiMap headers = MultiMap.caseInsensitiveMultiMap().add(CONTENT_TYPE, APPLICATION_JSON.toString());
+    JsonObject pet = new JsonObject().put("id", 1).put("name", "foo");
+    HttpServerRequest requestMock = mockRequest(MultiMap.caseInsensitiveMultiMap(), headers, pet.toBuffer());
+
+    validator.validate(requestMock, "createPets").onComplete(testContext.succeeding(validated -> {
+      testContext.verify(() -> {
+        // the parameters and the body are both validated on a worker, the body is read in between
+        assertThat(validator.getStats().getWorkerValidations()).isEqualTo(2);
+        assertThat(validator.getStats().getInlineValidations()).isEqualTo(0);
+        InOrder inOrder = inOrder(requestMock);
+        inOrder.verify(requestMock).pause();
+        inOrder.verify(requestMock).body();
+        inOrder.verify(requestMock).resume();
+      });
+      testContext.completeNow();
+    }));
+  }
+
   @ParameterizedTest
   @MethodSource
   @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
@@ -272,6 +392,141 @@ class RequestValidatorImplTest {
     })).onFailure(testContext::failNow);
   }
 
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  @SuppressWarnings("unchecked")
+  void testValidateWithRequestStreamingJson(Vertx vertx, VertxTestContext testContext) {
+    ValidatorOptions options = new ValidatorOptions().setStreamingJsonValidation(true);
+    RequestValidatorImpl streamingValidator = new RequestValidatorImpl(vertx, contractSpy, options);
+    MultiMap headers = MultiMap.caseInsensitiveMultiMap().add(CONTENT_TYPE, APPLICATION_JSON.toString());
+    HttpServerRequest requestMock = mockRequest(MultiMap.caseInsensitiveMultiMap(), headers, Buffer.buffer());
+
+    Future<ValidatedRequest> validated = streamingValidator.validate(requestMock, "createPets");
+    ArgumentCaptor<Handler<Buffer>> chunkHandler = ArgumentCaptor.forClass(Handler.class);
+    ArgumentCaptor<Handler<Void>> endHandler = ArgumentCaptor.forClass(Handler.class);
+    verify(requestMock).handler(chunkHandler.capture());
+    verify(requestMock).endHandler(endHandler.capture());
+    verify(requestMock, never()).body();
+
+    chunkHandler.getValue().handle(Buffer.buffer("{\"id\": 1, \"na"));
+    chunkHandler.getValue().handle(Buffer.buffer("me\": \"foo\"}"));
+    endHandler.getValue().handle(null);
+    validated.onComplete(testContext.succeeding(validatedRequest -> testContext.verify(() -> {
+      JsonObject expected = new JsonObject().put("id", 1).put("name", "foo");
+      assertThat(validatedRequest.getBody().getJsonObject()).isEqualTo(expected);
+      testContext.completeNow();
+    })));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testValidateWithRequestStreamingJsonRejectsEarly(Vertx vertx) {
+    ValidatorOptions options = new ValidatorOptions().setStreamingJsonValidation(true);
+    RequestValidatorImpl streamingValidator = new RequestValidatorImpl(vertx, contractSpy, options);
+    MultiMap headers = MultiMap.caseInsensitiveMultiMap().add(CONTENT_TYPE, APPLICATION_JSON.toString());
+    HttpServerRequest requestMock = mockRequest(MultiMap.caseInsensitiveMultiMap(), headers, Buffer.buffer());
+
+    Future<ValidatedRequest> validated = streamingValidator.validate(requestMock, "createPets");
+    ArgumentCaptor<Handler<Buffer>> chunkHandler = ArgumentCaptor.forClass(Handler.class);
+    verify(requestMock).handler(chunkHandler.capture());
+
+    // the body is rejected with the first chunk, before the end of the body has been read
+    chunkHandler.getValue().handle(Buffer.buffer("{\"id\": \"foo\", "));
+    assertThat(validated.failed()).isTrue();
+    assertThat(validated.cause()).isInstanceOf(SchemaValidationException.class);
+    assertThat(validated.cause()).hasMessageThat()
+      .isEqualTo("The value of the request body is invalid. Reason: Instance type string is invalid at /id");
+  }
+
+  @Test
+  void testValidateWithRequestRejectsContentLengthBeforeBody(Vertx vertx) {
+    ValidatorOptions options = new ValidatorOptions().setMaxBodySize(16);
+    RequestValidatorImpl limitedValidator = new RequestValidatorImpl(vertx, contractSpy, options);
+    MultiMap headers = MultiMap.caseInsensitiveMultiMap()
+      .add(CONTENT_TYPE, APPLICATION_JSON.toString())
+      .add(CONTENT_LENGTH, "17");
+    HttpServerRequest requestMock = mockRequest(MultiMap.caseInsensitiveMultiMap(), headers, Buffer.buffer());
+
+    Future<ValidatedRequest> validated = limitedValidator.validate(requestMock, "createPets");
+    assertThat(validated.failed()).isTrue();
+    assertThat(((ValidatorException) validated.cause()).type()).isEqualTo(BODY_TOO_LARGE);
+    verify(requestMock, never()).handler(any());
+    verify(requestMock, never()).body();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testValidateWithRequestRejectsBodySizeWhileReading(Vertx vertx) {
+    ValidatorOptions options = new ValidatorOptions().setMaxBodySize(16);
+    RequestValidatorImpl limitedValidator = new RequestValidatorImpl(vertx, contractSpy, options);
+    MultiMap headers = MultiMap.caseInsensitiveMultiMap().add(CONTENT_TYPE, APPLICATION_JSON.toString());
+    HttpServerRequest requestMock = mockRequest(MultiMap.caseInsensitiveMultiMap(), headers, Buffer.buffer());
+
+    Future<ValidatedRequest> validated = limitedValidator.validate(requestMock, "createPets");
+    ArgumentCaptor<Handler<Buffer>> chunkHandler = ArgumentCaptor.forClass(Handler.class);
+    verify(requestMock).handler(chunkHandler.capture());
+    verify(requestMock, never()).body();
+
+    chunkHandler.getValue().handle(Buffer.buffer("{\"id\": 1, "));
+    assertThat(validated.isComplete()).isFalse();
+    // the body is rejected as soon as it exceeds the limit, before the end of the body has been read
+    chunkHandler.getValue().handle(Buffer.buffer("\"name\": \"foo\"}"));
+    assertThat(validated.failed()).isTrue();
+    assertThat(validated.cause()).hasMessageThat().isEqualTo("The request body exceeds the limit: size of 16 bytes");
+    assertThat(((ValidatorException) validated.cause()).type()).isEqualTo(BODY_TOO_LARGE);
+  }
+
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  @SuppressWarnings("unchecked")
+  void testValidateWithBodyStream(Vertx vertx, VertxTestContext testContext) {
+    Path contractFile = TEST_RESOURCE_PATH.resolve("v3.1").resolve("petstore.json");
+    JsonObject contractJson = vertx.fileSystem().readFileBlocking(contractFile.toString()).toJsonObject();
+    JsonObject binarySchema = new JsonObject().put("type", "string").put("format", "binary").put("maxLength", 4);
+    contractJson.getJsonObject("paths").getJsonObject("/pets").getJsonObject("post").getJsonObject("requestBody")
+      .getJsonObject("content").put("application/octet-stream", new JsonObject().put("schema", binarySchema));
+    MultiMap headers = MultiMap.caseInsensitiveMultiMap().add(CONTENT_TYPE, "application/octet-stream");
+    HttpServerRequest requestMock = mockRequest(MultiMap.caseInsensitiveMultiMap(), headers, Buffer.buffer());
+
+    OpenAPIContract.from(vertx, contractJson)
+      .compose(c -> new RequestValidatorImpl(vertx, c).validateWithBodyStream(requestMock, "createPets"))
+      .onComplete(testContext.succeeding(validated -> testContext.verify(() -> {
+        // the body is neither read nor consumed, until the caller reads the body stream
+        verify(requestMock).pause();
+        verify(requestMock, never()).body();
+        verify(requestMock, never()).handler(any());
+        assertThat(validated.getBody().isEmpty()).isTrue();
+
+        List<Buffer> chunks = new ArrayList<>();
+        List<Throwable> failures = new ArrayList<>();
+        validated.getBodyStream().exceptionHandler(failures::add).handler(chunks::add);
+        ArgumentCaptor<Handler<Buffer>> chunkHandler = ArgumentCaptor.forClass(Handler.class);
+        verify(requestMock).handler(chunkHandler.capture());
+
+        chunkHandler.getValue().handle(Buffer.buffer("abc"));
+        chunkHandler.getValue().handle(Buffer.buffer("de"));
+        assertThat(chunks).containsExactly(Buffer.buffer("abc"));
+        assertThat(failures.get(0)).hasMessageThat()
+          .isEqualTo("The value of the request body is invalid. Reason: String is too long. Expected at most 4");
+        testContext.completeNow();
+      })));
+  }
+
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  void testValidateWithBodyStreamReadsOtherMediaTypes(VertxTestContext testContext) {
+    MultiMap headers = MultiMap.caseInsensitiveMultiMap().add(CONTENT_TYPE, APPLICATION_JSON.toString());
+    Buffer body = new JsonObject().put("id", 1).put("name", "foo").toBuffer();
+    HttpServerRequest requestMock = mockRequest(MultiMap.caseInsensitiveMultiMap(), headers, body);
+
+    validator.validateWithBodyStream(requestMock, "createPets")
+      .onComplete(testContext.succeeding(validated -> testContext.verify(() -> {
+        assertThat(validated.getBodyStream()).isNull();
+        assertThat(validated.getBody().getJsonObject()).isEqualTo(body.toJsonObject());
+        testContext.completeNow();
+      })));
+  }
+
   @Test
   @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
   void testValidateThrowOperationIdInValid(VertxTestContext testContext) {
@@ -388,6 +643,84 @@ class RequestValidatorImplTest {
     assertThat(exception).hasMessageThat().isEqualTo(expectedMsg);
   }
 
+  @Test
+  void testGetValidationPlan() {
+    ValidationPlan plan = validator.getValidationPlan("listPets");
+    assertThat(plan.getOperationId()).isEqualTo("listPets");
+    assertThat(plan.getParameterChecks()).hasSize(1);
+    ValidationCheck limit = plan.getParameterChecks().get(0);
+    assertThat(limit.getName()).isEqualTo("limit");
+    assertThat(limit.isBody()).isFalse();
+    assertThat(limit.getLocation()).isEqualTo(QUERY);
+    assertThat(limit.getStyle()).isEqualTo(FORM);
+    assertThat(limit.isRequired()).isFalse();
+    assertThat(limit.isTransformable()).isTrue();
+    assertThat(limit.isSchemaValidated()).isTrue();
+    assertThat(plan.getBodyChecks()).isEmpty();
+    assertThat(plan.isBodyRequired()).isFalse();
+    // plans are compiled only once per operation
+    assertThat(validator.getValidationPlan("listPets")).isSameInstanceAs(plan);
+
+    ValidationPlan createPets = validator.getValidationPlan("createPets");
+    assertThat(createPets.getParameterChecks()).isEmpty();
+    assertThat(createPets.isBodyRequired()).isTrue();
+    assertThat(createPets.getBodyChecks()).hasSize(1);
+    ValidationCheck body = createPets.getBodyChecks().get(0);
+    assertThat(body.getName()).isEqualTo(MediaType.APPLICATION_JSON);
+    assertThat(body.isBody()).isTrue();
+    assertThat(body.getLocation()).isNull();
+    assertThat(body.isRequired()).isTrue();
+    assertThat(body.isSchemaValidated()).isTrue();
+  }
+
+  @Test
+  void testGetValidationPlanUnsupportedStyle() {
+    Parameter param = mockParameter("dummy", HEADER, Style.DEEP_OBJECT, false, JsonSchema.of(stringSchema().toJson()));
+    Operation mockedOperation = mock(Operation.class);
+    when(mockedOperation.getParameters()).thenReturn(List.of(param));
+    when(contractSpy.operation(anyString())).thenReturn(mockedOperation);
+
+    ValidationCheck check = validator.getValidationPlan("isMocked").getParameterChecks().get(0);
+    assertThat(check.isTransformable()).isFalse();
+  }
+
+  @Test
+  void testGetValidationPlanThrowOperationIdInvalid() {
+    ValidatorException exception =
+      assertThrows(ValidatorException.class, () -> validator.getValidationPlan("invalidId"));
+    assertThat(exception).hasMessageThat().isEqualTo("Invalid OperationId: invalidId");
+  }
+
+  @Test
+  void testValidateInline(Vertx vertx) {
+    ValidatorOptions options = new ValidatorOptions().setInlineValidation(true);
+    RequestValidatorImpl inlineValidator = new RequestValidatorImpl(vertx, contractSpy, options);
+    Map<String, RequestParameter> query = ImmutableMap.of("limit", new RequestParameterImpl("5"));
+    ValidatableRequest request = new ValidatableRequestImpl(null, null, null, query);
+
+    // cheap validations are completed directly on the calling thread
+    Future<ValidatedRequest> validated = inlineValidator.validate(request, "listPets");
+    assertThat(validated.succeeded()).isTrue();
+    assertThat(validated.result().getQuery().get("limit").getInteger()).isEqualTo(5);
+    assertThat(inlineValidator.getStats().getInlineValidations()).isEqualTo(1);
+    assertThat(inlineValidator.getStats().getWorkerValidations()).isEqualTo(0);
+  }
+
+  @Test
+  void testValidateSync() {
+    Map<String, RequestParameter> query = ImmutableMap.of("limit", new RequestParameterImpl("42"));
+    ValidatedRequest validated = validator.validateSync(new ValidatableRequestImpl(null, null, null, query), "listPets");
+    assertThat(validated.getQuery().get("limit").getInteger()).isEqualTo(42);
+
+    Map<String, RequestParameter> invalidQuery = ImmutableMap.of("limit", new RequestParameterImpl("101"));
+    ValidatableRequest invalid = new ValidatableRequestImpl(null, null, null, invalidQuery);
+    ValidatorException exception =
+      assertThrows(ValidatorException.class, () -> validator.validateSync(invalid, "listPets"));
+    assertThat(exception.type()).isEqualTo(INVALID_VALUE);
+
+    assertThrows(ValidatorException.class, () -> validator.validateSync(invalid, "invalidId"));
+  }
+
   private RequestBody mockRequestBody(boolean isRequired) {
     MediaType mockedMediaType = mock(MediaType.class);
     when(mockedMediaType.getSchema()).thenReturn(JsonSchema.of(objectSchema().toJson()));
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+
+package io.vertx.tests.validation.impl;
+
+import com.google.common.collect.ImmutableMap;
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import io.vertx.openapi.contract.OpenAPIContract;
+import io.vertx.openapi.validation.ResponseSamplingOptions;
+import io.vertx.openapi.validation.ValidatableResponse;
+import io.vertx.openapi.validation.ValidatorException;
+import io.vertx.openapi.validation.impl.ResponseSamplerImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.netty.handler.codec.http.HttpHeaderValues.APPLICATION_JSON;
+import static io.vertx.tests.ResourceHelper.TEST_RESOURCE_PATH;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+class ResponseSamplerImplTest {
+  private OpenAPIContract contract;
+  private ResponseSamplerImpl sampler;
+
+  private static HttpServerResponse mockServerResponse() {
+    HttpServerResponse responseMock = mock(HttpServerResponse.class);
+    when(responseMock.headers()).thenReturn(MultiMap.caseInsensitiveMultiMap());
+    when(responseMock.send(any(Buffer.class))).thenReturn(Future.succeededFuture());
+    return responseMock;
+  }
+
+  private static ValidatableResponse listPetsResponse(JsonObject pet) {
+    return ValidatableResponse.create(200, ImmutableMap.of("x-next", "foo"), new JsonArray().add(pet).toBuffer(),
+      APPLICATION_JSON.toString());
+  }
+
+  @BeforeEach
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  void initializeContract(Vertx vertx, VertxTestContext testContext) {
+    Path contractFile = TEST_RESOURCE_PATH.resolve("v3.1").resolve("petstore.json");
+    JsonObject contractJson = vertx.fileSystem().readFileBlocking(contractFile.toString()).toJsonObject();
+    OpenAPIContract.from(vertx, contractJson).onSuccess(c -> {
+      this.contract = c;
+      testContext.completeNow();
+    }).onFailure(testContext::failNow);
+  }
+
+  @AfterEach
+  void closeSampler() {
+    if (sampler != null) {
+      sampler.close();
+    }
+  }
+
+  @Test
+  void testIsSampled(Vertx vertx) {
+    ResponseSamplingOptions options =
+      new ResponseSamplingOptions().setSampleRate(0).addOperationSampleRate("listPets", 1);
+    sampler = new ResponseSamplerImpl(vertx, contract, options);
+    assertThat(sampler.isSampled("listPets", 200)).isTrue();
+    assertThat(sampler.isSampled("showPetById", 200)).isFalse();
+    assertThat(sampler.isSampled("showPetById", 500)).isTrue();
+
+    ResponseSamplerImpl noErrors = new ResponseSamplerImpl(vertx, contract, options.setAlwaysSampleErrors(false));
+    assertThat(noErrors.isSampled("showPetById", 500)).isFalse();
+    noErrors.close();
+  }
+
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  void testViolation(Vertx vertx, VertxTestContext testContext) {
+    ResponseSamplingOptions options = new ResponseSamplingOptions().setSampleRate(1).setValidationBudget(-1);
+    sampler = new ResponseSamplerImpl(vertx, contract, options);
+    ValidatableResponse valid = listPetsResponse(new JsonObject().put("id", 1337).put("name", "foo"));
+    ValidatableResponse invalid = listPetsResponse(new JsonObject().put("id", 1337).put("name", 2));
+
+    sampler.violationHandler(violation -> testContext.verify(() -> {
+      assertThat(violation.getOperationId()).isEqualTo("listPets");
+      assertThat(violation.getStatusCode()).isEqualTo(200);
+      assertThat(violation.getResponse()).isSameInstanceAs(invalid);
+      assertThat(violation.getFailure()).isInstanceOf(ValidatorException.class);
+      // the validations are executed in order, because the pool has a single thread
+      assertThat(sampler.getSampledResponses("listPets", 200)).isEqualTo(2);
+      assertThat(sampler.getViolations("listPets", 200)).isEqualTo(1);
+      assertThat(sampler.getSkippedValidations()).isEqualTo(0);
+      testContext.completeNow();
+    }));
+
+    HttpServerResponse responseMock = mockServerResponse();
+    Future<Void> sent = sampler.send(valid, responseMock, "listPets");
+    sampler.send(invalid, responseMock, "listPets");
+    // the responses are sent without waiting for their validation
+    assertThat(sent.succeeded()).isTrue();
+    verify(responseMock).send(valid.getBody().getBuffer());
+    verify(responseMock).send(invalid.getBody().getBuffer());
+  }
+
+  @Test
+  void testBudget(Vertx vertx) {
+    ResponseSamplingOptions options = new ResponseSamplingOptions().setSampleRate(1).setValidationBudget(0);
+    sampler = new ResponseSamplerImpl(vertx, contract, options);
+
+    sampler.send(listPetsResponse(new JsonObject().put("id", 1337).put("name", 2)), mockServerResponse(), "listPets");
+    assertThat(sampler.getSkippedValidations()).isEqualTo(1);
+    assertThat(sampler.getSampledResponses("listPets", 200)).isEqualTo(0);
+    assertThat(sampler.getTotalValidationTime()).isEqualTo(0);
+  }
+}
@@ -13,10 +13,15 @@
 package io.vertx.tests.validation.impl;
 
 import com.google.common.collect.ImmutableMap;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.ReadStream;
 import io.vertx.json.schema.JsonSchema;
 import io.vertx.json.schema.common.dsl.SchemaBuilder;
 import io.vertx.junit5.Checkpoint;
@@ -30,6 +35,9 @@ import io.vertx.openapi.contract.Parameter;
 import io.vertx.openapi.contract.Response;
 import io.vertx.openapi.validation.ResponseParameter;
 import io.vertx.openapi.validation.ValidatableResponse;
+import io.vertx.openapi.validation.ValidatedResponse;
+import io.vertx.openapi.validation.ValidationCheck;
+import io.vertx.openapi.validation.ValidationPlan;
 import io.vertx.openapi.validation.ValidatorException;
 import io.vertx.openapi.validation.impl.RequestParameterImpl;
 import io.vertx.openapi.validation.impl.ResponseValidatorImpl;
@@ -40,6 +48,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 
 import java.nio.file.Path;
 import java.util.Collections;
@@ -61,9 +70,11 @@ import static io.vertx.openapi.validation.ValidatorErrorType.UNSUPPORTED_VALUE_F
 import static io.vertx.tests.MockHelper.mockParameter;
 import static io.vertx.tests.ResourceHelper.TEST_RESOURCE_PATH;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -124,6 +135,93 @@ class ResponseValidatorImplTest {
       })));
   }
 
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  void testValidateWithWriteStream(VertxTestContext testContext) {
+    MultiMap responseHeaders = MultiMap.caseInsensitiveMultiMap();
+    HttpServerResponse responseMock = mock(HttpServerResponse.class);
+    when(responseMock.headers()).thenReturn(responseHeaders);
+    when(responseMock.write(any(Buffer.class))).thenReturn(Future.succeededFuture());
+    when(responseMock.end()).thenReturn(Future.succeededFuture());
+    ValidatableResponse validatableResponse =
+      ValidatableResponse.create(200, ImmutableMap.of("x-next", "foo"), null, APPLICATION_JSON.toString());
+
+    validator.validateWithWriteStream(validatableResponse, responseMock, "listPets")
+      .compose(bodyStream -> {
+        testContext.verify(() -> {
+          verify(responseMock).setStatusCode(200);
+          verify(responseMock).setChunked(true);
+          assertThat(responseHeaders.get("x-next")).isEqualTo("foo");
+          assertThat(responseHeaders.get("Content-Type")).isEqualTo(APPLICATION_JSON.toString());
+        });
+        return bodyStream.write(Buffer.buffer("[{\"id\": 1337, "))
+          .compose(v -> bodyStream.write(Buffer.buffer("\"name\": 2}]")));
+      })
+      .onComplete(testContext.failing(t -> testContext.verify(() -> {
+        // the chunk that makes the body invalid is not written, the response is reset instead
+        assertThat(t).hasMessageThat()
+          .isEqualTo("The value of the response body is invalid. Reason: Instance type integer is invalid at /0/name");
+        verify(responseMock).write(Buffer.buffer("[{\"id\": 1337, "));
+        verify(responseMock).reset();
+        testContext.completeNow();
+      })));
+  }
+
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  void testValidateWithWriteStreamReferencedSchema(VertxTestContext testContext) {
+    MediaType mockedMediaType = mock(MediaType.class);
+    JsonObject schema = new JsonObject().put("$ref", "#/components/schemas/Pets");
+    when(mockedMediaType.getSchema()).thenReturn(JsonSchema.of(schema));
+    when(mockedMediaType.getIdentifier()).thenReturn(APPLICATION_JSON.toString());
+    Response mockedResponse = mock(Response.class);
+    when(mockedResponse.getContent()).thenReturn(ImmutableMap.of(APPLICATION_JSON.toString(), mockedMediaType));
+    Operation mockedOperation = mock(Operation.class);
+    when(mockedOperation.getResponse(200)).thenReturn(mockedResponse);
+    when(contractSpy.operation("isMocked")).thenReturn(mockedOperation);
+
+    HttpServerResponse responseMock = mock(HttpServerResponse.class);
+    when(responseMock.headers()).thenReturn(MultiMap.caseInsensitiveMultiMap());
+    when(responseMock.write(any(Buffer.class))).thenReturn(Future.succeededFuture());
+    ValidatableResponse validatableResponse = ValidatableResponse.create(200, null, APPLICATION_JSON.toString());
+
+    validator.validateWithWriteStream(validatableResponse, responseMock, "isMocked")
+      .compose(bodyStream -> bodyStream.write(Buffer.buffer("[{\"id\": 1337, \"name\": 2}]"))
+        .compose(v -> bodyStream.write(Buffer.buffer("]"))))
+      .onComplete(testContext.failing(t -> testContext.verify(() -> {
+        // the referenced schema can't be checked while streaming, but the body must still be well-formed JSON
+        assertThat(t).isInstanceOf(ValidatorException.class);
+        verify(responseMock).write(Buffer.buffer("[{\"id\": 1337, \"name\": 2}]"));
+        verify(responseMock).reset();
+        testContext.completeNow();
+      })));
+  }
+
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  @SuppressWarnings("unchecked")
+  void testValidateWithBodyStreamReadsOtherMediaTypes(VertxTestContext testContext) {
+    JsonArray body = new JsonArray().add(new JsonObject().put("id", 1337).put("name", "foo"));
+    ValidatableResponse validatableResponse =
+      ValidatableResponse.create(200, ImmutableMap.of("x-next", "foo"), null, APPLICATION_JSON.toString());
+    ReadStream<Buffer> bodyStream = mock(ReadStream.class);
+
+    Future<ValidatedResponse> validated = validator.validateWithBodyStream(validatableResponse, bodyStream, "listPets");
+    ArgumentCaptor<Handler<Buffer>> chunkHandler = ArgumentCaptor.forClass(Handler.class);
+    ArgumentCaptor<Handler<Void>> endHandler = ArgumentCaptor.forClass(Handler.class);
+    verify(bodyStream).handler(chunkHandler.capture());
+    verify(bodyStream).endHandler(endHandler.capture());
+    chunkHandler.getValue().handle(body.toBuffer());
+    endHandler.getValue().handle(null);
+
+    validated.onComplete(testContext.succeeding(validatedResponse -> testContext.verify(() -> {
+      // JSON bodies are aggregated and validated as usual
+      assertThat(validatedResponse.getBodyStream()).isNull();
+      assertThat(validatedResponse.getBody().getJsonArray()).isEqualTo(body);
+      testContext.completeNow();
+    })));
+  }
+
   @Test
   @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
   void testGetResponseThrowResponseNotFound(VertxTestContext testContext) {
@@ -214,6 +312,56 @@ class ResponseValidatorImplTest {
     assertThat(validated.isNull()).isTrue();
   }
 
+  @Test
+  void testGetValidationPlan() {
+    ValidationPlan plan = validator.getValidationPlan("listPets", 200);
+    assertThat(plan.getOperationId()).isEqualTo("listPets");
+    assertThat(plan.getParameterChecks()).hasSize(1);
+    ValidationCheck next = plan.getParameterChecks().get(0);
+    assertThat(next.getName()).isEqualTo("x-next");
+    assertThat(next.getLocation()).isEqualTo(HEADER);
+    assertThat(plan.isBodyRequired()).isTrue();
+    assertThat(plan.getBodyChecks()).hasSize(1);
+    assertThat(plan.getBodyChecks().get(0).getName()).isEqualTo(APPLICATION_JSON.toString());
+    assertThat(plan.getBodyChecks().get(0).isSchemaValidated()).isTrue();
+    // plans are compiled only once per response
+    assertThat(validator.getValidationPlan("listPets", 200)).isSameInstanceAs(plan);
+
+    ValidationPlan defaultPlan = validator.getValidationPlan("listPets", 500);
+    assertThat(defaultPlan).isNotSameInstanceAs(plan);
+    assertThat(defaultPlan.getParameterChecks()).isEmpty();
+
+    ValidationPlan noContent = validator.getValidationPlan("createPets", 201);
+    assertThat(noContent.getBodyChecks()).isEmpty();
+    assertThat(noContent.isBodyRequired()).isFalse();
+  }
+
+  @Test
+  void testGetValidationPlanThrowResponseNotFound() {
+    Operation mockedOperation = mock(Operation.class);
+    when(contractSpy.operation("isMocked")).thenReturn(mockedOperation);
+
+    ValidatorException exception =
+      assertThrows(ValidatorException.class, () -> validator.getValidationPlan("isMocked", 1337));
+    assertThat(exception).hasMessageThat().isEqualTo("No response defined for status code 1337 in Operation isMocked");
+  }
+
+  @Test
+  void testValidateSync() {
+    JsonArray body = new JsonArray().add(new JsonObject().put("id", 1337).put("name", "foo"));
+    ValidatableResponse response =
+      ValidatableResponse.create(200, ImmutableMap.of("x-next", "foo"), body.toBuffer(), APPLICATION_JSON.toString());
+
+    ValidatedResponse validated = validator.validateSync(response, "listPets");
+    assertThat(validated.getBody().getJsonArray()).isEqualTo(body);
+    assertThat(validated.getHeaders().get("x-next").getString()).isEqualTo("foo");
+
+    ValidatableResponse invalid = ValidatableResponse.create(200, Buffer.buffer("3"), APPLICATION_JSON.toString());
+    ValidatorException exception =
+      assertThrows(ValidatorException.class, () -> validator.validateSync(invalid, "listPets"));
+    assertThat(exception.type()).isEqualTo(INVALID_VALUE);
+  }
+
   @Test
   void testValidateBodyNoContent() {
     Response mockedResponse = mock(Response.class);
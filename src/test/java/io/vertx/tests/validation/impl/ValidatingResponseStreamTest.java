@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.tests.validation.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.JsonObject;
+import io.vertx.json.schema.JsonSchema;
+import io.vertx.openapi.mediatype.impl.StreamingJsonAnalyser;
+import io.vertx.openapi.mediatype.impl.StreamingJsonSchema;
+import io.vertx.openapi.validation.SchemaValidationException;
+import io.vertx.openapi.validation.ValidatorException;
+import io.vertx.openapi.validation.impl.ValidatingResponseStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.vertx.json.schema.common.dsl.Schemas.intSchema;
+import static io.vertx.json.schema.common.dsl.Schemas.objectSchema;
+import static io.vertx.json.schema.common.dsl.Schemas.stringSchema;
+import static io.vertx.openapi.validation.ValidationContext.RESPONSE;
+import static io.vertx.openapi.validation.ValidatorErrorType.MISSING_REQUIRED_PARAMETER;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ValidatingResponseStreamTest {
+
+  private static final JsonObject PET_SCHEMA = objectSchema()
+    .requiredProperty("id", intSchema())
+    .requiredProperty("name", stringSchema())
+    .toJson();
+
+  private HttpServerResponse responseMock;
+  private final List<Throwable> failures = new ArrayList<>();
+
+  private static StreamingJsonAnalyser petAnalyser() {
+    return new StreamingJsonAnalyser(StreamingJsonSchema.compile(JsonSchema.of(PET_SCHEMA)), RESPONSE);
+  }
+
+  @BeforeEach
+  void setUp() {
+    responseMock = mock(HttpServerResponse.class);
+    when(responseMock.write(any(Buffer.class))).thenReturn(Future.succeededFuture());
+    when(responseMock.end()).thenReturn(Future.succeededFuture());
+  }
+
+  @Test
+  void testValidJson() {
+    ValidatingResponseStream stream = new ValidatingResponseStream(responseMock, petAnalyser(), 0, Long.MAX_VALUE,
+      true);
+    stream.exceptionHandler(failures::add);
+
+    assertThat(stream.write(Buffer.buffer("{\"id\": 1, \"na")).succeeded()).isTrue();
+    assertThat(stream.end(Buffer.buffer("me\": \"foo\"}")).succeeded()).isTrue();
+    verify(responseMock).write(Buffer.buffer("{\"id\": 1, \"na"));
+    verify(responseMock).write(Buffer.buffer("me\": \"foo\"}"));
+    verify(responseMock).end();
+    verify(responseMock, never()).reset();
+    assertThat(stream.getBytesWritten()).isEqualTo(24);
+    assertThat(failures).isEmpty();
+  }
+
+  @Test
+  void testInvalidJsonResetsResponse() {
+    ValidatingResponseStream stream = new ValidatingResponseStream(responseMock, petAnalyser(), 0, Long.MAX_VALUE,
+      true);
+    stream.exceptionHandler(failures::add);
+
+    assertThat(stream.write(Buffer.buffer("{\"id\": 1, ")).succeeded()).isTrue();
+    Future<Void> invalid = stream.write(Buffer.buffer("\"name\": 2}"));
+    assertThat(invalid.failed()).isTrue();
+    assertThat(invalid.cause()).isInstanceOf(SchemaValidationException.class);
+    assertThat(invalid.cause()).hasMessageThat()
+      .isEqualTo("The value of the response body is invalid. Reason: Instance type integer is invalid at /name");
+    assertThat(failures).containsExactly(invalid.cause());
+    verify(responseMock).reset();
+    verify(responseMock, never()).write(Buffer.buffer("\"name\": 2}"));
+
+    // all following operations fail
+    assertThat(stream.end().failed()).isTrue();
+    verify(responseMock, never()).end();
+  }
+
+  @Test
+  void testIncompleteJson() {
+    ValidatingResponseStream stream = new ValidatingResponseStream(responseMock, petAnalyser(), 0, Long.MAX_VALUE,
+      true);
+
+    assertThat(stream.write(Buffer.buffer("{\"id\": 1")).succeeded()).isTrue();
+    assertThat(stream.end().failed()).isTrue();
+    verify(responseMock).reset();
+    verify(responseMock, never()).end();
+  }
+
+  @Test
+  void testBinaryLength() {
+    ValidatingResponseStream stream = new ValidatingResponseStream(responseMock, null, 2, 4, true);
+
+    assertThat(stream.write(Buffer.buffer("abc")).succeeded()).isTrue();
+    Future<Void> tooLong = stream.write(Buffer.buffer("de"));
+    assertThat(tooLong.cause()).hasMessageThat()
+      .isEqualTo("The value of the response body is invalid. Reason: String is too long. Expected at most 4");
+    verify(responseMock).reset();
+
+    ValidatingResponseStream tooShort = new ValidatingResponseStream(responseMock, null, 2, 4, true);
+    tooShort.write(Buffer.buffer("a"));
+    assertThat(tooShort.end().cause()).hasMessageThat()
+      .isEqualTo("The value of the response body is invalid. Reason: String is too short. Expected at least 2");
+  }
+
+  @Test
+  void testRequired() {
+    ValidatingResponseStream stream = new ValidatingResponseStream(responseMock, null, 0, Long.MAX_VALUE, true);
+
+    Future<Void> ended = stream.end();
+    assertThat(((ValidatorException) ended.cause()).type()).isEqualTo(MISSING_REQUIRED_PARAMETER);
+    verify(responseMock).reset();
+  }
+}
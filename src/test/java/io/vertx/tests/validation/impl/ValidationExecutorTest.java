@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.tests.validation.impl;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import io.vertx.openapi.validation.ValidationPlan;
+import io.vertx.openapi.validation.ValidatorOptions;
+import io.vertx.openapi.validation.impl.RequestParameterImpl;
+import io.vertx.openapi.validation.impl.ValidationExecutor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+class ValidationExecutorTest {
+
+  private static ValidationPlan mockPlan(int estimatedCost) {
+    ValidationPlan plan = mock(ValidationPlan.class);
+    when(plan.getEstimatedCost()).thenReturn(estimatedCost);
+    return plan;
+  }
+
+  @Test
+  void testIsInlineable(Vertx vertx) {
+    ValidatorOptions options = new ValidatorOptions()
+      .setInlineValidation(true)
+      .setInlineMaxBodySize(4)
+      .setInlineMaxSchemaCost(10);
+    ValidationExecutor executor = new ValidationExecutor(vertx, options);
+
+    assertThat(executor.isInlineable(mockPlan(10), null)).isTrue();
+    assertThat(executor.isInlineable(mockPlan(11), null)).isFalse();
+    assertThat(executor.isInlineable(mockPlan(1), new RequestParameterImpl(null))).isTrue();
+    assertThat(executor.isInlineable(mockPlan(1), new RequestParameterImpl(Buffer.buffer("1234")))).isTrue();
+    assertThat(executor.isInlineable(mockPlan(1), new RequestParameterImpl(Buffer.buffer("12345")))).isFalse();
+
+    ValidationExecutor disabled = new ValidationExecutor(vertx, new ValidatorOptions());
+    assertThat(disabled.isInlineable(mockPlan(0), null)).isFalse();
+  }
+
+  @Test
+  void testExecuteInline(Vertx vertx) {
+    ValidatorOptions options = new ValidatorOptions().setInlineValidation(true);
+    ValidationExecutor executor = new ValidationExecutor(vertx, options);
+
+    Thread caller = Thread.currentThread();
+    Future<Thread> result = executor.execute(mockPlan(0), null, Thread::currentThread);
+    assertThat(result.succeeded()).isTrue();
+    assertThat(result.result()).isSameInstanceAs(caller);
+
+    Future<Object> failed = executor.execute(mockPlan(0), null, () -> {
+      throw new IllegalStateException("boom");
+    });
+    assertThat(failed.failed()).isTrue();
+    assertThat(failed.cause()).hasMessageThat().isEqualTo("boom");
+
+    assertThat(executor.getInlineValidations()).isEqualTo(2);
+    assertThat(executor.getWorkerValidations()).isEqualTo(0);
+  }
+
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  void testExecuteOnWorker(Vertx vertx, VertxTestContext testContext) {
+    ValidatorOptions options = new ValidatorOptions().setInlineValidation(true).setInlineMaxSchemaCost(5);
+    ValidationExecutor executor = new ValidationExecutor(vertx, options);
+
+    executor.execute(mockPlan(6), null, () -> Thread.currentThread().getName())
+      .onComplete(testContext.succeeding(threadName -> testContext.verify(() -> {
+        assertThat(threadName).startsWith("vert.x-worker-thread");
+        assertThat(executor.getInlineValidations()).isEqualTo(0);
+        assertThat(executor.getWorkerValidations()).isEqualTo(1);
+        testContext.completeNow();
+      })));
+  }
+
+  @Test
+  @Timeout(value = 5, timeUnit = TimeUnit.SECONDS)
+  void testExecuteUnorderedOnWorker(Vertx vertx, VertxTestContext testContext) {
+    ValidationExecutor executor = new ValidationExecutor(vertx, new ValidatorOptions());
+    CountDownLatch secondStarted = new CountDownLatch(1);
+    Checkpoint cp = testContext.checkpoint(2);
+
+    // Both validations are started from the same context. If they were ordered, the first validation would block the
+    // second one and never complete.
+    vertx.runOnContext(v -> {
+      executor.execute(mockPlan(0), null, () -> secondStarted.await(3, TimeUnit.SECONDS))
+        .onComplete(testContext.succeeding(awaited -> testContext.verify(() -> {
+          assertThat(awaited).isTrue();
+          cp.flag();
+        })));
+      executor.execute(mockPlan(0), null, () -> {
+        secondStarted.countDown();
+        return null;
+      }).onComplete(testContext.succeeding(result -> cp.flag()));
+    });
+  }
+
+  @Test
+  @Timeout(value = 5, timeUnit = TimeUnit.SECONDS)
+  void testExecuteInParallel(Vertx vertx, VertxTestContext testContext) {
+    int parallelism = 4;
+    ValidationExecutor executor = new ValidationExecutor(vertx, new ValidatorOptions());
+    CyclicBarrier barrier = new CyclicBarrier(parallelism);
+    Checkpoint cp = testContext.checkpoint(parallelism);
+
+    // All validations have to run at the same time to pass the barrier
+    vertx.runOnContext(v -> {
+      for (int i = 0; i < parallelism; i++) {
+        executor.execute(mockPlan(0), null, () -> barrier.await(3, TimeUnit.SECONDS))
+          .onComplete(testContext.succeeding(arrival -> cp.flag()));
+      }
+    });
+  }
+
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  void testExecuteOnDedicatedWorkerPool(Vertx vertx, VertxTestContext testContext) {
+    ValidatorOptions options = new ValidatorOptions().setWorkerPoolName("validation-pool").setWorkerPoolSize(1);
+    ValidationExecutor executor = new ValidationExecutor(vertx, options);
+
+    executor.execute(mockPlan(0), null, () -> {
+      assertThat(executor.getQueueDepth()).isEqualTo(0);
+      assertThat(executor.getActiveTasks()).isEqualTo(1);
+      Thread.sleep(10);
+      return Thread.currentThread().getName();
+    }).compose(threadName -> executor.close().map(threadName))
+      .onComplete(testContext.succeeding(threadName -> testContext.verify(() -> {
+        assertThat(threadName).startsWith("validation-pool");
+        assertThat(executor.getWorkerValidations()).isEqualTo(1);
+        assertThat(executor.getQueueDepth()).isEqualTo(0);
+        assertThat(executor.getActiveTasks()).isEqualTo(0);
+        assertThat(executor.getTotalWaitTime()).isAtLeast(0L);
+        assertThat(executor.getTotalExecutionTime()).isAtLeast(TimeUnit.MILLISECONDS.toNanos(10));
+        testContext.completeNow();
+      })));
+  }
+
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  void testExecuteOnVirtualThread(Vertx vertx, VertxTestContext testContext) {
+    assumeTrue(Runtime.version().feature() >= 21, "Virtual threads require Java 21");
+    ValidatorOptions options = new ValidatorOptions().setVirtualThreads(true);
+    ValidationExecutor executor = new ValidationExecutor(vertx, options);
+
+    vertx.runOnContext(v -> {
+      Context callerContext = vertx.getOrCreateContext();
+      executor.execute(mockPlan(0), null, () -> Thread.class.getMethod("isVirtual").invoke(Thread.currentThread()))
+        .onComplete(testContext.succeeding(isVirtual -> testContext.verify(() -> {
+          assertThat(isVirtual).isEqualTo(true);
+          // the result is passed back to the calling context
+          assertThat(Vertx.currentContext()).isSameInstanceAs(callerContext);
+          assertThat(executor.getWorkerValidations()).isEqualTo(1);
+          assertThat(executor.getActiveTasks()).isEqualTo(0);
+          executor.close().onComplete(testContext.succeedingThenComplete());
+        })));
+    });
+  }
+
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  void testExecuteInBatch(Vertx vertx, VertxTestContext testContext) {
+    ValidatorOptions options = new ValidatorOptions().setBatchMaxSize(3);
+    ValidationExecutor executor = new ValidationExecutor(vertx, options);
+    Checkpoint cp = testContext.checkpoint(2);
+
+    vertx.runOnContext(v -> {
+      Context callerContext = vertx.getOrCreateContext();
+      Future<String> first = executor.execute(mockPlan(0), null, () -> Thread.currentThread().getName());
+      Future<Object> second = executor.execute(mockPlan(0), null, () -> {
+        throw new IllegalStateException("boom");
+      });
+      // the batch is full and passed to a worker thread
+      Future<String> third = executor.execute(mockPlan(0), null, () -> Thread.currentThread().getName());
+
+      Future.all(first, third).onComplete(testContext.succeeding(results -> testContext.verify(() -> {
+        assertThat(Vertx.currentContext()).isSameInstanceAs(callerContext);
+        // all validations of a batch are executed in one task
+        assertThat(first.result()).startsWith("vert.x-worker-thread");
+        assertThat(third.result()).isEqualTo(first.result());
+        assertThat(executor.getWorkerValidations()).isEqualTo(3);
+        assertThat(executor.getBatches()).isEqualTo(1);
+        assertThat(executor.getBatchedValidations()).isEqualTo(3);
+        assertThat(executor.getTotalBatchDelay()).isAtLeast(0L);
+        cp.flag();
+      })));
+      // a failing validation doesn't affect the other validations of the batch
+      second.onComplete(testContext.failing(t -> testContext.verify(() -> {
+        assertThat(Vertx.currentContext()).isSameInstanceAs(callerContext);
+        assertThat(t).hasMessageThat().isEqualTo("boom");
+        cp.flag();
+      })));
+    });
+  }
+
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  void testExecuteBatchAfterDelay(Vertx vertx, VertxTestContext testContext) {
+    ValidatorOptions options = new ValidatorOptions().setBatchMaxSize(100).setBatchMaxDelay(20);
+    ValidationExecutor executor = new ValidationExecutor(vertx, options);
+
+    vertx.runOnContext(v -> {
+      Future<Object> first = executor.execute(mockPlan(0), null, () -> null);
+      Future<Object> second = executor.execute(mockPlan(0), null, () -> null);
+      Future.all(first, second).onComplete(testContext.succeeding(results -> testContext.verify(() -> {
+        assertThat(executor.getBatches()).isEqualTo(1);
+        assertThat(executor.getBatchedValidations()).isEqualTo(2);
+        // the first validation waited for the whole delay
+        assertThat(executor.getTotalBatchDelay()).isAtLeast(TimeUnit.MILLISECONDS.toNanos(20));
+        testContext.completeNow();
+      })));
+    });
+  }
+
+  @Test
+  void testIsBatchable(Vertx vertx) {
+    ValidatorOptions options = new ValidatorOptions().setBatchMaxSize(10).setBatchMaxSchemaCost(10)
+      .setBatchMaxBodySize(4);
+    ValidationExecutor executor = new ValidationExecutor(vertx, options);
+    assertThat(executor.isBatchable(mockPlan(10), null)).isTrue();
+    assertThat(executor.isBatchable(mockPlan(11), null)).isFalse();
+    assertThat(executor.isBatchable(mockPlan(1), new RequestParameterImpl(Buffer.buffer("1234")))).isTrue();
+    assertThat(executor.isBatchable(mockPlan(1), new RequestParameterImpl(Buffer.buffer("12345")))).isFalse();
+  }
+
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  void testExecuteLargeBodyWithoutBatch(Vertx vertx, VertxTestContext testContext) {
+    ValidatorOptions options = new ValidatorOptions().setBatchMaxSize(100).setBatchMaxDelay(1000)
+      .setBatchMaxBodySize(4);
+    ValidationExecutor executor = new ValidationExecutor(vertx, options);
+
+    vertx.runOnContext(v -> {
+      Future<Object> small = executor.execute(mockPlan(0), new RequestParameterImpl(Buffer.buffer("1234")), () -> null);
+      // the large body is validated right away, instead of waiting for the delay of the batch
+      executor.execute(mockPlan(0), new RequestParameterImpl(Buffer.buffer("12345")), () -> null)
+        .onComplete(testContext.succeeding(result -> testContext.verify(() -> {
+          assertThat(small.isComplete()).isFalse();
+          assertThat(executor.getWorkerValidations()).isEqualTo(2);
+          assertThat(executor.getBatches()).isEqualTo(0);
+          testContext.completeNow();
+        })));
+    });
+  }
+
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  void testExecuteWithoutBatchOutsideOfEventLoop(Vertx vertx, VertxTestContext testContext) {
+    ValidatorOptions options = new ValidatorOptions().setBatchMaxSize(10);
+    ValidationExecutor executor = new ValidationExecutor(vertx, options);
+
+    // the test itself is not executed on an event loop
+    executor.execute(mockPlan(0), null, () -> null)
+      .onComplete(testContext.succeeding(result -> testContext.verify(() -> {
+        assertThat(executor.getWorkerValidations()).isEqualTo(1);
+        assertThat(executor.getBatches()).isEqualTo(0);
+        testContext.completeNow();
+      })));
+  }
+
+  @Test
+  void testVirtualThreadsNotAvailable(Vertx vertx) {
+    assumeTrue(Runtime.version().feature() < 21, "Virtual threads are available");
+    ValidatorOptions options = new ValidatorOptions().setVirtualThreads(true);
+    assertThrows(IllegalStateException.class, () -> new ValidationExecutor(vertx, options));
+  }
+}